@@ -35,13 +35,18 @@
 
 package net.sf.nachocalendar;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Paths;
 
+import lombok.extern.slf4j.Slf4j;
 import net.sf.nachocalendar.components.CalendarPanel;
 import net.sf.nachocalendar.components.DateField;
 import net.sf.nachocalendar.components.DatePanel;
 import net.sf.nachocalendar.components.DefaultDayRenderer;
 import net.sf.nachocalendar.components.DefaultHeaderRenderer;
+import net.sf.nachocalendar.customizer.ConfigurationSource;
 import net.sf.nachocalendar.customizer.DirectSetter;
 import net.sf.nachocalendar.customizer.PropertiesCustomizer;
 import net.sf.nachocalendar.customizer.PropertiesSetter;
@@ -50,24 +55,34 @@ import net.sf.nachocalendar.customizer.XMLCustomizer;
 /** Factory with convenient methods to get components ready to use.
  * @author Ignacio Merani
  */
+@Slf4j
 public final class CalendarFactory {
     private static PropertiesSetter setter;
+    private static ConfigurationSource source;
 
     static {
-        InputStream is = ClassLoader.getSystemResourceAsStream("nachocalendar.properties");
-        if (is != null) {
-            try {
-                setter = new DirectSetter(new PropertiesCustomizer(is));
-            } catch (final Exception e) {
-                // do nothing
+        source = fileSource("nachocalendar.properties");
+        if (source == null) {
+            source = fileSource("nachocalendar.xml");
+        }
+        setter = source;
+
+        if (setter == null) {
+            final InputStream is = ClassLoader.getSystemResourceAsStream("nachocalendar.properties");
+            if (is != null) {
+                try (InputStream in = is) {
+                    setter = new DirectSetter(new PropertiesCustomizer(in));
+                } catch (final Exception e) {
+                    // do nothing
+                }
             }
         }
 
         if (setter == null) {
-            is = ClassLoader.getSystemResourceAsStream("nachocalendar.xml");
+            final InputStream is = ClassLoader.getSystemResourceAsStream("nachocalendar.xml");
             if (is != null) {
-                try {
-                    setter = new DirectSetter(new XMLCustomizer(is));
+                try (InputStream in = is) {
+                    setter = new DirectSetter(new XMLCustomizer(in));
                 } catch (final Exception e) {
                     // do nothing
                 }
@@ -75,6 +90,40 @@ public final class CalendarFactory {
         }
     }
 
+    /** Returns a reloadable source if the configuration is a plain file.
+     * @param name name of the resource
+     * @return the source or null
+     */
+    private static ConfigurationSource fileSource(final String name) {
+        final URL url = ClassLoader.getSystemResource(name);
+        if ((url == null) || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new ConfigurationSource(Paths.get(url.toURI()));
+        } catch (final Exception e) {
+            log.warn("Configuration {} not read", url, e);
+            return null;
+        }
+    }
+
+    /** Starts watching the configuration file. When it changes, the changed
+     * settings are applied to the components already created.
+     * @return true if the configuration is a file and it is watched
+     */
+    public static boolean watchConfiguration() {
+        if (source == null) {
+            return false;
+        }
+        try {
+            source.watch();
+            return true;
+        } catch (final IOException e) {
+            log.warn("Configuration {} not watched", source.getFile(), e);
+            return false;
+        }
+    }
+
     /** Default constructor, declared as private. */
     public CalendarFactory() {
     }
@@ -96,8 +145,8 @@ public final class CalendarFactory {
      * @param df DateField to set
      */
     private static void configureDateField(final DateField df) {
-        df.setRenderer(new DefaultDayRenderer());
-        df.setHeaderRenderer(new DefaultHeaderRenderer());
+        df.setRenderer(DefaultDayRenderer.getSharedInstance());
+        df.setHeaderRenderer(DefaultHeaderRenderer.getSharedInstance());
     }
 
     /** Creates a plain CalendarPanel.
@@ -146,16 +195,16 @@ public final class CalendarFactory {
      * @param cp CalendarPanel to set
      */
     private static void configureCalendarPanel(final CalendarPanel cp) {
-        cp.setRenderer(new DefaultDayRenderer());
-        cp.setHeaderRenderer(new DefaultHeaderRenderer());
+        cp.setRenderer(DefaultDayRenderer.getSharedInstance());
+        cp.setHeaderRenderer(DefaultHeaderRenderer.getSharedInstance());
     }
 
     /** Utility method used to configure a DatePanel.
      * @param dp DatePanel to set
      */
     private static void configureDatePanel(final DatePanel dp) {
-        dp.setHeaderRenderer(new DefaultHeaderRenderer());
-        dp.setRenderer(new DefaultDayRenderer());
+        dp.setHeaderRenderer(DefaultHeaderRenderer.getSharedInstance());
+        dp.setRenderer(DefaultDayRenderer.getSharedInstance());
     }
 
     /** Creates a plain DatePanel.
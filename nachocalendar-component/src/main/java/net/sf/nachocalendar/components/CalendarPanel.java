@@ -46,7 +46,11 @@
 package net.sf.nachocalendar.components;
 
 import java.awt.Adjustable;
+import java.awt.AlphaComposite;
 import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.GridLayout;
@@ -61,22 +65,26 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
+import java.awt.image.BufferedImage;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Locale;
 
 import javax.swing.BoundedRangeModel;
 import javax.swing.DefaultBoundedRangeModel;
 import javax.swing.JButton;
 import javax.swing.JPanel;
 import javax.swing.JScrollBar;
+import javax.swing.Timer;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
 import lombok.extern.slf4j.Slf4j;
 import net.sf.nachocalendar.event.DateSelectionEvent;
 import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
 import net.sf.nachocalendar.model.DataModel;
 import net.sf.nachocalendar.model.DateSelectionModel;
 import net.sf.nachocalendar.model.DefaultDateSelectionModel;
@@ -107,6 +115,47 @@ public class CalendarPanel extends JPanel implements ChangeListener {
     /** Array with the panels. */
     private MonthPanel[] months;
 
+    /** Panel holding the months, in the same order as the array. */
+    private MonthsPanel centro;
+
+    /** Absolute month (year * 12 + month) shown by the first panel. */
+    private int firstMonth = Integer.MIN_VALUE;
+
+    /** True while the year is changed by the scroll itself. */
+    private boolean yearShift;
+
+    /** Frames used to slide one month, about 130 ms at 60 Hz. */
+    private static final int ANIMATION_FRAMES = 8;
+
+    /** Frames used per month when more months are pending. */
+    private static final int FAST_ANIMATION_FRAMES = 3;
+
+    private boolean animatedScroll;
+    private Timer animationTimer;
+    private int animationTarget, animationDirection, animationFrame, animationFrames;
+
+    /**
+     * The months shown plus room for one more, slid while animating. It is
+     * kept between steps: the months already painted are shifted by one
+     * cell and only the exposed month is painted into the free one.
+     */
+    private BufferedImage strip;
+
+    /** Position of the months shown in the strip, 0 or one cell. */
+    private int stripOrigin;
+
+    /** True while the strip holds the months shown. */
+    private boolean stripValid;
+
+    /** True while a step is sliding, the strip is painted instead of the months. */
+    private boolean sliding;
+
+    /** Computes the next months in background, null when disabled. */
+    private MonthPrefetcher prefetcher;
+
+    /** True to create the cells of the months when they are first shown. */
+    private final boolean lazy;
+
     /** Orientation. */
     private int orientation;
 
@@ -154,7 +203,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
     private final boolean showWeekNumber;
 
     /** Utility field holding list of ChangeListeners. */
-    private transient java.util.ArrayList changeListenerList;
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
 
     /** Holds value of property yearPosition.  */
     private int yearPosition;
@@ -201,7 +250,22 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * @param quantity months to show at once
      * @param orientation the orientation
      */
-    public CalendarPanel(int quantity, final int orientation, final boolean showWeekNumber, final boolean eternalScroll) {
+    public CalendarPanel(final int quantity, final int orientation, final boolean showWeekNumber, final boolean eternalScroll) {
+        this(quantity, orientation, showWeekNumber, eternalScroll, false);
+    }
+
+    /**
+     * Creates a new instance of CalendarPanel, optionally lazy. A lazy
+     * panel creates the day and header cells of its months when it is first
+     * added to a displayable container instead of in the constructor.
+     * @param quantity months to show at once
+     * @param orientation the orientation
+     * @param showWeekNumber true to show the week numbers
+     * @param eternalScroll true to scroll past the end of the year
+     * @param lazy true to defer the creation of the cells
+     */
+    public CalendarPanel(int quantity, final int orientation, final boolean showWeekNumber, final boolean eternalScroll, final boolean lazy) {
+        this.lazy = lazy;
         if (quantity < 1) {
             quantity = 1;
         }
@@ -217,14 +281,19 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         ys = new YearScroller();
         middle = quantity / 2;
         this.eternalScroll = eternalScroll;
+        if (eternalScroll) {
+            prefetcher = new MonthPrefetcher();
+        }
         initScroll();
-        today = new JButton(CalendarUtils.getMessage("today"));
+        today = new JButton(LocaleNames.get(getLocale()).getCaption("today"));
         today.setVisible(false);
         cal = new GregorianCalendar();
         setLayout(new BorderLayout());
 
         createListeners();
         dateSelectionModel.addDateSelectionListener(listlistener);
+        dayrenderer = DefaultDayRenderer.getSharedInstance();
+        headerrenderer = DefaultHeaderRenderer.getSharedInstance();
         setQuantity(quantity);
 
         if (orientation == VERTICAL) {
@@ -235,9 +304,27 @@ public class CalendarPanel extends JPanel implements ChangeListener {
 
         initDisplayPanel();
         setValue(new Date());
-        setRenderer(new DefaultDayRenderer());
-        setHeaderRenderer(new DefaultHeaderRenderer());
+    }
 
+    /**
+     * Creates the cells of the months of a lazy panel before it is shown.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refreshSelection();
+        if ((prefetcher != null) && (firstMonth != Integer.MIN_VALUE)) {
+            prefetcher.configure(months[0].getFirstDayOfWeek(), months[0].getMinimalDaysInFirstWeek(), datamodel);
+            prefetcher.moved(firstMonth, months.length);
+        }
+    }
+
+    /**
+     * Returns true if the cells of the months are created when first shown.
+     * @return true if lazy
+     */
+    public boolean isLazy() {
+        return lazy;
     }
 
     /**
@@ -269,23 +356,47 @@ public class CalendarPanel extends JPanel implements ChangeListener {
 
             }
         };
-        model.setMaximum(12 + 5 - quantity);
+        model.setMaximum(getScrollMaximum());
         model.setMinimum(0);
         model.setExtent(5);
         model.setValue(0);
         scroll.setModel(model);
     }
 
+    /**
+     * With eternal scroll, the first month can be any month of the year, so
+     * crossing the year only moves one month and reuses the other panels.
+     * @return maximum of the scroll model
+     */
+    private int getScrollMaximum() {
+        return eternalScroll ? 11 + 5 : 12 + 5 - quantity;
+    }
+
     private void goNextYear() {
-        ys.setYear(ys.getYear() + 1);
-        setShowingYear(ys.getYear());
+        changeYearByScroll(ys.getYear() + 1);
         scroll.setValue(0);
+        setShowingMonth(scroll.getValue());
     }
 
     private void goPreviousYear() {
-        ys.setYear(ys.getYear() - 1);
-        setShowingYear(ys.getYear());
+        changeYearByScroll(ys.getYear() - 1);
         scroll.setValue(scroll.getMaximum() - scroll.getModel().getExtent());
+        setShowingMonth(scroll.getValue());
+    }
+
+    /**
+     * Changes the year without moving the panels, the following scroll
+     * change shifts them.
+     * @param year the new year
+     */
+    private void changeYearByScroll(final int year) {
+        yearShift = true;
+        try {
+            ys.setYear(year);
+        } finally {
+            yearShift = false;
+        }
+        showingyear = year;
     }
 
     /**
@@ -487,7 +598,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
             @Override
             public void valueChanged(final DateSelectionEvent e) {
                 for (int i = 0; i < months.length; i++) {
-                    final DayPanel[] daypanels = months[i].getDaypanels();
+                    final DayPanel[] daypanels = months[i].cells();
                     for (int j = 0; j < daypanels.length; j++) {
                         if (dateSelectionModel.isSelectedDate(daypanels[j].getDate())) {
                             daypanels[j].setSelected(true);
@@ -524,7 +635,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
     /** Method used to layout vertical. */
     private void layoutVertical() {
         scroll.setOrientation(Adjustable.VERTICAL);
-        final JPanel centro = new JPanel(new GridLayout(months.length, 1));
+        centro = new MonthsPanel(new GridLayout(months.length, 1));
         for (int i = 0; i < months.length; i++) {
             centro.add(months[i]);
         }
@@ -535,7 +646,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
     /** Method used to layout horizontal. */
     private void layoutHorizontal() {
         scroll.setOrientation(Adjustable.HORIZONTAL);
-        final JPanel centro = new JPanel(new GridLayout(1, months.length));
+        centro = new MonthsPanel(new GridLayout(1, months.length));
         for (int i = 0; i < months.length; i++) {
             centro.add(months[i]);
         }
@@ -547,13 +658,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * Registers ChangeListener to receive events.
      * @param listener The listener to register.
      */
-    public synchronized void addChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (listener == null) {
-            return;
-        }
-        if (changeListenerList == null) {
-            changeListenerList = new java.util.ArrayList();
-        }
+    public void addChangeListener(final ChangeListener listener) {
         changeListenerList.add(listener);
     }
 
@@ -561,10 +666,8 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * Removes ChangeListener from the list of listeners.
      * @param listener The listener to remove.
      */
-    public synchronized void removeChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList != null) {
-            changeListenerList.remove(listener);
-        }
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
     }
 
     /** 
@@ -573,16 +676,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * @param event The event to be fired
      */
     private void fireChangeListenerStateChanged(final javax.swing.event.ChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (changeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) changeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((javax.swing.event.ChangeListener) list.get(i)).stateChanged(event);
-        }
+        changeListenerList.fire(ChangeListener::stateChanged, event);
     }
 
     /** 
@@ -599,18 +693,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * @param month month to show
      */
     private void setShowingMonth(final int month) {
-        final Calendar cal = new GregorianCalendar(showingyear, month, 1);
-        for (int i = 0; i < months.length; i++) {
-            // cal.setTime(months[i].getMonth());
-            // cal.add(Calendar.MONTH, cal.get(Calendar.MONTH) - month + i);
-            months[i].setMonth(cal.getTime());
-            /*months[i].setSelectionOffset((month + i) * 42);
-            months[i].setSelectionOffset(cal.get(Calendar.MONTH));*/
-            cal.add(Calendar.MONTH, 1);
-        }
-        minDate = months[0].getMinDate();
-        maxDate = months[months.length - 1].getMaxDate();
-        refreshSelection();
+        showFirstMonth(showingyear * 12 + month);
     }
 
     /** 
@@ -618,12 +701,181 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * @param year the year to show
      */
     private void setShowingYear(final int year) {
+        if (yearShift) {
+            return;
+        }
         showingyear = year;
-        for (int i = 0; i < months.length; i++) {
-            cal.setTime(months[i].getMonth());
-            cal.set(Calendar.YEAR, year);
-            months[i].setMonth(cal.getTime());
+        showFirstMonth(year * 12 + scroll.getValue());
+    }
+
+    /**
+     * Shows the months starting at the provided one, sliding them when
+     * animated scroll is on.
+     * @param target absolute month (year * 12 + month) of the first panel
+     */
+    private void showFirstMonth(final int target) {
+        if (animatedScroll && (firstMonth != Integer.MIN_VALUE) && (centro != null) && centro.isShowing()) {
+            animationTarget = target;
+            if ((animationTimer == null) || !animationTimer.isRunning()) {
+                nextAnimationStep();
+            }
+            return;
+        }
+        moveFirstMonth(target);
+    }
+
+    /**
+     * Starts sliding one month towards the animation target. The months
+     * already shown are shifted inside the strip, so only the exposed month
+     * is computed and painted. Targets further than the panels jump at
+     * once.
+     */
+    private void nextAnimationStep() {
+        final long distance = (long) animationTarget - firstMonth;
+        if ((distance == 0) || (Math.abs(distance) >= months.length) || (centro.getWidth() == 0) || (centro.getHeight() == 0)) {
+            stopAnimation();
+            return;
+        }
+        if (animationTimer == null) {
+            animationTimer = new Timer(16, new ActionListener() {
+                @Override
+                public void actionPerformed(final ActionEvent e) {
+                    animationFrame++;
+                    if (animationFrame >= animationFrames) {
+                        animationTimer.stop();
+                        nextAnimationStep();
+                    }
+                    centro.repaint();
+                }
+            });
+        }
+        final int w = centro.getWidth();
+        final int h = centro.getHeight();
+        final boolean vertical = orientation == VERTICAL;
+        final int cell = (vertical ? h : w) / months.length;
+        final int stripWidth = vertical ? w : w + cell;
+        final int stripHeight = vertical ? h + cell : h;
+        if ((strip == null) || (strip.getWidth() != stripWidth) || (strip.getHeight() != stripHeight)) {
+            strip = new BufferedImage(stripWidth, stripHeight, BufferedImage.TYPE_INT_ARGB);
+            stripValid = false;
+        }
+        animationDirection = distance > 0 ? 1 : -1;
+
+        // the months shown go first when moving forward, last when going back
+        final int start = animationDirection > 0 ? 0 : cell;
+        final int end = cell - start;
+        final Graphics2D g = strip.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setColor(centro.isOpaque() ? centro.getBackground() : new Color(0, 0, 0, 0));
+        if (!stripValid) {
+            g.fillRect(0, 0, stripWidth, stripHeight);
+            g.setComposite(AlphaComposite.SrcOver);
+            final Graphics view = g.create(vertical ? 0 : start, vertical ? start : 0, w, h);
+            centro.paintMonths(view);
+            view.dispose();
+        } else if (stripOrigin != start) {
+            final int shift = start - stripOrigin;
+            if (vertical) {
+                g.copyArea(0, stripOrigin, w, h, 0, shift);
+            } else {
+                g.copyArea(stripOrigin, 0, w, h, shift, 0);
+            }
+        }
+        g.setComposite(AlphaComposite.Src);
+        moveFirstMonth(firstMonth + animationDirection);
+        centro.validate();
+
+        // paint the exposed month, and the margins of the grid, in the free room
+        final MonthPanel exposed = months[animationDirection > 0 ? months.length - 1 : 0];
+        final int low = vertical ? months[0].getY() : months[0].getX();
+        final int high = vertical ? months[months.length - 1].getY() + months[months.length - 1].getHeight()
+                : months[months.length - 1].getX() + months[months.length - 1].getWidth();
+        final int slot = end + (vertical ? exposed.getY() : exposed.getX());
+        final int size = vertical ? exposed.getHeight() : exposed.getWidth();
+        if (vertical) {
+            g.fillRect(0, slot, w, size);
+            g.fillRect(0, end, w, low);
+            g.fillRect(0, end + high, w, h - high);
+        } else {
+            g.fillRect(slot, 0, size, h);
+            g.fillRect(end, 0, low, h);
+            g.fillRect(end + high, 0, w - high, h);
+        }
+        g.setComposite(AlphaComposite.SrcOver);
+        final Graphics one = g.create(vertical ? exposed.getX() : slot, vertical ? slot : exposed.getY(), exposed.getWidth(), exposed.getHeight());
+        exposed.paint(one);
+        one.dispose();
+        g.dispose();
+        stripOrigin = end;
+        stripValid = true;
+        sliding = true;
+        animationFrame = 0;
+        animationFrames = Math.abs(distance) > 1 ? FAST_ANIMATION_FRAMES : ANIMATION_FRAMES;
+        animationTimer.start();
+    }
+
+    private void stopAnimation() {
+        if (animationTimer != null) {
+            animationTimer.stop();
+        }
+        // the months may change before the next animation, keep only the buffer
+        sliding = false;
+        stripValid = false;
+        if ((firstMonth != animationTarget) && (firstMonth != Integer.MIN_VALUE)) {
+            moveFirstMonth(animationTarget);
+        }
+        if (centro != null) {
+            centro.repaint();
+        }
+    }
+
+    /**
+     * Shows the months starting at the provided one. When the new range
+     * overlaps the current one, the panels are rotated like a ring and only
+     * the newly exposed months are computed.
+     * @param target absolute month (year * 12 + month) of the first panel
+     */
+    private void moveFirstMonth(final int target) {
+        final long shift = (long) target - firstMonth;
+        final int n = months.length;
+        if (shift != 0) {
+            int from = 0;
+            int to = n;
+            if (Math.abs(shift) < n) {
+                final int s = (int) shift;
+                final MonthPanel[] old = months.clone();
+                for (int i = 0; i < n; i++) {
+                    months[i] = old[(i + s + n) % n];
+                }
+                if (s > 0) {
+                    from = n - s;
+                } else {
+                    to = -s;
+                }
+                if (centro != null) {
+                    for (int i = 0; i < n; i++) {
+                        centro.setComponentZOrder(months[i], i);
+                    }
+                    centro.revalidate();
+                }
+            }
+            final Calendar cal = new GregorianCalendar(Math.floorDiv(target, 12), Math.floorMod(target, 12), 1);
+            cal.add(Calendar.MONTH, from);
+            for (int i = from; i < to; i++) {
+                final MonthGrid grid = prefetcher == null ? null : prefetcher.take(target + i);
+                if ((grid == null) || !months[i].applyGrid(grid)) {
+                    months[i].setMonth(cal.getTime());
+                }
+                cal.add(Calendar.MONTH, 1);
+            }
+            firstMonth = target;
+            if ((prefetcher != null) && isDisplayable()) {
+                prefetcher.configure(months[0].getFirstDayOfWeek(), months[0].getMinimalDaysInFirstWeek(), datamodel);
+                prefetcher.moved(target, n);
+            }
         }
+        minDate = months[0].getMinDate();
+        maxDate = months[n - 1].getMaxDate();
         refreshSelection();
     }
 
@@ -725,7 +977,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      * @param firstDayOfWeek New value of property firstDayOfWeek.
      */
     public void setFirstDayOfWeek(final int firstDayOfWeek) {
-        if ((firstDayOfWeek == Calendar.SUNDAY) || (firstDayOfWeek == Calendar.MONDAY)) {
+        if ((firstDayOfWeek >= Calendar.SUNDAY) && (firstDayOfWeek <= Calendar.SATURDAY)) {
             final int old = months[0].getFirstDayOfWeek();
             if (firstDayOfWeek == months[0].getFirstDayOfWeek()) {
                 return;
@@ -902,25 +1154,23 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         }
         final int old = this.quantity;
         months = new MonthPanel[quantity];
+        firstMonth = Integer.MIN_VALUE;
         for (int i = 0; i < months.length; i++) {
-            months[i] = new MonthPanel(showWeekNumber);
+            months[i] = new MonthPanel(showWeekNumber, lazy);
             months[i].showTitle(true);
             months[i].setModel(datamodel);
             months[i].setRenderer(dayrenderer);
             months[i].setHeaderRenderer(headerrenderer);
             months[i].setMinimalDaysInFirstWeek(minimalDaysInFirstWeek);
+            months[i].setLocale(getLocale());
             months[i].setDay(new Date());
-            final DayPanel[] daypanels = months[i].getDaypanels();
-            for (int j = 0; j < daypanels.length; j++) {
-                daypanels[j].addKeyListener(klistener);
-                daypanels[j].addMouseListener(mlistener);
-            }
+            months[i].addDayListeners(klistener, mlistener);
         }
         final int oldor = orientation;
         orientation = -1;
         setOrientation(oldor);
         this.quantity = quantity;
-        scroll.setMaximum(12 + 5 - quantity);
+        scroll.setMaximum(getScrollMaximum());
         if (old != 0) {
             firePropertyChange("quantity", old, quantity);
         }
@@ -1061,7 +1311,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
 
     private void refreshSelection() {
         for (int i = 0; i < months.length; i++) {
-            final DayPanel[] daypanels = months[i].getDaypanels();
+            final DayPanel[] daypanels = months[i].cells();
             for (int j = 0; j < daypanels.length; j++) {
                 if (!daypanels[j].isEnabled()) {
                     daypanels[j].setSelected(false);
@@ -1165,13 +1415,21 @@ public class CalendarPanel extends JPanel implements ChangeListener {
     }
 
     /**
+     * Sets a shared selection model. A DefaultDateSelectionModel only keeps a
+     * weak reference to this panel, so a long lived model does not leak it.
      * @param dateSelectionModel The dateSelectionModel to set.
      */
     public void setDateSelectionModel(final DateSelectionModel dateSelectionModel) {
         if (dateSelectionModel != null) {
+            final DateSelectionModel old = this.dateSelectionModel;
             this.dateSelectionModel.removeDateSelectionListener(listlistener);
             this.dateSelectionModel = dateSelectionModel;
-            dateSelectionModel.addDateSelectionListener(listlistener);
+            if (dateSelectionModel instanceof DefaultDateSelectionModel) {
+                ((DefaultDateSelectionModel) dateSelectionModel).addWeakDateSelectionListener(listlistener);
+            } else {
+                dateSelectionModel.addDateSelectionListener(listlistener);
+            }
+            firePropertyChange("dateSelectionModel", old, dateSelectionModel);
         }
     }
 
@@ -1222,9 +1480,28 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         }
     }
 
+    /**
+     * Sets the locale used for the month and day names and the today
+     * button, unless a custom caption was set.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        final String caption = LocaleNames.get(getLocale()).getCaption("today");
+        super.setLocale(l);
+        if (months != null) {
+            for (int i = 0; i < months.length; i++) {
+                months[i].setLocale(l);
+            }
+        }
+        if ((today != null) && caption.equals(today.getText())) {
+            setTodayCaption(null);
+        }
+    }
+
     public void setTodayCaption(final String caption) {
         if (caption == null) {
-            today.setText(CalendarUtils.getMessage("today"));
+            today.setText(LocaleNames.get(getLocale()).getCaption("today"));
         } else {
             today.setText(caption);
         }
@@ -1242,6 +1519,54 @@ public class CalendarPanel extends JPanel implements ChangeListener {
      */
     public void setEternalScroll(final boolean eternalScroll) {
         this.eternalScroll = eternalScroll;
+        scroll.setMaximum(getScrollMaximum());
+    }
+
+    /**
+     * @return true if the next months are computed in background
+     */
+    public boolean isPrefetch() {
+        return prefetcher != null;
+    }
+
+    /**
+     * Computes in background the months about to be shown, following the
+     * scroll direction and speed. It is enabled by default with eternal
+     * scroll. The data is only prefetched from models that can be read from
+     * any thread, such as SnapshotDataModel.
+     * @param prefetch true to enable
+     */
+    public void setPrefetch(final boolean prefetch) {
+        final boolean old = isPrefetch();
+        if (prefetch && (prefetcher == null)) {
+            prefetcher = new MonthPrefetcher();
+        } else if (!prefetch && (prefetcher != null)) {
+            prefetcher.clear();
+            prefetcher = null;
+        }
+        firePropertyChange("prefetch", old, prefetch);
+    }
+
+    /**
+     * @return Returns the animatedScroll.
+     */
+    public boolean isAnimatedScroll() {
+        return animatedScroll;
+    }
+
+    /**
+     * Sets the animated scroll. When on, scrolling slides the months at the
+     * display rate instead of jumping, and wheel moves arriving during the
+     * slide are joined into it.
+     * @param animatedScroll The animatedScroll to set.
+     */
+    public void setAnimatedScroll(final boolean animatedScroll) {
+        final boolean old = this.animatedScroll;
+        this.animatedScroll = animatedScroll;
+        if (!animatedScroll && sliding) {
+            stopAnimation();
+        }
+        firePropertyChange("animatedScroll", old, animatedScroll);
     }
 
     /**
@@ -1260,7 +1585,29 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         this.showToday = showToday;
     }
 
+    /**
+     * Returns the month panels currently showing.
+     * @return the month panels, empty after dispose
+     */
+    MonthPanel[] getMonthPanels() {
+        if (months == null) {
+            return new MonthPanel[0];
+        }
+        return months;
+    }
+
     public void dispose() {
+        if (prefetcher != null) {
+            prefetcher.clear();
+            prefetcher = null;
+        }
+        if (animationTimer != null) {
+            animationTimer.stop();
+            animationTimer = null;
+        }
+        sliding = false;
+        stripValid = false;
+        strip = null;
         scroll = null;
         today = null;
         if (ys != null) {
@@ -1269,7 +1616,7 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         }
         if (months != null) {
             for (int i = 0; i < months.length; i++) {
-                final DayPanel[] daypanels = months[i].getDaypanels();
+                final DayPanel[] daypanels = months[i].cells();
                 for (int j = 0; j < daypanels.length; j++) {
                     daypanels[j].removeKeyListener(klistener);
                     daypanels[j].removeMouseListener(mlistener);
@@ -1283,4 +1630,42 @@ public class CalendarPanel extends JPanel implements ChangeListener {
         }
     }
 
+    /**
+     * Panel holding the months. While animating it paints the sliding strip
+     * instead of its children, so a frame is a single image copy.
+     */
+    private class MonthsPanel extends JPanel {
+        private static final long serialVersionUID = 1L;
+
+        MonthsPanel(final GridLayout layout) {
+            super(layout);
+        }
+
+        /**
+         * Paints the months, never the strip.
+         * @param g graphics to paint on
+         */
+        void paintMonths(final Graphics g) {
+            super.paint(g);
+        }
+
+        @Override
+        public void paint(final Graphics g) {
+            final BufferedImage image = strip;
+            if (!sliding || (image == null)) {
+                super.paint(g);
+                return;
+            }
+            final int length = orientation == VERTICAL ? image.getHeight() - getHeight() : image.getWidth() - getWidth();
+            int offset = length * animationFrame / animationFrames;
+            if (animationDirection < 0) {
+                offset = length - offset;
+            }
+            if (orientation == VERTICAL) {
+                g.drawImage(image, 0, -offset, null);
+            } else {
+                g.drawImage(image, -offset, 0, null);
+            }
+        }
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DataChangeBridge.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.Component;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+
+/**
+ * Listener that moves DataChangeEvents from any thread to the event
+ * dispatch thread without flooding it. Events are stored in a bounded
+ * queue and flushed at most once per interval. On every flush the changed
+ * dates are merged, and each attached MonthPanel showing one of them is
+ * refreshed once.
+ * <p>
+ * Producers never block: when the queue is full the pending dates are
+ * dropped and every attached panel is refreshed on the next flush.
+ * <pre>
+ * DataChangeBridge bridge = new DataChangeBridge();
+ * bridge.attach(calendarPanel);
+ * model.addDataModelListener(bridge);
+ * </pre>
+ *
+ * @author Ignacio Merani
+ */
+public class DataChangeBridge implements DataModelListener {
+    /** Default flush interval, about one frame at 60 Hz. */
+    public static final int DEFAULT_INTERVAL = 16;
+
+    /** Default capacity of the queue. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final ArrayBlockingQueue<DataChangeEvent> queue;
+    private final CopyOnWriteArrayList<Component> targets = new CopyOnWriteArrayList<Component>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean overflow;
+    private volatile int interval;
+    private long lastflush;
+    private final Timer timer;
+    private final Runnable flusher = new Runnable() {
+        @Override
+        public void run() {
+            scheduledFlush();
+        }
+    };
+
+    /**
+     * Creates a bridge with the default interval and capacity.
+     */
+    public DataChangeBridge() {
+        this(DEFAULT_INTERVAL, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bridge.
+     * @param interval minimum milliseconds between two flushes
+     * @param capacity maximum number of queued events
+     */
+    public DataChangeBridge(final int interval, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        queue = new ArrayBlockingQueue<DataChangeEvent>(capacity);
+        timer = new Timer(0, new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                flush();
+            }
+        });
+        timer.setRepeats(false);
+        setInterval(interval);
+    }
+
+    /**
+     * Attaches a MonthPanel to be refreshed.
+     * @param panel the panel
+     */
+    public void attach(final MonthPanel panel) {
+        targets.addIfAbsent(panel);
+    }
+
+    /**
+     * Attaches every month of a CalendarPanel, including the months created
+     * after a change of quantity.
+     * @param panel the panel
+     */
+    public void attach(final CalendarPanel panel) {
+        targets.addIfAbsent(panel);
+    }
+
+    /**
+     * Attaches the month of a DatePanel.
+     * @param panel the panel
+     */
+    public void attach(final DatePanel panel) {
+        targets.addIfAbsent(panel);
+    }
+
+    /**
+     * Attaches the visible months of a VirtualCalendarPanel.
+     * @param panel the panel
+     */
+    public void attach(final VirtualCalendarPanel panel) {
+        targets.addIfAbsent(panel);
+    }
+
+    /**
+     * Attaches a YearHeatMap, only the changed cells are repainted.
+     * @param heatmap the heatmap
+     */
+    public void attach(final YearHeatMap heatmap) {
+        targets.addIfAbsent(heatmap);
+    }
+
+    /**
+     * Detaches a previously attached panel.
+     * @param panel the panel
+     */
+    public void detach(final Component panel) {
+        targets.remove(panel);
+    }
+
+    /**
+     * Getter for property interval.
+     * @return minimum milliseconds between two flushes
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Setter for property interval.
+     * @param interval minimum milliseconds between two flushes, 0 flushes
+     * as soon as the event dispatch thread is free
+     */
+    public void setInterval(final int interval) {
+        this.interval = Math.max(0, interval);
+    }
+
+    /**
+     * Sets the maximum number of flushes per second.
+     * @param rate flushes per second
+     */
+    public void setMaxFlushRate(final int rate) {
+        setInterval(rate <= 0 ? 0 : 1000 / rate);
+    }
+
+    /**
+     * Queues the event. Can be called from any thread.
+     * @param evt event fired
+     */
+    @Override
+    public void dataChanged(final DataChangeEvent evt) {
+        if (!queue.offer(evt)) {
+            overflow = true;
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(flusher);
+        }
+    }
+
+    private void scheduledFlush() {
+        final long wait = lastflush + interval - System.currentTimeMillis();
+        if (wait > 0) {
+            timer.setInitialDelay((int) wait);
+            timer.restart();
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Refreshes the panels showing the queued dates. Runs on the event
+     * dispatch thread.
+     */
+    void flush() {
+        scheduled.set(false);
+        lastflush = System.currentTimeMillis();
+        boolean all = overflow;
+        overflow = false;
+        int size = 0;
+        long[] days = new long[Math.max(16, queue.size())];
+        DataChangeEvent evt;
+        while ((evt = queue.poll()) != null) {
+            final Date date = evt.getDate();
+            if (date == null) {
+                all = true;
+                continue;
+            }
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+            }
+            days[size++] = CalendarUtils.toEpochDay(date);
+        }
+        if (!all && (size == 0)) {
+            return;
+        }
+        Arrays.sort(days, 0, size);
+        for (final Component target : targets) {
+            final MonthPanel[] panels;
+            if (target instanceof YearHeatMap) {
+                ((YearHeatMap) target).daysChanged(days, size, all);
+                continue;
+            } else if (target instanceof CalendarPanel) {
+                panels = ((CalendarPanel) target).getMonthPanels();
+            } else if (target instanceof DatePanel) {
+                panels = ((DatePanel) target).getMonthPanels();
+            } else if (target instanceof VirtualCalendarPanel) {
+                panels = ((VirtualCalendarPanel) target).getMonthPanels();
+            } else {
+                panels = new MonthPanel[] {(MonthPanel) target};
+            }
+            for (int i = 0; i < panels.length; i++) {
+                if ((panels[i] != null) && (all || isShowing(panels[i], days, size))) {
+                    panels[i].refresh();
+                }
+            }
+        }
+    }
+
+    private static boolean isShowing(final MonthPanel panel, final long[] days, final int size) {
+        final DayPanel[] daypanels = panel.cells();
+        if ((daypanels == null) || (daypanels.length == 0) || (daypanels[0].getDate() == null)) {
+            return false;
+        }
+        final long first = CalendarUtils.toEpochDay(daypanels[0].getDate());
+        final long last = CalendarUtils.toEpochDay(daypanels[daypanels.length - 1].getDate());
+        int index = Arrays.binarySearch(days, 0, size, first);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return (index < size) && (days[index] <= last);
+    }
+}
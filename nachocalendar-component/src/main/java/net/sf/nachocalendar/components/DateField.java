@@ -48,18 +48,10 @@
 package net.sf.nachocalendar.components;
 
 import java.awt.BorderLayout;
-import java.awt.Color;
 import java.awt.Component;
-import java.awt.Dialog;
-import java.awt.Frame;
 import java.awt.Point;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.awt.event.KeyAdapter;
-import java.awt.event.KeyEvent;
-import java.awt.event.KeyListener;
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.text.DateFormat;
@@ -67,23 +59,22 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.function.Consumer;
 
-import javax.swing.BorderFactory;
 import javax.swing.JButton;
-import javax.swing.JDialog;
 import javax.swing.JFormattedTextField;
 import javax.swing.JFormattedTextField.AbstractFormatter;
 import javax.swing.JFormattedTextField.AbstractFormatterFactory;
-import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.ListSelectionModel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.border.Border;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.text.DateFormatter;
 
 import lombok.extern.slf4j.Slf4j;
+import net.sf.nachocalendar.event.ListenerRegistry;
 import net.sf.nachocalendar.model.DataModel;
 
 /**
@@ -97,7 +88,11 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
 
     private WindowPanel windowpanel;
 
-    private DatePanel datepanel;
+    private HeaderRenderer headerRenderer = DefaultHeaderRenderer.getSharedInstance();
+
+    private boolean showToday;
+
+    private String todayCaption;
 
     private JFormattedTextField field;
 
@@ -126,14 +121,14 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
     private final AbstractFormatterFactory formatterFactory = new AbstractFormatterFactory() {
         @Override
         public AbstractFormatter getFormatter(final JFormattedTextField tf) {
-            return new DateFormatter(dateFormat);
+            return new DatePatternFormatter(dateFormat);
         }
     };
 
     /**
      * Utility field holding list of ChangeListeners.
      */
-    private transient java.util.ArrayList changeListenerList;
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
 
     /** Holds value of property showOkCancel. */
     private boolean showOkCancel;
@@ -207,14 +202,10 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
 
         // createDatePanel();
 
-        if (dateFormat != null) {
-            field = new JFormattedTextField(dateFormat);
-        } else {
-            if (formatter == null) {
-                formatter = new DateFormatter(DateFormat.getDateInstance(DateFormat.SHORT, levelLocale));
-            }
-            field = new JFormattedTextField(formatter);
+        if (formatter == null) {
+            formatter = new DatePatternFormatter(dateFormat != null ? dateFormat : DateFormat.getDateInstance(DateFormat.SHORT, levelLocale));
         }
+        field = new JFormattedTextField(formatter);
         add(field, BorderLayout.CENTER);
         button = new ArrowButton(SwingConstants.SOUTH);
         add(button, BorderLayout.EAST);
@@ -276,67 +267,35 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
          */// + BX
     }
 
-    private void createDatePanel() {
-        if (datepanel == null) {
-            datepanel = new DatePanel(showWeekNumbers);
-            datepanel.setFirstDayOfWeek(firstDayOfWeek);
-            datepanel.setWorkingDays(workingDays);
-            datepanel.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-            datepanel.setAntiAliased(antiAliased);
-            datepanel.setPrintMoon(printMoon);
-            if (model != null) {
-                datepanel.setModel(model);
-            }
-            if (renderer != null) {
-                datepanel.setRenderer(renderer);
+    /**
+     * Builds the popup of the window ahead, so the first click does not
+     * pay for it.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        SwingUtilities.invokeLater(() -> {
+            if (isDisplayable()) {
+                WindowPanel.get(this);
             }
-            setRenderer(new DefaultDayRenderer());
-            setHeaderRenderer(new DefaultHeaderRenderer());
-        }
+        });
     }
 
-    private synchronized void aceptar() {
-        if (windowpanel != null) {
-            windowpanel.setVisible(false);
-            field.setValue(windowpanel.getDate());
-            if (windowpanel != null) {
-                windowpanel.dispose();
-            }
-        }
-        windowpanel = null;
-        if (datepanel != null) {
-            datepanel.dispose();
-            datepanel = null;
+    /**
+     * Applies the settings again if the popup is showing for this field.
+     */
+    private void rebind() {
+        if ((windowpanel != null) && windowpanel.isOpenFor(this)) {
+            windowpanel.bind(this);
         }
     }
 
-    private synchronized void cancelar() {
-        if (windowpanel != null) {
-            windowpanel.setVisible(false);
-            if (windowpanel != null) {
-                windowpanel.dispose();
-            }
-        }
-        windowpanel = null;
-        if (datepanel != null) {
-            datepanel.dispose();
-            datepanel = null;
-        }
+    boolean getShowWeekNumbers() {
+        return showWeekNumbers;
     }
 
-    private void createWindow() {
-        Component c = this;
-        // Dialog d = null;
-        while (!(c instanceof Dialog) && c != null) {
-            c = c.getParent();
-        }
-        if (c != null) {
-            windowpanel = new WindowPanel((Dialog) c, showWeekNumbers);
-            return;
-        }
-
-        final Frame f = JOptionPane.getFrameForComponent(this);
-        windowpanel = new WindowPanel(f, showWeekNumbers);
+    Locale getLevelLocale() {
+        return levelLocale;
     }
 
     /**
@@ -347,10 +306,6 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      */
     @Override
     public void actionPerformed(final ActionEvent e) {
-        if (windowpanel == null) {
-            createWindow();
-        }
-
         Date da = (Date) field.getValue();
         if (da == null) {
             da = baseDate;
@@ -358,11 +313,39 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
         if (da == null) {
             da = calendar.getTime();
         }
-        windowpanel.setDate(da);
         final Point p = getLocationOnScreen();
         p.y += getHeight();
-        windowpanel.setLocation(p);
-        windowpanel.setVisible(true);
+        windowpanel = WindowPanel.get(this);
+        windowpanel.open(this, da, p);
+    }
+
+    /**
+     * Shows the calendar popup under another component, with the settings
+     * of this field. Used by editors that show their own text instead of
+     * the field: they share the popup of the DateFields of their window.
+     * The value of this field is not changed.
+     *
+     * @param invoker
+     *            component the popup is shown under
+     * @param date
+     *            the date to show
+     * @param picked
+     *            receives the day picked
+     */
+    public void showCalendar(final Component invoker, final Date date, final Consumer<? super Date> picked) {
+        final Point p = invoker.getLocationOnScreen();
+        p.y += invoker.getHeight();
+        windowpanel = WindowPanel.get(invoker, this);
+        windowpanel.open(this, date, p, picked);
+    }
+
+    /**
+     * Hides the calendar popup if it is showing for this field.
+     */
+    public void hideCalendar() {
+        if ((windowpanel != null) && windowpanel.isOpenFor(this)) {
+            windowpanel.cancelar();
+        }
     }
 
     /**
@@ -394,10 +377,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addChangeListener(final ChangeListener listener) {
-        if (changeListenerList == null) {
-            changeListenerList = new java.util.ArrayList();
-        }
+    public void addChangeListener(final ChangeListener listener) {
         changeListenerList.add(listener);
     }
 
@@ -407,10 +387,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeChangeListener(final ChangeListener listener) {
-        if (changeListenerList != null) {
-            changeListenerList.remove(listener);
-        }
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
     }
 
     /**
@@ -420,16 +398,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      *            The event to be fired
      */
     private void fireChangeListenerStateChanged(final ChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (changeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) changeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((javax.swing.event.ChangeListener) list.get(i)).stateChanged(event);
-        }
+        changeListenerList.fire(ChangeListener::stateChanged, event);
     }
 
     /**
@@ -449,9 +418,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @return Value of property renderer.
      */
     public DayRenderer getRenderer() {
-        // createDatePanel();
         return renderer;
-        // return datepanel.getRenderer();
     }
 
     /**
@@ -461,11 +428,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      *            New value of property renderer.
      */
     public void setRenderer(final DayRenderer renderer) {
-        // createDatePanel();
         this.renderer = renderer;
-        if (datepanel != null) {
-            datepanel.setRenderer(renderer);
-        }
+        rebind();
     }
 
     /**
@@ -474,8 +438,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @return Value of property model.
      */
     public DataModel getModel() {
-        // createDatePanel();
-        return model;// datepanel.getModel();
+        return model;
     }
 
     /**
@@ -486,9 +449,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      */
     public void setModel(final DataModel model) {
         this.model = model;
-        if (datepanel != null) {
-            datepanel.setModel(model);
-        }
+        rebind();
     }
 
     /**
@@ -497,8 +458,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @return Value of property headerRenderer.
      */
     public HeaderRenderer getHeaderRenderer() {
-        createDatePanel();
-        return datepanel.getHeaderRenderer();
+        return headerRenderer;
     }
 
     /**
@@ -508,8 +468,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      *            New value of property headerRenderer.
      */
     public void setHeaderRenderer(final HeaderRenderer headerRenderer) {
-        createDatePanel();
-        datepanel.setHeaderRenderer(headerRenderer);
+        this.headerRenderer = headerRenderer != null ? headerRenderer : DefaultHeaderRenderer.getSharedInstance();
+        rebind();
     }
 
     /**
@@ -571,6 +531,18 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
         return this.firstDayOfWeek;
     }
 
+    /**
+     * Sets the locale used by the popup calendar. The formatter of the
+     * field is not changed.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        super.setLocale(l);
+        levelLocale = getLocale();
+        rebind();
+    }
+
     /**
      * Setter for property firstDayOfWeek.
      *
@@ -579,10 +551,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      */
     public void setFirstDayOfWeek(final int firstDayOfWeek) {
         final int old = this.firstDayOfWeek;
-        if (datepanel != null) {
-            datepanel.setFirstDayOfWeek(firstDayOfWeek);
-        }
         this.firstDayOfWeek = firstDayOfWeek;
+        rebind();
         firePropertyChange("firstDayOfWeek", old, firstDayOfWeek);
     }
 
@@ -603,10 +573,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      */
     public void setWorkingDays(final boolean[] workingDays) {
         final boolean[] old = this.workingDays;
-        if (datepanel != null) {
-            datepanel.setWorkingDays(workingDays);
-        }
         this.workingDays = workingDays;
+        rebind();
         firePropertyChange("workingDays", old, workingDays);
     }
 
@@ -642,129 +610,6 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
         return field;
     }
 
-    class WindowPanel extends JDialog {
-        /**
-         *
-         */
-        private static final long serialVersionUID = 1L;
-
-        public WindowPanel(final Frame parent, final boolean showWeekNumbers) {
-            super(parent, false);
-            init(showWeekNumbers);
-        }
-
-        public WindowPanel(final Dialog parent, final boolean showWeekNumbers) {
-            super(parent, false);
-            init(showWeekNumbers);
-        }
-
-        private void init(final boolean showWeekNumbers) {
-            setUndecorated(true);
-            setFocusable(true);
-            final JPanel todo = new JPanel(new BorderLayout());
-            getContentPane().add(todo);
-            createDatePanel();
-            todo.add(datepanel);
-            todo.setBorder(BorderFactory.createLineBorder(Color.black));
-
-            if (showOkCancel) {
-                final JPanel abajo = new JPanel();
-                todo.add(abajo, BorderLayout.SOUTH);
-                final JButton ok = new JButton("Ok");
-                final JButton cancel = new JButton("Cancel");
-                abajo.add(ok);
-                abajo.add(cancel);
-                getRootPane().setDefaultButton(ok);
-                ok.addActionListener(new ActionListener() {
-                    @Override
-                    public void actionPerformed(final ActionEvent e) {
-                        aceptar();
-                    }
-                });
-                cancel.addActionListener(new ActionListener() {
-                    @Override
-                    public void actionPerformed(final ActionEvent e) {
-                        cancelar();
-                    }
-                });
-            } else {
-                /*
-                 * datepanel.addChangeListener(new ChangeListener() { public
-                 * void stateChanged(ChangeEvent e) { aceptar(); } });
-                 */
-                createDatePanel();
-                datepanel.addActionListener(new ActionListener() {
-                    @Override
-                    public void actionPerformed(final ActionEvent e) {
-                        aceptar();
-                    }
-                });
-            }
-
-            final KeyListener klistener = new KeyAdapter() {
-                @Override
-                public void keyTyped(final KeyEvent e) {
-                    if (e.getKeyChar() == 10) {
-                        aceptar();
-                    }
-                    if (e.getKeyChar() == 27) {
-                        cancelar();
-                    }
-                }
-
-                @Override
-                public void keyPressed(final KeyEvent e) {
-                    final int keycode = e.getKeyCode();
-                    int move = 0;
-                    int type = Calendar.DAY_OF_YEAR;
-                    if (keycode == KeyEvent.VK_LEFT || keycode == 226) {
-                        move = -1;
-                    } else if (keycode == KeyEvent.VK_RIGHT) {
-                        move = +1;
-                    } else if (keycode == KeyEvent.VK_UP) {
-                        move = -7;
-                    } else if (keycode == KeyEvent.VK_DOWN) {
-                        move = +7;
-                    } else if (keycode == KeyEvent.VK_PAGE_DOWN) {
-                        move = +1;
-                        type = Calendar.MONTH;
-                    } else if (keycode == KeyEvent.VK_PAGE_UP) {
-                        move = -1;
-                        type = Calendar.MONTH;
-                    }
-                    if (move != 0) {
-                        final Calendar navigation = Calendar.getInstance();
-                        navigation.setTime(datepanel.getDate());
-                        navigation.add(type, move);
-                        datepanel.setDate(navigation.getTime());
-                    }
-                }
-            };
-
-            datepanel.addKeyListener(klistener);
-            addKeyListener(klistener);
-
-            addWindowListener(new WindowAdapter() {
-                @Override
-                public void windowDeactivated(final WindowEvent e) {
-                    cancelar();
-                }
-            });
-
-            pack();
-        }
-
-        public Date getDate() {
-            createDatePanel();
-            return datepanel.getDate();
-        }
-
-        public void setDate(final Date d) {
-            createDatePanel();
-            datepanel.setDate(d);
-        }
-    }
-
     /**
      * @return Returns the antiAliased.
      */
@@ -779,9 +624,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
     public void setAntiAliased(final boolean antiAliased) {
         final boolean old = this.antiAliased;
         this.antiAliased = antiAliased;
-        if (datepanel != null) {
-            datepanel.setAntiAliased(antiAliased);
-        }
+        rebind();
         firePropertyChange("antiAliased", old, antiAliased);
     }
 
@@ -797,11 +640,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      *            The printMoon to set.
      */
     public void setPrintMoon(final boolean printMoon) {
-        if (datepanel != null) {
-            datepanel.setPrintMoon(printMoon);
-        }
-        repaint();
         this.printMoon = printMoon;
+        rebind();
     }
 
     /**
@@ -810,10 +650,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @param show
      */
     public void setShowToday(final boolean show) {
-        if (datepanel != null) {
-            datepanel.setShowToday(show);
-        }
-        repaint();
+        this.showToday = show;
+        rebind();
     }
 
     /**
@@ -822,8 +660,7 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @return
      */
     public boolean getShowToday() {
-        createDatePanel();
-        return datepanel.getShowToday();
+        return showToday;
     }
 
     /**
@@ -832,8 +669,8 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @param caption
      */
     public void setTodayCaption(final String caption) {
-        createDatePanel();
-        datepanel.setTodayCaption(caption);
+        this.todayCaption = caption;
+        rebind();
     }
 
     /**
@@ -842,8 +679,10 @@ public class DateField extends JPanel implements ActionListener, PropertyChangeL
      * @return
      */
     public String getTodayCaption() {
-        createDatePanel();
-        return datepanel.getTodayCaption();
+        if (todayCaption == null) {
+            return LocaleNames.get(levelLocale).getCaption("today");
+        }
+        return todayCaption;
     }
 
     /**
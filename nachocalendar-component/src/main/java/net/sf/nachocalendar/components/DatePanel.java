@@ -61,6 +61,7 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Locale;
 
 import javax.swing.JButton;
 import javax.swing.JPanel;
@@ -70,6 +71,7 @@ import javax.swing.event.ChangeListener;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.nachocalendar.event.DateSelectionEvent;
 import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
 import net.sf.nachocalendar.event.MonthChangeEvent;
 import net.sf.nachocalendar.event.YearChangeEvent;
 import net.sf.nachocalendar.event.YearChangeListener;
@@ -96,6 +98,7 @@ public class DatePanel extends JPanel {
     private boolean antiAliased;
     private DateSelectionModel dateSelectionModel;
     private MouseListener mlistener;
+    private DateSelectionListener selectionListener;
     private KeyListener klistener;
     private boolean printMoon;
     private JButton today;
@@ -103,7 +106,7 @@ public class DatePanel extends JPanel {
     /**
      * Utility field holding list of ChangeListeners.
      */
-    private transient java.util.ArrayList changeListenerList;
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
 
     /**
      * Holds value of property workingDays.
@@ -113,7 +116,7 @@ public class DatePanel extends JPanel {
     /**
      * Utility field holding list of ActionListeners.
      */
-    private transient java.util.ArrayList actionListenerList;
+    private final ListenerRegistry<ActionListener> actionListenerList = new ListenerRegistry<ActionListener>();
 
     /**
      * Default constructor. It creates a DatePanel with default values
@@ -163,8 +166,8 @@ public class DatePanel extends JPanel {
     }
 
     private void init() {
-        setRenderer(new DefaultDayRenderer());
-        setHeaderRenderer(new DefaultHeaderRenderer());
+        setRenderer(DefaultDayRenderer.getSharedInstance());
+        setHeaderRenderer(DefaultHeaderRenderer.getSharedInstance());
         workingDays = new boolean[7];
         dateSelectionModel = new DefaultDateSelectionModel();
         monthscroller = new MonthScroller();
@@ -174,7 +177,7 @@ public class DatePanel extends JPanel {
         add(monthpanel);
         setDate(calendar.getTime());
         setFocusable(true);
-        today = new JButton(CalendarUtils.getMessage("today"));
+        today = new JButton(LocaleNames.get(getLocale()).getCaption("today"));
         today.setVisible(false);
         final JPanel arriba = new JPanel(new GridLayout(1, 2));
         setLayout(new BorderLayout());
@@ -243,7 +246,7 @@ public class DatePanel extends JPanel {
             }
         });
 
-        dateSelectionModel.addDateSelectionListener(new DateSelectionListener() {
+        selectionListener = new DateSelectionListener() {
 
             @Override
             public void valueChanged(final DateSelectionEvent e) {
@@ -251,7 +254,8 @@ public class DatePanel extends JPanel {
                 fireChangeListenerStateChanged(new ChangeEvent(DatePanel.this));
             }
 
-        });
+        };
+        dateSelectionModel.addDateSelectionListener(selectionListener);
 
         mlistener = new MouseAdapter() {
             @Override
@@ -466,10 +470,7 @@ public class DatePanel extends JPanel {
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList == null) {
-            changeListenerList = new java.util.ArrayList();
-        }
+    public void addChangeListener(final ChangeListener listener) {
         changeListenerList.add(listener);
     }
 
@@ -479,10 +480,8 @@ public class DatePanel extends JPanel {
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList != null) {
-            changeListenerList.remove(listener);
-        }
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
     }
 
     /**
@@ -492,16 +491,7 @@ public class DatePanel extends JPanel {
      *            The event to be fired
      */
     private void fireChangeListenerStateChanged(final javax.swing.event.ChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (changeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) changeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((javax.swing.event.ChangeListener) list.get(i)).stateChanged(event);
-        }
+        changeListenerList.fire(ChangeListener::stateChanged, event);
     }
 
     /**
@@ -539,7 +529,7 @@ public class DatePanel extends JPanel {
      *            New value of property firstDayOfWeek.
      */
     public void setFirstDayOfWeek(final int firstDayOfWeek) {
-        if ((firstDayOfWeek == Calendar.MONDAY) || (firstDayOfWeek == Calendar.SUNDAY)) {
+        if ((firstDayOfWeek >= Calendar.SUNDAY) && (firstDayOfWeek <= Calendar.SATURDAY)) {
             if (monthpanel.getFirstDayOfWeek() == firstDayOfWeek) {
                 return;
             }
@@ -781,10 +771,7 @@ public class DatePanel extends JPanel {
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addActionListener(final java.awt.event.ActionListener listener) {
-        if (actionListenerList == null) {
-            actionListenerList = new java.util.ArrayList();
-        }
+    public void addActionListener(final ActionListener listener) {
         actionListenerList.add(listener);
     }
 
@@ -794,10 +781,8 @@ public class DatePanel extends JPanel {
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeActionListener(final java.awt.event.ActionListener listener) {
-        if (actionListenerList != null) {
-            actionListenerList.remove(listener);
-        }
+    public void removeActionListener(final ActionListener listener) {
+        actionListenerList.remove(listener);
     }
 
     /**
@@ -807,16 +792,7 @@ public class DatePanel extends JPanel {
      *            The event to be fired
      */
     private void fireActionListenerActionPerformed(final java.awt.event.ActionEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (actionListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) actionListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((java.awt.event.ActionListener) list.get(i)).actionPerformed(event);
-        }
+        actionListenerList.fire(ActionListener::actionPerformed, event);
     }
 
     /**
@@ -902,11 +878,20 @@ public class DatePanel extends JPanel {
     }
 
     /**
+     * Sets a shared selection model. A DefaultDateSelectionModel only keeps a
+     * weak reference to this panel, so a long lived model does not leak it.
      * @param dateSelectionModel The dateSelectionModel to set.
      */
     public void setDateSelectionModel(final DateSelectionModel dateSelectionModel) {
         if (dateSelectionModel != null) {
+            this.dateSelectionModel.removeDateSelectionListener(selectionListener);
             this.dateSelectionModel = dateSelectionModel;
+            if (dateSelectionModel instanceof DefaultDateSelectionModel) {
+                ((DefaultDateSelectionModel) dateSelectionModel).addWeakDateSelectionListener(selectionListener);
+            } else {
+                dateSelectionModel.addDateSelectionListener(selectionListener);
+            }
+            refreshSelection();
         }
     }
 
@@ -961,13 +946,33 @@ public class DatePanel extends JPanel {
         return today.isVisible();
     }
 
+    /**
+     * Sets the locale used for the month and day names and the today
+     * button, unless a custom caption was set.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        final String caption = LocaleNames.get(getLocale()).getCaption("today");
+        super.setLocale(l);
+        if (monthpanel != null) {
+            monthpanel.setLocale(l);
+        }
+        if (monthscroller != null) {
+            monthscroller.setLocale(l);
+        }
+        if ((today != null) && caption.equals(today.getText())) {
+            setTodayCaption(null);
+        }
+    }
+
     /**
      * Sets the today button text.
      * @param caption
      */
     public void setTodayCaption(final String caption) {
         if (caption == null) {
-            today.setText(CalendarUtils.getMessage("today"));
+            today.setText(LocaleNames.get(getLocale()).getCaption("today"));
         } else {
             today.setText(caption);
         }
@@ -981,4 +986,15 @@ public class DatePanel extends JPanel {
         return today.getText();
     }
 
+    /**
+     * Returns the month panel as a one element array.
+     * @return the month panels, empty after dispose
+     */
+    MonthPanel[] getMonthPanels() {
+        if (monthpanel == null) {
+            return new MonthPanel[0];
+        }
+        return new MonthPanel[] {monthpanel};
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DatePatternFormatter.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+
+import javax.swing.text.DateFormatter;
+
+/**
+ * DateFormatter that converts through a compiled {@link DatePattern} when
+ * the format allows it, and through the DateFormat otherwise: texts the
+ * pattern does not accept, formats that can not be compiled, or when a
+ * minimum, maximum or value class is set.
+ *
+ * @author Ignacio Merani
+ */
+public class DatePatternFormatter extends DateFormatter {
+    private static final long serialVersionUID = 1L;
+
+    private final transient DatePattern pattern;
+    private final transient StringBuilder buffer = new StringBuilder(24);
+
+    /**
+     * Constructor with the format to use.
+     * @param format the format
+     */
+    public DatePatternFormatter(final DateFormat format) {
+        super(format);
+        pattern = format.getTimeZone().hasSameRules(TimeZone.getDefault()) ? DatePattern.of(format) : null;
+    }
+
+    private boolean isPlain() {
+        return (pattern != null) && (getValueClass() == null) && (getMinimum() == null) && (getMaximum() == null);
+    }
+
+    /**
+     * @see javax.swing.text.InternationalFormatter#stringToValue(java.lang.String)
+     */
+    @Override
+    public Object stringToValue(final String text) throws ParseException {
+        if ((text != null) && isPlain()) {
+            final long day = pattern.parse(text);
+            if (day != DatePattern.NO_DATE) {
+                return CalendarUtils.fromEpochDay(day);
+            }
+        }
+        return super.stringToValue(text);
+    }
+
+    /**
+     * @see javax.swing.text.InternationalFormatter#valueToString(java.lang.Object)
+     */
+    @Override
+    public String valueToString(final Object value) throws ParseException {
+        if ((value instanceof Date) && isPlain()) {
+            buffer.setLength(0);
+            if (pattern.format(CalendarUtils.toEpochDay((Date) value), buffer)) {
+                return buffer.toString();
+            }
+        }
+        return super.valueToString(value);
+    }
+}
@@ -49,6 +49,7 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.time.LocalDate;
 import java.util.Date;
 
 import javax.swing.JComponent;
@@ -63,6 +64,8 @@ public class DayPanel extends JComponent {
      */
     private static final long serialVersionUID = 1L;
     private Date date;
+    private long epochDay;
+    private LocalDate localDate;
     //    private Color cselected, cunselected;
     private Object data;
     javax.swing.JTable d;
@@ -132,11 +135,10 @@ public class DayPanel extends JComponent {
         setBorder(null);
         setOpaque(false);
         setLayout(new BorderLayout());
-        date = new Date();
+        setDate(new Date());
         //        cunselected = UIManager.getLookAndFeel().getDefaults().getColor("text");
         //        cselected = UIManager.getLookAndFeel().getDefaults().getColor("textHighlight");
         setFocusable(true);
-        moonCalculator = new MoonCalculation();
     }
 
     /**
@@ -144,10 +146,42 @@ public class DayPanel extends JComponent {
      * @param d new date
      */
     public void setDate(final Date d) {
+        setDate(d, d == null ? 0 : CalendarUtils.toEpochDay(d));
+    }
+
+    /**
+     * Sets the displaying date when its epoch day is already known.
+     * @param d new date
+     * @param day local epoch day of d
+     */
+    void setDate(final Date d, final long day) {
         date = d;
+        if ((localDate != null) && (day != epochDay)) {
+            localDate = null;
+        }
+        epochDay = day;
         repaint();
     }
 
+    /**
+     * Returns the local epoch day of the displaying date.
+     * @return days since 1970-01-01
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the displaying day as an immutable LocalDate.
+     * @return the LocalDate
+     */
+    public LocalDate getLocalDate() {
+        if (localDate == null) {
+            localDate = CalendarUtils.toLocalDate(epochDay);
+        }
+        return localDate;
+    }
+
     /**
      * Return the displaying date.
      * @return the Date
@@ -226,7 +260,13 @@ public class DayPanel extends JComponent {
      * @param g  the <code>Graphics</code> context in which to paint
      */
     public void paint(final Graphics g) {
-        final Component comp = renderer.getDayRenderer(this, date, data, isSelected(), working, (isEnabled() && (isComponentEnabled())));
+        final boolean paintEnabled = isEnabled() && isComponentEnabled();
+        final Component comp;
+        if (renderer instanceof LocalDayRenderer) {
+            comp = ((LocalDayRenderer) renderer).getDayRenderer(this, getLocalDate(), data, isSelected(), working, paintEnabled);
+        } else {
+            comp = renderer.getDayRenderer(this, date, data, isSelected(), working, paintEnabled);
+        }
         comp.setBounds(getBounds());
         final Graphics2D g2 = (Graphics2D) g;
         if (isAntiAliased()) {
@@ -237,13 +277,16 @@ public class DayPanel extends JComponent {
 
         comp.paint(g);
         if (isEnabled()) {
-            if (CalendarUtils.isToday(date)) {
+            if (epochDay == CalendarUtils.today()) {
                 g.setColor(Color.red);
                 g.drawOval(1, 1, getWidth() - 2, getHeight() - 2);
             }
 
             //MoonPainting within minimal size
             if (printMoon && getWidth() > moonSize && getHeight() > moonSize) {
+                if (moonCalculator == null) {
+                    moonCalculator = new MoonCalculation();
+                }
                 /*g = */moonCalculator.drawMoon(g, date, getWidth() - moonSize - 1, 0, moonSize);
             }
         }
@@ -0,0 +1,117 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DayRenderers.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.Component;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * Adapters between {@link DayRenderer} and {@link LocalDayRenderer}.
+ * @author Ignacio Merani
+ */
+public final class DayRenderers {
+
+    private DayRenderers() {
+    }
+
+    /**
+     * Returns a DayRenderer painting with a LocalDayRenderer. DayPanels call
+     * the LocalDate method of the result directly.
+     * @param renderer the renderer
+     * @return the renderer itself if it already is a DayRenderer
+     */
+    public static DayRenderer asDayRenderer(final LocalDayRenderer renderer) {
+        if (renderer instanceof DayRenderer) {
+            return (DayRenderer) renderer;
+        }
+        return new Adapter(renderer, null);
+    }
+
+    /**
+     * Returns a LocalDayRenderer painting with a DayRenderer.
+     * @param renderer the renderer
+     * @return the renderer itself if it already is a LocalDayRenderer
+     */
+    public static LocalDayRenderer asLocalDayRenderer(final DayRenderer renderer) {
+        if (renderer instanceof LocalDayRenderer) {
+            return (LocalDayRenderer) renderer;
+        }
+        return new Adapter(null, renderer);
+    }
+
+    /** Implements both interfaces over the one it was given. */
+    private static final class Adapter implements DayRenderer, LocalDayRenderer {
+        private final LocalDayRenderer local;
+        private final DayRenderer dated;
+
+        Adapter(final LocalDayRenderer local, final DayRenderer dated) {
+            this.local = local;
+            this.dated = dated;
+        }
+
+        /* (non-Javadoc)
+         * @see net.sf.nachocalendar.components.DayRenderer#getDayRenderer(net.sf.nachocalendar.components.DayPanel, java.util.Date, java.lang.Object, boolean, boolean, boolean)
+         */
+        @Override
+        public Component getDayRenderer(final DayPanel daypanel, final Date day, final Object data, final boolean selected, final boolean working,
+                final boolean enabled) {
+            if (dated != null) {
+                return dated.getDayRenderer(daypanel, day, data, selected, working, enabled);
+            }
+            final LocalDate value;
+            if ((daypanel != null) && (daypanel.getDate() == day)) {
+                value = daypanel.getLocalDate();
+            } else {
+                value = CalendarUtils.toLocalDate(day);
+            }
+            return local.getDayRenderer(daypanel, value, data, selected, working, enabled);
+        }
+
+        /* (non-Javadoc)
+         * @see net.sf.nachocalendar.components.LocalDayRenderer#getDayRenderer(net.sf.nachocalendar.components.DayPanel, java.time.LocalDate, java.lang.Object, boolean, boolean, boolean)
+         */
+        @Override
+        public Component getDayRenderer(final DayPanel daypanel, final LocalDate day, final Object data, final boolean selected,
+                final boolean working, final boolean enabled) {
+            if (local != null) {
+                return local.getDayRenderer(daypanel, day, data, selected, working, enabled);
+            }
+            final Date value;
+            if ((daypanel != null) && (daypanel.getEpochDay() == day.toEpochDay())) {
+                value = daypanel.getDate();
+            } else {
+                value = CalendarUtils.fromEpochDay(day.toEpochDay());
+            }
+            return dated.getDayRenderer(daypanel, value, data, selected, working, enabled);
+        }
+    }
+}
@@ -39,11 +39,13 @@ package net.sf.nachocalendar.components;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.Calendar;
 import java.util.Date;
 
 import javax.swing.JLabel;
-import javax.swing.JList;
+import javax.swing.UIManager;
 
 /**
  * Default implementation of the DayRenderer interface.
@@ -54,23 +56,90 @@ public class DefaultDayRenderer extends JLabel implements DayRenderer {
      *
      */
     private static final long serialVersionUID = 1L;
+    private static final String[] DAYS = new String[32];
     private final Calendar cal;
-    private final Color selectedbg, unselectedbg, selectedfg, unselectedfg, notworking;
+    private final Color unselectedbg, notworking;
+    private Color selectedbg, selectedfg, unselectedfg;
 
     /** Creates a new instance of DefaultDayRenderer. */
     public DefaultDayRenderer() {
         cal = Calendar.getInstance();
-
-        // Fake solution: by now steal colors from a JList
-        final JList jl = new JList();
         unselectedbg = Color.white;
-        unselectedfg = jl.getForeground();
-        selectedbg = jl.getSelectionBackground();
-        selectedfg = jl.getSelectionForeground();
+        notworking = new Color(240, 240, 255);
+        readColors();
         setVerticalAlignment(CENTER);
         setHorizontalAlignment(CENTER);
         setOpaque(true);
-        notworking = new Color(240, 240, 255);
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JLabel#updateUI()
+     */
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        // called by the JLabel constructor, before the fields are set
+        if (cal != null) {
+            readColors();
+        }
+    }
+
+    /**
+     * Reads the colors of a JList from the current look and feel, without
+     * creating one.
+     */
+    private void readColors() {
+        unselectedfg = color("List.foreground", Color.black);
+        selectedbg = color("List.selectionBackground", new Color(184, 207, 229));
+        selectedfg = color("List.selectionForeground", Color.black);
+    }
+
+    /**
+     * Returns the instance shared by the components that use the default
+     * renderer. Renderers are only used on the event dispatch thread, so
+     * one is enough for every cell.
+     * @return the shared renderer
+     */
+    public static DefaultDayRenderer getSharedInstance() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the text of a day of month, the texts are shared.
+     * @param day the day of month
+     * @return the text
+     */
+    static String dayText(final int day) {
+        String retorno = DAYS[day];
+        if (retorno == null) {
+            retorno = Integer.toString(day);
+            DAYS[day] = retorno;
+        }
+        return retorno;
+    }
+
+    private static Color color(final String key, final Color fallback) {
+        final Color retorno = UIManager.getColor(key);
+        return retorno == null ? fallback : retorno;
+    }
+
+    /**
+     * Holder of the shared instance, created on first use. The instance is
+     * not in any component tree, so it follows look and feel changes itself.
+     */
+    private static final class Shared {
+        static final DefaultDayRenderer INSTANCE = new DefaultDayRenderer();
+
+        static {
+            UIManager.addPropertyChangeListener(new PropertyChangeListener() {
+                @Override
+                public void propertyChange(final PropertyChangeEvent evt) {
+                    if ("lookAndFeel".equals(evt.getPropertyName())) {
+                        INSTANCE.updateUI();
+                    }
+                }
+            });
+        }
     }
 
     /**
@@ -109,8 +178,12 @@ public class DefaultDayRenderer extends JLabel implements DayRenderer {
                 setForeground(Color.GRAY);
             }
         }
-        cal.setTime(day);
-        setText(Integer.toString(cal.get(Calendar.DAY_OF_MONTH)));
+        if ((daypanel != null) && (daypanel.getDate() == day)) {
+            setText(dayText(MonthLayout.dayOfMonth(daypanel.getEpochDay())));
+        } else {
+            cal.setTime(day);
+            setText(dayText(cal.get(Calendar.DAY_OF_MONTH)));
+        }
 
         if (!enabled) {
             setForeground(Color.lightGray);
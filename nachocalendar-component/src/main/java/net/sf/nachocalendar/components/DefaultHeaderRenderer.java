@@ -65,6 +65,20 @@ public class DefaultHeaderRenderer extends JLabel implements HeaderRenderer {
         setHorizontalAlignment(SwingConstants.CENTER);
     }
 
+    /**
+     * Returns the instance shared by the components that use the default
+     * renderer.
+     * @return the shared renderer
+     */
+    public static DefaultHeaderRenderer getSharedInstance() {
+        return Shared.INSTANCE;
+    }
+
+    /** Holder of the shared instance, created on first use. */
+    private static final class Shared {
+        static final DefaultHeaderRenderer INSTANCE = new DefaultHeaderRenderer();
+    }
+
     /**
      * Returns the component used to render the header.
      * @return Component to be used
@@ -0,0 +1,186 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * HeatDayRenderer.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.util.Date;
+
+import javax.swing.JLabel;
+
+import net.sf.nachocalendar.model.NumericDataModel;
+
+/**
+ * Renderer painting the value of each day of a {@link NumericDataModel}
+ * as a background color, between a low and a high color scaled on the
+ * minimum and maximum of the model. Values are read as primitives by epoch
+ * day and the colors are computed once, so painting allocates nothing.
+ * @author Ignacio Merani
+ */
+public class HeatDayRenderer extends JLabel implements DayRenderer {
+    /**
+     *
+     */
+    private static final long serialVersionUID = 1L;
+
+    /** Colors between low and high. */
+    private static final int LEVELS = 64;
+
+    private NumericDataModel model;
+    private Color low, high;
+    private final Color[] levels = new Color[LEVELS];
+    private final Color selectedbg, selectedfg, unselectedfg;
+
+    /**
+     * Creates a new instance of HeatDayRenderer.
+     * @param model model with the values
+     */
+    public HeatDayRenderer(final NumericDataModel model) {
+        this(model, Color.white, new Color(230, 80, 20));
+    }
+
+    /**
+     * Creates a new instance of HeatDayRenderer.
+     * @param model model with the values
+     * @param low color of the minimum
+     * @param high color of the maximum
+     */
+    public HeatDayRenderer(final NumericDataModel model, final Color low, final Color high) {
+        this.model = model;
+        selectedbg = new Color(184, 207, 229);
+        selectedfg = Color.black;
+        unselectedfg = Color.black;
+        setVerticalAlignment(CENTER);
+        setHorizontalAlignment(CENTER);
+        setOpaque(true);
+        setColors(low, high);
+    }
+
+    /**
+     * Sets the colors of the scale.
+     * @param low color of the minimum
+     * @param high color of the maximum
+     */
+    public void setColors(final Color low, final Color high) {
+        this.low = low;
+        this.high = high;
+        for (int i = 0; i < LEVELS; i++) {
+            levels[i] = mix(low, high, i / (float) (LEVELS - 1));
+        }
+    }
+
+    /**
+     * Returns the color of a fraction of the scale.
+     * @param low color at 0
+     * @param high color at 1
+     * @param f the fraction
+     * @return the color
+     */
+    static Color mix(final Color low, final Color high, final float f) {
+        return new Color(Math.round(low.getRed() + (high.getRed() - low.getRed()) * f),
+                Math.round(low.getGreen() + (high.getGreen() - low.getGreen()) * f), Math.round(low.getBlue() + (high.getBlue() - low.getBlue()) * f));
+    }
+
+    /**
+     * Getter for property low.
+     * @return Value of property low.
+     */
+    public Color getLow() {
+        return low;
+    }
+
+    /**
+     * Getter for property high.
+     * @return Value of property high.
+     */
+    public Color getHigh() {
+        return high;
+    }
+
+    /**
+     * Getter for property model.
+     * @return Value of property model.
+     */
+    public NumericDataModel getModel() {
+        return model;
+    }
+
+    /**
+     * Setter for property model.
+     * @param model New value of property model.
+     */
+    public void setModel(final NumericDataModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns the color of a value.
+     * @param value the value
+     * @param min minimum of the scale
+     * @param max maximum of the scale
+     * @return the color
+     */
+    Color colorOf(final double value, final double min, final double max) {
+        if (!(max > min)) {
+            return levels[LEVELS - 1];
+        }
+        final int level = (int) ((value - min) / (max - min) * (LEVELS - 1) + 0.5);
+        return levels[Math.max(0, Math.min(LEVELS - 1, level))];
+    }
+
+    /**
+     * Returns a component configured to render the Day.
+     * @return component to be used
+     * @param daypanel Daypanel to be renderer
+     * @param day current day
+     * @param data current data
+     * @param selected true if it's selected
+     * @param working true if it's a working day
+     * @param enabled true if it's enabled
+     */
+    @Override
+    public Component getDayRenderer(final DayPanel daypanel, final Date day, final Object data, final boolean selected, final boolean working,
+            final boolean enabled) {
+        final long epochDay = (daypanel != null) && (daypanel.getDate() == day) ? daypanel.getEpochDay() : CalendarUtils.toEpochDay(day);
+        setText(enabled ? DefaultDayRenderer.dayText(MonthLayout.dayOfMonth(epochDay)) : "");
+        if (selected) {
+            setBackground(selectedbg);
+            setForeground(selectedfg);
+        } else if (enabled && (model != null) && model.hasValue(epochDay)) {
+            setBackground(colorOf(model.getValue(epochDay), model.getMinimumValue(), model.getMaximumValue()));
+            setForeground(unselectedfg);
+        } else {
+            setBackground(levels[0]);
+            setForeground(working ? unselectedfg : Color.GRAY);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * MonthGrid.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import net.sf.nachocalendar.model.DataModel;
+import net.sf.nachocalendar.model.DataSnapshot;
+import net.sf.nachocalendar.model.DayDataModel;
+import net.sf.nachocalendar.model.SnapshotDataModel;
+
+/**
+ * The 42 days, week numbers and optionally the data shown by a MonthPanel
+ * for one month. It does not touch any component, so it can be computed
+ * on any thread and applied later with {@link MonthPanel#applyGrid}.
+ *
+ * @author Ignacio Merani
+ */
+final class MonthGrid {
+    static final int CELLS = MonthLayout.CELLS;
+    static final int WEEKS = MonthLayout.WEEKS;
+
+    /** First day of the month. */
+    final Date first;
+    final int firstDayOfWeek, minimalDaysInFirstWeek;
+    final Date[] dates = new Date[CELLS];
+    final long[] days = new long[CELLS];
+    final boolean[] inMonth = new boolean[CELLS];
+    final String[] weeks = new String[WEEKS];
+
+    /** Model used for the data, and its version. */
+    final DataModel model;
+    final Object version;
+
+    /** Data of each cell, null if it was not prefetched. */
+    final Object[] data;
+
+    private MonthGrid(final Date first, final int firstDayOfWeek, final int minimalDaysInFirstWeek, final DataModel model, final Object version) {
+        this.first = first;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.minimalDaysInFirstWeek = minimalDaysInFirstWeek;
+        this.model = model;
+        this.version = version;
+        this.data = version == null ? null : new Object[CELLS];
+    }
+
+    /**
+     * Computes the grid of a month, the same way MonthPanel does.
+     * @param year the year
+     * @param month the month
+     * @param firstDayOfWeek first day of the week
+     * @param minimalDaysInFirstWeek minimal days, 0 for the default
+     * @param model model to read the data from, only read when it can be
+     * used from any thread
+     * @return the grid
+     */
+    static MonthGrid compute(final int year, final int month, final int firstDayOfWeek, final int minimalDaysInFirstWeek, final DataModel model) {
+        final int minimal = minimalDaysInFirstWeek != 0 ? minimalDaysInFirstWeek : new GregorianCalendar().getMinimalDaysInFirstWeek();
+        final int[] numbers = new int[WEEKS];
+        final Object version = versionOf(model);
+        final MonthGrid retorno = new MonthGrid(CalendarUtils.fromEpochDay(MonthLayout.epochDay(year, month, 1)), firstDayOfWeek,
+                minimalDaysInFirstWeek, model, version);
+        final long[] days = retorno.days;
+        MonthLayout.layout(year, month, firstDayOfWeek, minimal, days, retorno.inMonth, numbers);
+        for (int i = 0; i < CELLS; i++) {
+            retorno.dates[i] = CalendarUtils.fromEpochDay(days[i]);
+            if (version != null) {
+                retorno.data[i] = model instanceof DayDataModel ? ((DayDataModel) model).getData(days[i]) : model.getData(retorno.dates[i]);
+            }
+        }
+        for (int i = 0; i < WEEKS; i++) {
+            retorno.weeks[i] = Integer.toString(numbers[i]);
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns an object identifying the content of the model, or null if
+     * the model can not be read outside the event dispatch thread.
+     * @param model the model
+     * @return the version or null
+     */
+    static Object versionOf(final DataModel model) {
+        if (model instanceof SnapshotDataModel) {
+            return ((SnapshotDataModel) model).getSnapshot();
+        }
+        if (model instanceof DataSnapshot) {
+            return model;
+        }
+        return null;
+    }
+}
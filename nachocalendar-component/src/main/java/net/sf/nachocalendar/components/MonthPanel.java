@@ -47,13 +47,15 @@ package net.sf.nachocalendar.components;
 
 import java.awt.BorderLayout;
 import java.awt.GridLayout;
-import java.text.DateFormatSymbols;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseListener;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Iterator;
+import java.util.Locale;
 
 import javax.swing.JComponent;
 import javax.swing.JLabel;
@@ -63,6 +65,7 @@ import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
 import net.sf.nachocalendar.model.DataModel;
+import net.sf.nachocalendar.model.DayDataModel;
 
 /**
  * Class for displaying a month. It allows to select a day, can be combined
@@ -82,25 +85,30 @@ public class MonthPanel extends JComponent {
     final int firstday;
     private int showingmonth, showingyear;
     private final Calendar calendar, check, navigation;
-    private String[] months, days;
+    private LocaleNames names;
     private HeaderPanel[] weeks;
     private Date date;
     private Collection changelisteners;
     private boolean[] workingdays;
     private DayRenderer renderer;
-    private final HeaderPanel[] headers;
+    private HeaderPanel[] headers;
     private final boolean showWeekNumber;
     private boolean showtitle;
     private JPanel centro;
     private JLabel title;
-    private static final int[] MONDAYFIRST = { 0, 2, 3, 4, 5, 6, 7, 1 };
-    private static final int[] SUNDAYFIRST = { 0, 1, 2, 3, 4, 5, 6, 7 };
-    private static final int[] RESTAMONDAY = { 0, 7, 1, 2, 3, 4, 5, 6 };
     private int minimalDaysInFirstWeek;
-    private int[] dayorder;
+    private final int[] dayorder = new int[COLS + 1];
+    private final long[] gridDays = new long[MonthLayout.CELLS];
+    private final boolean[] gridInMonth = new boolean[MonthLayout.CELLS];
+    private final int[] gridWeeks = new int[MonthLayout.WEEKS];
     private DayPanel[] daypanels;
     private boolean antiAliased;
     private boolean printMoon;
+    private boolean componentEnabled = true;
+    private boolean cellsCreated;
+    private KeyListener dayKeyListener;
+    private MouseListener dayMouseListener;
+    private static final DayPanel[] NOCELLS = new DayPanel[0];
 
     /**
      * Default value for working days.
@@ -112,6 +120,9 @@ public class MonthPanel extends JComponent {
      */
     private DataModel model;
 
+    /** The model when it can be read by epoch day, else null. */
+    private DayDataModel dayModel;
+
     /**
      * Holds value of property headerRenderer.
      */
@@ -131,8 +142,19 @@ public class MonthPanel extends JComponent {
      * @param showWeekNumber true for showing week numbers
      */
     public MonthPanel(final boolean showWeekNumber) {
+        this(showWeekNumber, false);
+    }
+
+    /**
+     * Constructor with lazy initialization. A lazy MonthPanel creates its
+     * day and header cells when it is first added to a displayable
+     * container, so building panels that are never shown is cheap.
+     * @param showWeekNumber true for showing week numbers
+     * @param lazy true to defer the creation of the cells
+     */
+    public MonthPanel(final boolean showWeekNumber, final boolean lazy) {
         this.showWeekNumber = showWeekNumber;
-        daypanels = new DayPanel[42];
+        daypanels = NOCELLS;
         calendar = new GregorianCalendar();
         calendar.set(Calendar.HOUR, 0);
         calendar.set(Calendar.MINUTE, 0);
@@ -149,11 +171,7 @@ public class MonthPanel extends JComponent {
         firstday = calendar.getFirstDayOfWeek();
         setFocusable(true);
 
-        if (firstday == Calendar.MONDAY) {
-            dayorder = MONDAYFIRST;
-        } else {
-            dayorder = SUNDAYFIRST;
-        }
+        setDayOrder(firstday);
 
         centro = new JPanel(new BorderLayout());
         setLayout(new BorderLayout());
@@ -164,7 +182,7 @@ public class MonthPanel extends JComponent {
         } else {
             tcols = COLS;
         }
-        headers = new HeaderPanel[tcols];
+        headers = new HeaderPanel[0];
         centro.setLayout(new GridLayout(ROWS + 1, tcols));
 
         title = new JLabel();
@@ -173,22 +191,33 @@ public class MonthPanel extends JComponent {
         add(title, BorderLayout.NORTH);
         title.setVisible(false);
         changelisteners = new ArrayList();
-        paneles = new DayPanel[ROWS][COLS];
-        weeks = new HeaderPanel[ROWS];
+        paneles = new DayPanel[0][];
+        weeks = new HeaderPanel[0];
         //        Font f = UIManager.getDefaults().getFont("Label.font");
         //        if (f == null)
         //            f = new Font("Times", Font.PLAIN, 12);
 
-        final DateFormatSymbols symbols = new DateFormatSymbols();
-        days = symbols.getShortWeekdays();
-        for (int i = 1; i < days.length; i++) {
-            days[i] = days[i].substring(0, 1).toUpperCase() + days[i].substring(1).toLowerCase();
+        names = LocaleNames.get(getLocale());
+        renderer = DefaultDayRenderer.getSharedInstance();
+        headerRenderer = DefaultHeaderRenderer.getSharedInstance();
+        workingdays = getDefaultWorking();
+        if (!lazy) {
+            createCells();
         }
+    }
 
-        months = symbols.getMonths();
-        for (int i = 0; i < months.length - 1; i++) {
-            months[i] = months[i].substring(0, 1).toUpperCase() + months[i].substring(1).toLowerCase();
+    /**
+     * Creates the day and header cells, once.
+     */
+    private void createCells() {
+        if (cellsCreated) {
+            return;
         }
+        cellsCreated = true;
+        headers = new HeaderPanel[tcols];
+        paneles = new DayPanel[ROWS][COLS];
+        weeks = new HeaderPanel[ROWS];
+        daypanels = new DayPanel[MonthLayout.CELLS];
 
         // Cargo la cabecera de los dias
 
@@ -204,7 +233,7 @@ public class MonthPanel extends JComponent {
                 if ((j == 0) && showWeekNumber) {
                     weeks[i] = new HeaderPanel(headerRenderer);
                     centro.add(weeks[i]);
-                    weeks[i].setValue(days[i]);
+                    weeks[i].setValue(names.getShortWeekday(i));
                 } else {
                     int jj = j;
                     if (showWeekNumber) {
@@ -218,21 +247,94 @@ public class MonthPanel extends JComponent {
             }
         }
 
-        setRenderer(new DefaultDayRenderer());
-        setHeaderRenderer(new DefaultHeaderRenderer());
-        setWorkingdays(getDefaultWorking());
+        setRenderer(renderer);
+        setHeaderRenderer(headerRenderer);
+        setWorkingdays(workingdays);
+        if (dayKeyListener != null) {
+            addDayListeners(dayKeyListener, dayMouseListener);
+        }
+        for (int i = 0; i < daypanels.length; i++) {
+            daypanels[i].setAntiAliased(antiAliased);
+            daypanels[i].setPrintMoon(printMoon);
+            daypanels[i].setComponentEnabled(componentEnabled);
+        }
+        for (int i = 0; i < headers.length; i++) {
+            headers[i].setAntiAliased(antiAliased);
+        }
+        if (showWeekNumber) {
+            for (int i = 0; i < weeks.length; i++) {
+                weeks[i].setAntiAliased(antiAliased);
+            }
+        }
+        if (date != null) {
+            setDay(date, false);
+        }
+    }
+
+    /**
+     * Creates the cells of a lazy panel before it is shown.
+     */
+    @Override
+    public void addNotify() {
+        createCells();
+        super.addNotify();
+    }
+
+    /**
+     * Adds the listeners to every day cell, now or when the cells are
+     * created.
+     * @param keyListener listener for the keys
+     * @param mouseListener listener for the mouse
+     */
+    void addDayListeners(final KeyListener keyListener, final MouseListener mouseListener) {
+        dayKeyListener = keyListener;
+        dayMouseListener = mouseListener;
+        for (int i = 0; i < daypanels.length; i++) {
+            daypanels[i].addKeyListener(keyListener);
+            daypanels[i].addMouseListener(mouseListener);
+        }
+    }
+
+    /**
+     * Returns the day cells without creating them.
+     * @return the cells, empty if they were not created yet
+     */
+    DayPanel[] cells() {
+        return daypanels;
+    }
+
+    private void setDayOrder(final int firstDayOfWeek) {
+        // day of week of each column, the first one is for the week numbers
+        for (int i = 1; i < dayorder.length; i++) {
+            dayorder[i] = (firstDayOfWeek + i - 2) % COLS + 1;
+        }
     }
 
     private void setHeaders() {
-        for (int i = 0; i < tcols; i++) {
+        for (int i = 0; i < headers.length; i++) {
             if (showWeekNumber) {
-                headers[i].setValue(days[dayorder[i]]);
+                headers[i].setValue(names.getShortWeekday(dayorder[i]));
             } else {
-                headers[i].setValue(days[dayorder[i + 1]]);
+                headers[i].setValue(names.getShortWeekday(dayorder[i + 1]));
             }
         }
     }
 
+    /**
+     * Sets the locale used for the month and day names.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        super.setLocale(l);
+        names = LocaleNames.get(getLocale());
+        setHeaders();
+        if (showtitle) {
+            title.setText(names.getMonth(showingmonth) + " " + showingyear);
+        }
+        repaint();
+    }
+
     /**
      * Sets the current selected day. If the component is showing another
      * month, the showing month is changed
@@ -250,6 +352,42 @@ public class MonthPanel extends JComponent {
         setDay(d, false);
     }
 
+    /**
+     * Shows a month computed in advance, without any date arithmetic. The
+     * prefetched data is used while the model has not changed since.
+     * @param grid the month to show
+     * @return false if the grid was computed with other settings, then
+     * nothing is changed
+     */
+    boolean applyGrid(final MonthGrid grid) {
+        if ((grid.firstDayOfWeek != getFirstDayOfWeek()) || (grid.minimalDaysInFirstWeek != minimalDaysInFirstWeek)) {
+            return false;
+        }
+        final boolean prefetched = (grid.data != null) && (grid.model == model) && (grid.version == MonthGrid.versionOf(model));
+        date = grid.first;
+        for (int i = 0; i < daypanels.length; i++) {
+            daypanels[i].setDate(grid.dates[i], grid.days[i]);
+            if (model != null) {
+                daypanels[i].setData(prefetched ? grid.data[i] : dataOf(grid.dates[i], grid.days[i]));
+            }
+            daypanels[i].setEnabled(grid.inMonth[i]);
+        }
+        check.setTime(grid.first);
+        showingmonth = check.get(Calendar.MONTH);
+        showingyear = check.get(Calendar.YEAR);
+        if (showtitle) {
+            title.setText(names.getMonth(showingmonth) + " " + showingyear);
+        }
+        if (showWeekNumber) {
+            for (int i = 0; i < weeks.length; i++) {
+                weeks[i].setValue(grid.weeks[i]);
+            }
+        }
+        repaint();
+        fireChangeEvent(new ChangeEvent(this));
+        return true;
+    }
+
     /**
      * Returns the currently selected month.
      * @return selected month
@@ -265,7 +403,7 @@ public class MonthPanel extends JComponent {
     public void showTitle(final boolean show) {
         showtitle = show;
         title.setVisible(show);
-        doLayout();
+        revalidate();
     }
 
     private void setDay(final Date d, final boolean select) {
@@ -273,74 +411,35 @@ public class MonthPanel extends JComponent {
             return;
         }
         date = d;
-        final boolean update = ((showingyear != calendar.get(Calendar.YEAR)) || (showingmonth != calendar.get(Calendar.MONTH)));
         calendar.setTime(d);
         showingmonth = calendar.get(Calendar.MONTH);
         showingyear = calendar.get(Calendar.YEAR);
-        calendar.add(Calendar.DAY_OF_YEAR, -1 * (calendar.get(Calendar.DAY_OF_MONTH) - 1));
-        if (calendar.getFirstDayOfWeek() == Calendar.SUNDAY) {
-            calendar.add(Calendar.DAY_OF_YEAR, -1 * (calendar.get(Calendar.DAY_OF_WEEK) - 1));
-        } else {
-            calendar.add(Calendar.DAY_OF_YEAR, -1 * (RESTAMONDAY[calendar.get(Calendar.DAY_OF_WEEK)] - 1));
+        if (minimalDaysInFirstWeek != 0) {
+            calendar.setMinimalDaysInFirstWeek(minimalDaysInFirstWeek);
         }
+        MonthLayout.layout(showingyear, showingmonth, getFirstDayOfWeek(), calendar.getMinimalDaysInFirstWeek(), gridDays, gridInMonth,
+                showWeekNumber ? gridWeeks : null);
 
+        // every day keeps the time of the given one
+        final int time = CalendarUtils.millisOfDay(d);
         for (int i = 0; i < daypanels.length; i++) {
-            if (update) {
-                final Date temp = calendar.getTime();
-                daypanels[i].setDate(temp);
-                if (model != null) {
-                    daypanels[i].setData(model.getData(temp));
-                }
-                if (calendar.get(Calendar.MONTH) == showingmonth) {
-                    daypanels[i].setEnabled(true);
-                } else {
-                    daypanels[i].setEnabled(false);
-                }
+            final Date temp = CalendarUtils.toDate(gridDays[i], time);
+            daypanels[i].setDate(temp, gridDays[i]);
+            if (model != null) {
+                daypanels[i].setData(dataOf(temp, gridDays[i]));
             }
-            calendar.add(Calendar.DAY_OF_YEAR, 1);
+            daypanels[i].setEnabled(gridInMonth[i]);
         }
 
         // actualizo el titulo
         if (showtitle) {
-            title.setText(months[showingmonth] + " " + showingyear);
+            title.setText(names.getMonth(showingmonth) + " " + showingyear);
         }
 
         // actualizo semanas
         if (showWeekNumber) {
-            if (minimalDaysInFirstWeek != 0) {
-                calendar.setMinimalDaysInFirstWeek(minimalDaysInFirstWeek);
-            }
-
-            calendar.setTime(d);
-            //for retrieving the correct Weeknumber we have to set the calendar back to Monday
-            //and then retrieve the Weeknumbers
-            int backToWeekStart = 0;
-            final int value = calendar.get(Calendar.DAY_OF_WEEK);
-            if (value == Calendar.SUNDAY) {
-                backToWeekStart = -6;
-            } else if (value == Calendar.MONDAY) {
-                backToWeekStart = 0;
-            } else if (value == Calendar.TUESDAY) {
-                backToWeekStart = -1;
-            } else if (value == Calendar.WEDNESDAY) {
-                backToWeekStart = -2;
-            } else if (value == Calendar.THURSDAY) {
-                backToWeekStart = -3;
-            } else if (value == Calendar.FRIDAY) {
-                backToWeekStart = -4;
-            } else if (value == Calendar.SATURDAY) {
-                backToWeekStart = -5;
-            }
-
-            if (calendar.getFirstDayOfWeek() == Calendar.MONDAY) {
-                calendar.add(Calendar.DATE, backToWeekStart);
-            } else {
-                calendar.add(Calendar.DATE, backToWeekStart - 1);
-            }
-
             for (int i = 0; i < weeks.length; i++) {
-                weeks[i].setValue(Integer.toString(calendar.get(Calendar.WEEK_OF_YEAR)));
-                calendar.add(Calendar.DATE, 7); //jump to next week
+                weeks[i].setValue(Integer.toString(gridWeeks[i]));
             }
         }
 
@@ -355,7 +454,7 @@ public class MonthPanel extends JComponent {
         for (int i = 0; i < paneles.length; i++) {
             for (int j = 0; j < paneles[i].length; j++) {
                 if (model != null) {
-                    paneles[i][j].setData(model.getData(paneles[i][j].getDate()));
+                    paneles[i][j].setData(dataOf(paneles[i][j].getDate(), paneles[i][j].getEpochDay()));
                     paneles[i][j].setPrintMoon(printMoon);
                 }
             }
@@ -363,6 +462,11 @@ public class MonthPanel extends JComponent {
         repaint();
     }
 
+    /** Reads the data of a day, by epoch day when the model allows it. */
+    private Object dataOf(final Date day, final long epochDay) {
+        return dayModel != null ? dayModel.getData(epochDay) : model.getData(day);
+    }
+
     /**
      * Returns the currently selected day.
      * @return selected Date
@@ -399,6 +503,7 @@ public class MonthPanel extends JComponent {
      */
     public void setModel(final DataModel model) {
         this.model = model;
+        dayModel = model instanceof DayDataModel ? (DayDataModel) model : null;
     }
 
     /**
@@ -504,14 +609,10 @@ public class MonthPanel extends JComponent {
      * @param firstDayOfWeek New value of property firstDayOfWeek.
      */
     public void setFirstDayOfWeek(final int firstDayOfWeek) {
-        if ((firstDayOfWeek == Calendar.MONDAY) || (firstDayOfWeek == Calendar.SUNDAY)) {
+        if ((firstDayOfWeek >= Calendar.SUNDAY) && (firstDayOfWeek <= Calendar.SATURDAY)) {
             calendar.setFirstDayOfWeek(firstDayOfWeek);
             check.setFirstDayOfWeek(firstDayOfWeek);
-            if (firstDayOfWeek == Calendar.SUNDAY) {
-                dayorder = SUNDAYFIRST;
-            } else {
-                dayorder = MONDAYFIRST;
-            }
+            setDayOrder(firstDayOfWeek);
             setHeaders();
             setMonth(getMonth());
         }
@@ -530,6 +631,7 @@ public class MonthPanel extends JComponent {
      * @param b true for enabling
      */
     public void setEnabled(final boolean b) {
+        componentEnabled = b;
         for (int i = 0; i < daypanels.length; i++) {
             daypanels[i].setComponentEnabled(b);
         }
@@ -540,7 +642,7 @@ public class MonthPanel extends JComponent {
      * @return true if it's enabled
      */
     public boolean isEnabled() {
-        return daypanels[0].isComponentEnabled();
+        return componentEnabled;
     }
 
     /**
@@ -575,6 +677,7 @@ public class MonthPanel extends JComponent {
      * @return Returns the daypanels.
      */
     protected DayPanel[] getDaypanels() {
+        createCells();
         return daypanels;
     }
 
@@ -586,19 +689,12 @@ public class MonthPanel extends JComponent {
     }
 
     public Date getMinDate() {
-        final Calendar cal = new GregorianCalendar();
-        cal.setTime(date);
-        cal.add(Calendar.DAY_OF_MONTH, (cal.get(Calendar.DAY_OF_MONTH) * -1) + 1);
-        return cal.getTime();
+        return CalendarUtils.toDate(MonthLayout.epochDay(showingyear, showingmonth, 1), CalendarUtils.millisOfDay(date));
     }
 
     public Date getMaxDate() {
-        final Calendar cal = new GregorianCalendar();
-        cal.setTime(date);
-        cal.add(Calendar.DAY_OF_MONTH, (cal.get(Calendar.DAY_OF_MONTH) * -1) + 1);
-        cal.add(Calendar.MONTH, 1);
-        cal.add(Calendar.DAY_OF_YEAR, -1);
-        return cal.getTime();
+        final int last = MonthLayout.lengthOfMonth(showingyear, showingmonth);
+        return CalendarUtils.toDate(MonthLayout.epochDay(showingyear, showingmonth, last), CalendarUtils.millisOfDay(date));
     }
 
     /**
@@ -624,6 +720,7 @@ public class MonthPanel extends JComponent {
     }
 
     public void dispose() {
+        cellsCreated = true;
         if (paneles != null) {
             for (int i = 0; i < paneles.length; i++) {
                 if (paneles[i] != null) {
@@ -637,8 +734,7 @@ public class MonthPanel extends JComponent {
             }
             paneles = null;
         }
-        months = null;
-        days = null;
+        names = null;
         if (changelisteners != null) {
             changelisteners.clear();
         }
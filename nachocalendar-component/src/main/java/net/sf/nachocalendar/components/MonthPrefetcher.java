@@ -0,0 +1,178 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * MonthPrefetcher.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sf.nachocalendar.model.DataModel;
+
+/**
+ * Computes {@link MonthGrid}s on a background thread before they are
+ * shown. The months to compute are chosen from the scroll direction and
+ * velocity: the faster the scroll, the further ahead. Grids are only used
+ * once done, so the event dispatch thread never waits for them.
+ *
+ * @author Ignacio Merani
+ */
+@Slf4j
+final class MonthPrefetcher {
+    /** Maximum months computed ahead of the visible ones. */
+    static final int MAX_AHEAD = 12;
+
+    private static ExecutorService executor;
+
+    private final ConcurrentHashMap<Integer, Future<MonthGrid>> cache = new ConcurrentHashMap<Integer, Future<MonthGrid>>();
+    private int firstDayOfWeek, minimalDaysInFirstWeek;
+    private DataModel model;
+    private int lastTarget = Integer.MIN_VALUE;
+    private long lastTime;
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                final Thread t = new Thread(r, "NachoCalendar prefetch");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Sets the values used to compute the grids, the computed ones are
+     * discarded when they change.
+     * @param firstDayOfWeek first day of the week
+     * @param minimalDaysInFirstWeek minimal days in the first week
+     * @param model the data model
+     */
+    void configure(final int firstDayOfWeek, final int minimalDaysInFirstWeek, final DataModel model) {
+        if ((firstDayOfWeek != this.firstDayOfWeek) || (minimalDaysInFirstWeek != this.minimalDaysInFirstWeek) || (model != this.model)) {
+            this.firstDayOfWeek = firstDayOfWeek;
+            this.minimalDaysInFirstWeek = minimalDaysInFirstWeek;
+            this.model = model;
+            clear();
+        }
+    }
+
+    /**
+     * Returns the grid of a month if it is already computed.
+     * @param month absolute month (year * 12 + month)
+     * @return the grid or null
+     */
+    MonthGrid take(final int month) {
+        final Future<MonthGrid> future = cache.get(Integer.valueOf(month));
+        if ((future == null) || !future.isDone()) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            log.warn("Prefetch failed", e);
+        }
+        return null;
+    }
+
+    /**
+     * Called after the panel moves, prefetches the months that will be
+     * shown next.
+     * @param target absolute month of the first panel
+     * @param quantity months shown at once
+     */
+    void moved(final int target, final int quantity) {
+        final long now = System.currentTimeMillis();
+        int direction = 1;
+        int ahead = 1;
+        if (lastTarget != Integer.MIN_VALUE) {
+            final long delta = (long) target - lastTarget;
+            if (delta < 0) {
+                direction = -1;
+            }
+            // months per second, a quarter of a second of scroll ahead
+            final long velocity = Math.abs(delta) * 1000 / Math.max(1, now - lastTime);
+            ahead = (int) Math.max(1, Math.min(MAX_AHEAD, velocity / 4 + 1));
+        }
+        lastTarget = target;
+        lastTime = now;
+
+        // forget what is far from the visible months
+        final int low = target - MAX_AHEAD - 12;
+        final int high = target + quantity + MAX_AHEAD + 12;
+        final Iterator<Integer> it = cache.keySet().iterator();
+        while (it.hasNext()) {
+            final int month = it.next().intValue();
+            if ((month < low) || (month > high)) {
+                it.remove();
+            }
+        }
+
+        if (direction > 0) {
+            request(target + quantity, target + quantity + ahead);
+            request(target - 1, target);
+        } else {
+            request(target - ahead, target);
+            request(target + quantity, target + quantity + 1);
+        }
+        // the same months of the next and previous years
+        request(target + 12, target + 12 + quantity);
+        request(target - 12, target - 12 + quantity);
+    }
+
+    private void request(final int from, final int to) {
+        final int fdw = firstDayOfWeek;
+        final int minimal = minimalDaysInFirstWeek;
+        final DataModel m = model;
+        for (int month = from; month < to; month++) {
+            final int year = Math.floorDiv(month, 12);
+            final int inyear = Math.floorMod(month, 12);
+            cache.computeIfAbsent(Integer.valueOf(month), k -> getExecutor().submit(() -> MonthGrid.compute(year, inyear, fdw, minimal, m)));
+        }
+    }
+
+    /**
+     * Discards every computed grid.
+     */
+    void clear() {
+        final Iterator<Future<MonthGrid>> it = cache.values().iterator();
+        while (it.hasNext()) {
+            it.next().cancel(false);
+            it.remove();
+        }
+    }
+}
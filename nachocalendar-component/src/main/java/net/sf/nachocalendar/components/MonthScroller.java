@@ -38,14 +38,17 @@
 
 package net.sf.nachocalendar.components;
 
-import java.text.DateFormatSymbols;
+import java.util.Locale;
 
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.Icon;
 import javax.swing.SwingConstants;
 import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 
+import net.sf.nachocalendar.event.ListenerRegistry;
 import net.sf.nachocalendar.event.YearChangeEvent;
+import net.sf.nachocalendar.event.YearChangeListener;
 
 /**
  * Component used to change the current month. It extends from JComboBox
@@ -60,13 +63,21 @@ public class MonthScroller extends javax.swing.JPanel {
     /** Creates new form MonthScroller. */
     public MonthScroller() {
         initComponents();
-        final DateFormatSymbols symbols = FormatSymbols.getSingletonObject(); //get the formatter
-        final String[] months = symbols.getMonths(); //this returns the text form of months
-        for (int i = 0; i < months.length - 1; i++) {
-            months[i] = months[i].substring(0, 1).toUpperCase() + months[i].substring(1).toLowerCase();
+        cMonths.setModel(new DefaultComboBoxModel(LocaleNames.get(getLocale()).getMonths()));
+    }
+
+    /**
+     * Sets the locale used for the month names.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        super.setLocale(l);
+        if (cMonths != null) {
+            final int month = cMonths.getSelectedIndex();
+            cMonths.setModel(new DefaultComboBoxModel(LocaleNames.get(getLocale()).getMonths()));
+            cMonths.setSelectedIndex(month);
         }
-        cMonths.setModel(new DefaultComboBoxModel(months));
-        cMonths.removeItemAt(cMonths.getItemCount() - 1);
     }
 
     /**
@@ -216,10 +227,7 @@ public class MonthScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addYearChangeListener(final net.sf.nachocalendar.event.YearChangeListener listener) {
-        if (yearChangeListenerList == null) {
-            yearChangeListenerList = new java.util.ArrayList();
-        }
+    public void addYearChangeListener(final YearChangeListener listener) {
         yearChangeListenerList.add(listener);
     }
 
@@ -229,10 +237,8 @@ public class MonthScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeYearChangeListener(final net.sf.nachocalendar.event.YearChangeListener listener) {
-        if (yearChangeListenerList != null) {
-            yearChangeListenerList.remove(listener);
-        }
+    public void removeYearChangeListener(final YearChangeListener listener) {
+        yearChangeListenerList.remove(listener);
     }
 
     /**
@@ -242,16 +248,7 @@ public class MonthScroller extends javax.swing.JPanel {
      *            The event to be fired
      */
     private void fireYearChangeListenerYearIncreased(final YearChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (yearChangeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) yearChangeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((net.sf.nachocalendar.event.YearChangeListener) list.get(i)).yearIncreased(event);
-        }
+        yearChangeListenerList.fire(YearChangeListener::yearIncreased, event);
     }
 
     /**
@@ -261,16 +258,7 @@ public class MonthScroller extends javax.swing.JPanel {
      *            The event to be fired
      */
     private void fireYearChangeListenerYearDecreased(final YearChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (yearChangeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) yearChangeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((net.sf.nachocalendar.event.YearChangeListener) list.get(i)).yearDecreased(event);
-        }
+        yearChangeListenerList.fire(YearChangeListener::yearDecreased, event);
     }
 
     /**
@@ -279,10 +267,7 @@ public class MonthScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList == null) {
-            changeListenerList = new java.util.ArrayList();
-        }
+    public void addChangeListener(final ChangeListener listener) {
         changeListenerList.add(listener);
     }
 
@@ -292,10 +277,8 @@ public class MonthScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList != null) {
-            changeListenerList.remove(listener);
-        }
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
     }
 
     /**
@@ -305,16 +288,7 @@ public class MonthScroller extends javax.swing.JPanel {
      *            The event to be fired
      */
     private void fireChangeListenerStateChanged(final javax.swing.event.ChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (changeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) changeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((javax.swing.event.ChangeListener) list.get(i)).stateChanged(event);
-        }
+        changeListenerList.fire(ChangeListener::stateChanged, event);
     }
 
     /**
@@ -344,19 +318,19 @@ public class MonthScroller extends javax.swing.JPanel {
     /**
      * Utility field holding list of YearChangeListeners.
      */
-    private transient java.util.ArrayList yearChangeListenerList;
+    private final ListenerRegistry<YearChangeListener> yearChangeListenerList = new ListenerRegistry<YearChangeListener>();
 
     /**
      * Utility field holding list of ChangeListeners.
      */
-    private transient java.util.ArrayList changeListenerList;
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
 
     public void dispose() {
         bNext = null;
         bPrevious = null;
         cMonths = null;
-        yearChangeListenerList = null;
-        changeListenerList = null;
+        yearChangeListenerList.clear();
+        changeListenerList.clear();
     }
 
 }
@@ -0,0 +1,552 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * VirtualCalendarPanel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.AdjustmentEvent;
+import java.awt.event.AdjustmentListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JScrollBar;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import net.sf.nachocalendar.event.DateSelectionEvent;
+import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
+import net.sf.nachocalendar.model.DataModel;
+import net.sf.nachocalendar.model.DateSelectionModel;
+import net.sf.nachocalendar.model.DefaultDateSelectionModel;
+
+/**
+ * Panel showing a scrollable range of months of any length, for example a
+ * ten years planning view. Only the months fitting in the panel are built:
+ * a small pool of MonthPanels, sized to the visible area, is recycled while
+ * scrolling, the same way JList reuses its renderer. Memory and
+ * construction cost depend on the size of the panel, not on the range.
+ *
+ * @author Ignacio Merani
+ */
+public class VirtualCalendarPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final int startYear, startMonth;
+    private int monthCount;
+    private final boolean showWeekNumber;
+    private final List<MonthPanel> pool = new ArrayList<MonthPanel>();
+    private int visible;
+    private int columns = 1;
+    private final JScrollBar scroll;
+    private final JComponent viewport;
+    private final Calendar cal = new GregorianCalendar();
+    private DataModel datamodel;
+    private DayRenderer dayrenderer;
+    private HeaderRenderer headerrenderer;
+    private DateSelectionModel dateSelectionModel;
+    private boolean[] workingdays = MonthPanel.getDefaultWorking();
+    private int firstDayOfWeek = cal.getFirstDayOfWeek();
+    private int minimalDaysInFirstWeek;
+    private MouseListener mlistener;
+    private DateSelectionListener listlistener;
+
+    /** Utility field holding list of ChangeListeners. */
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
+
+    /**
+     * Creates a panel showing the provided quantity of months.
+     * @param start any date of the first month
+     * @param monthCount quantity of months in the range
+     */
+    public VirtualCalendarPanel(final Date start, final int monthCount) {
+        this(start, monthCount, true);
+    }
+
+    /**
+     * Creates a panel showing the provided quantity of months.
+     * @param start any date of the first month
+     * @param monthCount quantity of months in the range
+     * @param showWeekNumber true to show the week numbers
+     */
+    public VirtualCalendarPanel(final Date start, final int monthCount, final boolean showWeekNumber) {
+        cal.setTime(start);
+        startYear = cal.get(Calendar.YEAR);
+        startMonth = cal.get(Calendar.MONTH);
+        this.monthCount = Math.max(1, monthCount);
+        this.showWeekNumber = showWeekNumber;
+        dayrenderer = DefaultDayRenderer.getSharedInstance();
+        headerrenderer = DefaultHeaderRenderer.getSharedInstance();
+        dateSelectionModel = new DefaultDateSelectionModel();
+        createListeners();
+        dateSelectionModel.addDateSelectionListener(listlistener);
+
+        scroll = new JScrollBar(JScrollBar.VERTICAL, 0, 1, 0, this.monthCount);
+        scroll.addAdjustmentListener(new AdjustmentListener() {
+            @Override
+            public void adjustmentValueChanged(final AdjustmentEvent e) {
+                showMonths();
+            }
+        });
+        viewport = new JComponent() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void doLayout() {
+                layoutPool();
+            }
+
+            @Override
+            public Dimension getPreferredSize() {
+                if (isPreferredSizeSet() || pool.isEmpty()) {
+                    return super.getPreferredSize();
+                }
+                final Dimension cell = pool.get(0).getPreferredSize();
+                return new Dimension(cell.width, cell.height * Math.min(3, monthCount));
+            }
+        };
+        setLayout(new BorderLayout());
+        add(viewport, BorderLayout.CENTER);
+        add(scroll, BorderLayout.EAST);
+        addMouseWheelListener(new MouseWheelListener() {
+            @Override
+            public void mouseWheelMoved(final MouseWheelEvent e) {
+                if (isEnabled()) {
+                    scroll.setValue(scroll.getValue() + e.getWheelRotation() * columns);
+                }
+            }
+        });
+        setPoolSize(1);
+        showMonths();
+    }
+
+    private void createListeners() {
+        mlistener = new MouseAdapter() {
+            @Override
+            public void mouseClicked(final MouseEvent e) {
+                final DayPanel dp = (DayPanel) e.getSource();
+                if (!dp.isEnabled() || !dp.isComponentEnabled()) {
+                    return;
+                }
+                dateSelectionModel.setValueIsAdjusting(true);
+                if (!e.isControlDown()) {
+                    dateSelectionModel.clearSelection();
+                }
+                if (e.isShiftDown()) {
+                    dateSelectionModel.addSelectionInterval(dateSelectionModel.getLeadSelectionDate(), dp.getDate());
+                } else if (e.isControlDown() && dateSelectionModel.isSelectedDate(dp.getDate())) {
+                    dateSelectionModel.removeSelectionInterval(dp.getDate(), dp.getDate());
+                } else {
+                    dateSelectionModel.addSelectionInterval(dp.getDate(), dp.getDate());
+                }
+                dateSelectionModel.setLeadSelectionDate(dp.getDate());
+                dateSelectionModel.setValueIsAdjusting(false);
+                dp.requestFocus();
+            }
+        };
+
+        listlistener = new DateSelectionListener() {
+            @Override
+            public void valueChanged(final DateSelectionEvent e) {
+                refreshSelection();
+                repaint();
+                fireChangeListenerStateChanged(new ChangeEvent(VirtualCalendarPanel.this));
+            }
+        };
+    }
+
+    /**
+     * Lays the pooled panels out in a grid filling the viewport. The pool
+     * grows or shrinks so it holds exactly the months that fit.
+     */
+    private void layoutPool() {
+        if (pool.isEmpty()) {
+            return;
+        }
+        final Dimension cell = pool.get(0).getPreferredSize();
+        final int width = viewport.getWidth();
+        final int height = viewport.getHeight();
+        final int cols = Math.max(1, width / Math.max(1, cell.width));
+        final int rows = Math.max(1, height / Math.max(1, cell.height));
+        final int count = Math.min(cols * rows, monthCount);
+        if ((count != visible) || (cols != columns)) {
+            columns = cols;
+            setPoolSize(count);
+            // the scrollbar rebinds the months through its adjustment listener
+            scroll.setValues(Math.min(scroll.getValue(), monthCount - count), count, 0, monthCount);
+            scroll.setBlockIncrement(count);
+            scroll.setUnitIncrement(cols);
+        }
+        final int cellw = width / cols;
+        final int cellh = height / rows;
+        for (int i = 0; i < visible; i++) {
+            pool.get(i).setBounds((i % cols) * cellw, (i / cols) * cellh, cellw, cellh);
+        }
+    }
+
+    private void setPoolSize(final int count) {
+        while (pool.size() < count) {
+            final MonthPanel panel = new MonthPanel(showWeekNumber);
+            panel.showTitle(true);
+            configure(panel);
+            final DayPanel[] daypanels = panel.getDaypanels();
+            for (int j = 0; j < daypanels.length; j++) {
+                daypanels[j].addMouseListener(mlistener);
+            }
+            pool.add(panel);
+        }
+        for (int i = count; i < visible; i++) {
+            viewport.remove(pool.get(i));
+        }
+        for (int i = visible; i < count; i++) {
+            viewport.add(pool.get(i));
+        }
+        // release the panels that no longer fit
+        while (pool.size() > count) {
+            final DayPanel[] daypanels = pool.remove(pool.size() - 1).getDaypanels();
+            for (int j = 0; j < daypanels.length; j++) {
+                daypanels[j].removeMouseListener(mlistener);
+            }
+        }
+        visible = count;
+    }
+
+    private void configure(final MonthPanel panel) {
+        panel.setModel(datamodel);
+        panel.setRenderer(dayrenderer);
+        panel.setHeaderRenderer(headerrenderer);
+        panel.setWorkingdays(workingdays);
+        panel.setFirstDayOfWeek(firstDayOfWeek);
+        panel.setMinimalDaysInFirstWeek(minimalDaysInFirstWeek);
+        panel.setLocale(getLocale());
+        panel.setEnabled(isEnabled());
+    }
+
+    /** Binds the visible pooled panels to the months at the scroll position. */
+    private void showMonths() {
+        final int first = scroll.getValue();
+        for (int i = 0; i < visible; i++) {
+            cal.clear();
+            cal.set(startYear, startMonth + first + i, 1);
+            pool.get(i).setMonth(cal.getTime());
+        }
+        refreshSelection();
+        viewport.repaint();
+    }
+
+    private void refreshSelection() {
+        for (int i = 0; i < visible; i++) {
+            final DayPanel[] daypanels = pool.get(i).getDaypanels();
+            for (int j = 0; j < daypanels.length; j++) {
+                daypanels[j].setSelected(daypanels[j].isEnabled() && dateSelectionModel.isSelectedDate(daypanels[j].getDate()));
+            }
+        }
+    }
+
+    /**
+     * Scrolls so the month of the date is visible.
+     * @param date date to show
+     */
+    public void showMonth(final Date date) {
+        if (date == null) {
+            return;
+        }
+        cal.setTime(date);
+        final int index = (cal.get(Calendar.YEAR) - startYear) * 12 + cal.get(Calendar.MONTH) - startMonth;
+        final int first = scroll.getValue();
+        if (index < first) {
+            scroll.setValue(index - index % columns);
+        } else if (index >= first + visible) {
+            scroll.setValue(index - visible + columns - index % columns);
+        }
+    }
+
+    /**
+     * Returns the first month of the range.
+     * @return the first day of the first month
+     */
+    public Date getStart() {
+        cal.clear();
+        cal.set(startYear, startMonth, 1);
+        return cal.getTime();
+    }
+
+    /**
+     * Getter for property monthCount.
+     * @return quantity of months in the range
+     */
+    public int getMonthCount() {
+        return monthCount;
+    }
+
+    /**
+     * Setter for property monthCount.
+     * @param monthCount quantity of months in the range
+     */
+    public void setMonthCount(final int monthCount) {
+        final int old = this.monthCount;
+        this.monthCount = Math.max(1, monthCount);
+        setPoolSize(Math.min(visible, this.monthCount));
+        scroll.setValues(Math.min(scroll.getValue(), this.monthCount - visible), visible, 0, this.monthCount);
+        showMonths();
+        viewport.revalidate();
+        firePropertyChange("monthCount", old, this.monthCount);
+    }
+
+    /**
+     * Returns the quantity of MonthPanels built. It never exceeds the
+     * months that fit in the panel.
+     * @return size of the pool
+     */
+    public int getPoolSize() {
+        return pool.size();
+    }
+
+    /**
+     * Returns the month panels currently showing.
+     * @return the visible month panels
+     */
+    MonthPanel[] getMonthPanels() {
+        return pool.subList(0, visible).toArray(new MonthPanel[visible]);
+    }
+
+    /** Refreshes the display of the visible months. */
+    public void refresh() {
+        for (int i = 0; i < visible; i++) {
+            pool.get(i).refresh();
+        }
+    }
+
+    /**
+     * Getter for property model.
+     * @return Value of property model.
+     */
+    public DataModel getModel() {
+        return datamodel;
+    }
+
+    /**
+     * Setter for property model.
+     * @param model New value of property model.
+     */
+    public void setModel(final DataModel model) {
+        datamodel = model;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setModel(model);
+        }
+        refresh();
+    }
+
+    /**
+     * Getter for property renderer.
+     * @return Value of property renderer.
+     */
+    public DayRenderer getRenderer() {
+        return dayrenderer;
+    }
+
+    /**
+     * Setter for property renderer.
+     * @param renderer New value of property renderer.
+     */
+    public void setRenderer(final DayRenderer renderer) {
+        dayrenderer = renderer;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setRenderer(renderer);
+        }
+    }
+
+    /**
+     * Getter for property headerRenderer.
+     * @return Value of property headerRenderer.
+     */
+    public HeaderRenderer getHeaderRenderer() {
+        return headerrenderer;
+    }
+
+    /**
+     * Setter for property headerRenderer.
+     * @param headerRenderer New value of property headerRenderer.
+     */
+    public void setHeaderRenderer(final HeaderRenderer headerRenderer) {
+        headerrenderer = headerRenderer;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setHeaderRenderer(headerRenderer);
+        }
+    }
+
+    /**
+     * Getter for property workingdays.
+     * @return Value of property workingdays.
+     */
+    public boolean[] getWorkingdays() {
+        return workingdays;
+    }
+
+    /**
+     * Setter for property workingdays.
+     * @param workingdays New value of property workingdays.
+     */
+    public void setWorkingdays(final boolean[] workingdays) {
+        this.workingdays = workingdays;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setWorkingdays(workingdays);
+        }
+    }
+
+    /**
+     * Getter for property firstDayOfWeek.
+     * @return Value of property firstDayOfWeek.
+     */
+    public int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * Setter for property firstDayOfWeek.
+     * @param firstDayOfWeek New value of property firstDayOfWeek.
+     */
+    public void setFirstDayOfWeek(final int firstDayOfWeek) {
+        this.firstDayOfWeek = firstDayOfWeek;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setFirstDayOfWeek(firstDayOfWeek);
+        }
+        showMonths();
+    }
+
+    /**
+     * Sets the locale used for the month and day names.
+     * @param l the locale
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        super.setLocale(l);
+        if (pool != null) {
+            for (int i = 0; i < pool.size(); i++) {
+                pool.get(i).setLocale(l);
+            }
+        }
+    }
+
+    /**
+     * Specifies how many days should the first week of the year contain.
+     * @param number minimal days, 0 keeps the default
+     */
+    public void setMinimalDaysInFirstWeek(final int number) {
+        minimalDaysInFirstWeek = number;
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setMinimalDaysInFirstWeek(number);
+        }
+        showMonths();
+    }
+
+    /**
+     * @return Returns the dateSelectionModel.
+     */
+    public DateSelectionModel getDateSelectionModel() {
+        return dateSelectionModel;
+    }
+
+    /**
+     * @param dateSelectionModel The dateSelectionModel to set.
+     */
+    public void setDateSelectionModel(final DateSelectionModel dateSelectionModel) {
+        if (dateSelectionModel != null) {
+            this.dateSelectionModel.removeDateSelectionListener(listlistener);
+            this.dateSelectionModel = dateSelectionModel;
+            if (dateSelectionModel instanceof DefaultDateSelectionModel) {
+                ((DefaultDateSelectionModel) dateSelectionModel).addWeakDateSelectionListener(listlistener);
+            } else {
+                dateSelectionModel.addDateSelectionListener(listlistener);
+            }
+            refreshSelection();
+            repaint();
+        }
+    }
+
+    /**
+     * Registers ChangeListener to receive selection events.
+     * @param listener The listener to register.
+     */
+    public void addChangeListener(final ChangeListener listener) {
+        changeListenerList.add(listener);
+    }
+
+    /**
+     * Removes ChangeListener from the list of listeners.
+     * @param listener The listener to remove.
+     */
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
+    }
+
+    private void fireChangeListenerStateChanged(final ChangeEvent event) {
+        changeListenerList.fire(ChangeListener::stateChanged, event);
+    }
+
+    /**
+     * Enables or disables the component.
+     * @param enabled true for enabling
+     */
+    @Override
+    public void setEnabled(final boolean enabled) {
+        for (int i = 0; i < pool.size(); i++) {
+            pool.get(i).setEnabled(enabled);
+        }
+        scroll.setEnabled(enabled);
+        super.setEnabled(enabled);
+    }
+
+    public void dispose() {
+        dateSelectionModel.removeDateSelectionListener(listlistener);
+        for (int i = 0; i < pool.size(); i++) {
+            final DayPanel[] daypanels = pool.get(i).getDaypanels();
+            for (int j = 0; j < daypanels.length; j++) {
+                daypanels[j].removeMouseListener(mlistener);
+            }
+            pool.get(i).dispose();
+        }
+        pool.clear();
+        visible = 0;
+        viewport.removeAll();
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * WindowPanel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dialog;
+import java.awt.Frame;
+import java.awt.Point;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.ListSelectionModel;
+
+import net.sf.nachocalendar.model.DataModel;
+
+/**
+ * The popup of DateField. One is kept per window and layout, built the
+ * first time a DateField of that window is shown, and shared by all of
+ * its DateFields: opening it only binds the settings of the field. Table
+ * editors showing their own text open it through
+ * {@link DateField#showCalendar}.
+ *
+ * @author Ignacio Merani
+ */
+final class WindowPanel extends JDialog {
+    private static final long serialVersionUID = 1L;
+
+    private static final boolean[] NO_WORKING_DAYS = new boolean[7];
+
+    /** Popups of each window and layout. */
+    private static final Registry<Window, WindowPanel> POPUPS = new Registry<Window, WindowPanel>();
+
+    private final boolean showWeekNumbers, showOkCancel;
+    private final DatePanel datepanel;
+    private final DataModel defaultModel;
+    private final int defaultFirstDayOfWeek;
+    private DateField owner;
+    private Consumer<? super Date> target;
+
+    private WindowPanel(final Frame parent, final boolean showWeekNumbers, final boolean showOkCancel) {
+        super(parent, false);
+        this.showWeekNumbers = showWeekNumbers;
+        this.showOkCancel = showOkCancel;
+        datepanel = new DatePanel(showWeekNumbers);
+        defaultModel = datepanel.getModel();
+        defaultFirstDayOfWeek = datepanel.getFirstDayOfWeek();
+        init();
+    }
+
+    private WindowPanel(final Dialog parent, final boolean showWeekNumbers, final boolean showOkCancel) {
+        super(parent, false);
+        this.showWeekNumbers = showWeekNumbers;
+        this.showOkCancel = showOkCancel;
+        datepanel = new DatePanel(showWeekNumbers);
+        defaultModel = datepanel.getModel();
+        defaultFirstDayOfWeek = datepanel.getFirstDayOfWeek();
+        init();
+    }
+
+    /**
+     * Returns the popup for a DateField, building it if its window has
+     * none.
+     * @param field the DateField
+     * @return the shared popup
+     */
+    static WindowPanel get(final DateField field) {
+        return get(field, field);
+    }
+
+    /**
+     * Returns the popup of the window of a component, for the layout of a
+     * DateField, building it if that window has none.
+     * @param invoker the component the popup is shown for
+     * @param field the DateField giving the settings
+     * @return the shared popup
+     */
+    static WindowPanel get(final Component invoker, final DateField field) {
+        Component c = invoker;
+        while (!(c instanceof Dialog) && c != null) {
+            c = c.getParent();
+        }
+        final Window window = c != null ? (Window) c : JOptionPane.getFrameForComponent(invoker);
+        final int layout = Registry.layout(field.getShowWeekNumbers(), field.getShowOkCancel());
+        WindowPanel popup = POPUPS.get(window, layout);
+        if (popup == null) {
+            if (window instanceof Dialog) {
+                popup = new WindowPanel((Dialog) window, field.getShowWeekNumbers(), field.getShowOkCancel());
+            } else {
+                popup = new WindowPanel((Frame) window, field.getShowWeekNumbers(), field.getShowOkCancel());
+            }
+            POPUPS.put(window, layout, popup);
+        }
+        return popup;
+    }
+
+    /**
+     * Popups kept by window and layout. Both are held weakly, so a popup
+     * goes with its window and a window is not kept by its popup.
+     * @param <W> type of the window
+     * @param <P> type of the popup
+     */
+    static final class Registry<W, P> {
+        /** Number of layouts, week numbers and ok/cancel buttons. */
+        static final int LAYOUTS = 4;
+
+        private final Map<W, WeakReference<?>[]> popups = new WeakHashMap<W, WeakReference<?>[]>();
+
+        /**
+         * Returns the layout index of a popup.
+         * @param showWeekNumbers true if it shows week numbers
+         * @param showOkCancel true if it shows the ok and cancel buttons
+         * @return index from 0 to LAYOUTS - 1
+         */
+        static int layout(final boolean showWeekNumbers, final boolean showOkCancel) {
+            return (showWeekNumbers ? 1 : 0) | (showOkCancel ? 2 : 0);
+        }
+
+        /**
+         * Returns the popup of a window and layout.
+         * @param window the window
+         * @param layout the layout index
+         * @return the popup, null if there is none
+         */
+        @SuppressWarnings("unchecked")
+        P get(final W window, final int layout) {
+            final WeakReference<?>[] slots = popups.get(window);
+            return (slots == null) || (slots[layout] == null) ? null : (P) slots[layout].get();
+        }
+
+        /**
+         * Keeps the popup of a window and layout.
+         * @param window the window
+         * @param layout the layout index
+         * @param popup the popup
+         */
+        void put(final W window, final int layout, final P popup) {
+            WeakReference<?>[] slots = popups.get(window);
+            if (slots == null) {
+                slots = new WeakReference<?>[LAYOUTS];
+                popups.put(window, slots);
+            }
+            slots[layout] = new WeakReference<P>(popup);
+        }
+    }
+
+    private void init() {
+        setUndecorated(true);
+        setFocusable(true);
+        datepanel.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        final JPanel todo = new JPanel(new BorderLayout());
+        getContentPane().add(todo);
+        todo.add(datepanel);
+        todo.setBorder(BorderFactory.createLineBorder(Color.black));
+
+        if (showOkCancel) {
+            final JPanel abajo = new JPanel();
+            todo.add(abajo, BorderLayout.SOUTH);
+            final JButton ok = new JButton("Ok");
+            final JButton cancel = new JButton("Cancel");
+            abajo.add(ok);
+            abajo.add(cancel);
+            getRootPane().setDefaultButton(ok);
+            ok.addActionListener(new ActionListener() {
+                @Override
+                public void actionPerformed(final ActionEvent e) {
+                    aceptar();
+                }
+            });
+            cancel.addActionListener(new ActionListener() {
+                @Override
+                public void actionPerformed(final ActionEvent e) {
+                    cancelar();
+                }
+            });
+        } else {
+            datepanel.addActionListener(new ActionListener() {
+                @Override
+                public void actionPerformed(final ActionEvent e) {
+                    aceptar();
+                }
+            });
+        }
+
+        final KeyListener klistener = new KeyAdapter() {
+            @Override
+            public void keyTyped(final KeyEvent e) {
+                if (e.getKeyChar() == 10) {
+                    aceptar();
+                }
+                if (e.getKeyChar() == 27) {
+                    cancelar();
+                }
+            }
+
+            @Override
+            public void keyPressed(final KeyEvent e) {
+                final int keycode = e.getKeyCode();
+                int move = 0;
+                int type = Calendar.DAY_OF_YEAR;
+                if (keycode == KeyEvent.VK_LEFT || keycode == 226) {
+                    move = -1;
+                } else if (keycode == KeyEvent.VK_RIGHT) {
+                    move = +1;
+                } else if (keycode == KeyEvent.VK_UP) {
+                    move = -7;
+                } else if (keycode == KeyEvent.VK_DOWN) {
+                    move = +7;
+                } else if (keycode == KeyEvent.VK_PAGE_DOWN) {
+                    move = +1;
+                    type = Calendar.MONTH;
+                } else if (keycode == KeyEvent.VK_PAGE_UP) {
+                    move = -1;
+                    type = Calendar.MONTH;
+                }
+                if (move != 0) {
+                    final Calendar navigation = Calendar.getInstance();
+                    navigation.setTime(datepanel.getDate());
+                    navigation.add(type, move);
+                    datepanel.setDate(navigation.getTime());
+                }
+            }
+        };
+
+        datepanel.addKeyListener(klistener);
+        addKeyListener(klistener);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowDeactivated(final WindowEvent e) {
+                cancelar();
+            }
+        });
+
+        pack();
+    }
+
+    /**
+     * Shows the popup for a DateField.
+     * @param field the DateField
+     * @param date the date to show
+     * @param location location on screen
+     */
+    void open(final DateField field, final Date date, final Point location) {
+        open(field, date, location, field::setValue);
+    }
+
+    /**
+     * Shows the popup with the settings of a DateField, giving the day
+     * picked to another target.
+     * @param field the DateField giving the settings
+     * @param date the date to show
+     * @param location location on screen
+     * @param target receives the day picked
+     */
+    void open(final DateField field, final Date date, final Point location, final Consumer<? super Date> target) {
+        if ((owner != null) && (owner != field)) {
+            cancelar();
+        }
+        owner = field;
+        this.target = target;
+        bind(field);
+        datepanel.setDate(date);
+        setLocation(location);
+        setVisible(true);
+    }
+
+    /**
+     * Applies the settings of the DateField to the calendar, only those
+     * that differ from the last field shown.
+     * @param field the DateField
+     */
+    void bind(final DateField field) {
+        if (bind(datepanel, field, defaultModel, defaultFirstDayOfWeek)) {
+            pack();
+        }
+    }
+
+    /**
+     * Applies the settings of a DateField to a calendar, only those that
+     * differ from what it shows.
+     * @param datepanel the calendar of the popup
+     * @param field the DateField
+     * @param defaultModel model used when the field has none
+     * @param defaultFirstDayOfWeek first day used when the field has none
+     * @return true if the size of the calendar may have changed
+     */
+    static boolean bind(final DatePanel datepanel, final DateField field, final DataModel defaultModel, final int defaultFirstDayOfWeek) {
+        boolean resize = false;
+        if (!datepanel.getLocale().equals(field.getLevelLocale())) {
+            datepanel.setLocale(field.getLevelLocale());
+            resize = true;
+        }
+        // DatePanel ignores the same day, and 0 when not set
+        datepanel.setFirstDayOfWeek(field.getFirstDayOfWeek() != 0 ? field.getFirstDayOfWeek() : defaultFirstDayOfWeek);
+        final boolean[] workingDays = field.getWorkingDays() != null ? field.getWorkingDays() : NO_WORKING_DAYS;
+        if (!Arrays.equals(datepanel.getWorkingDays(), workingDays)) {
+            datepanel.setWorkingDays(workingDays);
+        }
+        if (datepanel.isAntiAliased() != field.isAntiAliased()) {
+            datepanel.setAntiAliased(field.isAntiAliased());
+        }
+        if (datepanel.isPrintMoon() != field.isPrintMoon()) {
+            datepanel.setPrintMoon(field.isPrintMoon());
+        }
+        final DataModel model = field.getModel() != null ? field.getModel() : defaultModel;
+        if (datepanel.getModel() != model) {
+            datepanel.setModel(model);
+        }
+        final DayRenderer renderer = field.getRenderer() != null ? field.getRenderer() : DefaultDayRenderer.getSharedInstance();
+        if (datepanel.getRenderer() != renderer) {
+            datepanel.setRenderer(renderer);
+        }
+        if (datepanel.getHeaderRenderer() != field.getHeaderRenderer()) {
+            datepanel.setHeaderRenderer(field.getHeaderRenderer());
+        }
+        if (datepanel.getShowToday() != field.getShowToday()) {
+            datepanel.setShowToday(field.getShowToday());
+            resize = true;
+        }
+        if (!datepanel.getTodayCaption().equals(field.getTodayCaption())) {
+            datepanel.setTodayCaption(field.getTodayCaption());
+            resize = true;
+        }
+        return resize;
+    }
+
+    /**
+     * Puts back the default model and renderers, so the calendar does not
+     * keep those of the last field shown.
+     * @param datepanel the calendar of the popup
+     * @param defaultModel the model of the calendar when built
+     */
+    static void release(final DatePanel datepanel, final DataModel defaultModel) {
+        if (datepanel.getModel() != defaultModel) {
+            datepanel.setModel(defaultModel);
+        }
+        if (datepanel.getRenderer() != DefaultDayRenderer.getSharedInstance()) {
+            datepanel.setRenderer(DefaultDayRenderer.getSharedInstance());
+        }
+        if (datepanel.getHeaderRenderer() != DefaultHeaderRenderer.getSharedInstance()) {
+            datepanel.setHeaderRenderer(DefaultHeaderRenderer.getSharedInstance());
+        }
+    }
+
+    /**
+     * Checks if the popup is showing for a DateField.
+     * @param field the DateField
+     * @return true if open for it
+     */
+    boolean isOpenFor(final DateField field) {
+        return owner == field;
+    }
+
+    private void aceptar() {
+        final Consumer<? super Date> picked = target;
+        final Date date = datepanel.getDate();
+        close();
+        if (picked != null) {
+            picked.accept(date);
+        }
+    }
+
+    /**
+     * Hides the popup, nothing is picked.
+     */
+    void cancelar() {
+        close();
+    }
+
+    private void close() {
+        owner = null;
+        target = null;
+        setVisible(false);
+        release(datepanel, defaultModel);
+    }
+}
@@ -0,0 +1,774 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * YearHeatMap.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.ToolTipManager;
+import javax.swing.UIManager;
+
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.DateSelectionEvent;
+import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.model.DataModel;
+import net.sf.nachocalendar.model.DateSelectionModel;
+import net.sf.nachocalendar.model.DayDataModel;
+import net.sf.nachocalendar.model.DefaultDateSelectionModel;
+import net.sf.nachocalendar.model.NumericDataModel;
+
+/**
+ * Activity view of whole years, one small square per day with a column per
+ * week, painted by a single component. The value of every day is read once
+ * into a primitive array and turned into a color bucket, scaled on the
+ * minimum and maximum of the years shown. Painting only walks the cells in
+ * the clip.
+ * <p>
+ * Values come from a {@link NumericDataModel} as primitives, or from any
+ * DataModel: Numbers give their value, Collections their size and any
+ * other data counts as 1. Register the component as listener of the model,
+ * or attach it to a {@link DataChangeBridge}, and only the changed cells
+ * are repainted. Clicks select days in the {@link DateSelectionModel} as
+ * in the other components.
+ *
+ * @author Ignacio Merani
+ */
+public class YearHeatMap extends JComponent implements DataModelListener {
+    private static final long serialVersionUID = 1L;
+
+    /** Value returned by {@link #dayAt} outside the cells. */
+    public static final long NO_DAY = Long.MIN_VALUE;
+
+    private int startYear, years;
+    private long first;
+    private double[] values = new double[0];
+    private byte[] buckets = new byte[0];
+    private boolean[] selected = new boolean[0];
+    private int[] marked = new int[0];
+    private int markedCount;
+    private double min = Double.NaN, max = Double.NaN;
+
+    private DataModel model;
+    private DateSelectionModel dateSelectionModel;
+    private final DateSelectionListener listlistener;
+    private int firstDayOfWeek = new GregorianCalendar().getFirstDayOfWeek();
+    private int cellSize = 11, gap = 2;
+    private Color low = new Color(198, 228, 139), high = new Color(25, 97, 39);
+    private Color empty = new Color(235, 237, 240);
+    private Color selectionColor = Color.black;
+    private Color[] palette;
+    private int levels = 4;
+    private int left, header;
+    private boolean measured;
+    private DateFormat dateFormat;
+    private NumberFormat numberFormat;
+
+    /**
+     * Creates a heatmap of one year.
+     * @param year the year
+     */
+    public YearHeatMap(final int year) {
+        this(year, 1);
+    }
+
+    /**
+     * Creates a heatmap of consecutive years.
+     * @param startYear the first year
+     * @param years quantity of years
+     */
+    public YearHeatMap(final int startYear, final int years) {
+        setOpaque(true);
+        setBackground(Color.white);
+        setForeground(Color.darkGray);
+        setFont(UIManager.getFont("Label.font"));
+        listlistener = new DateSelectionListener() {
+            @Override
+            public void valueChanged(final DateSelectionEvent e) {
+                refreshSelection();
+            }
+        };
+        dateSelectionModel = new DefaultDateSelectionModel();
+        dateSelectionModel.addDateSelectionListener(listlistener);
+        createPalette();
+        setRange(startYear, years);
+        final MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(final MouseEvent e) {
+                if (isEnabled() && SwingUtilities.isLeftMouseButton(e)) {
+                    select(dayAt(e.getX(), e.getY()), e.isControlDown(), e.isShiftDown());
+                }
+            }
+        };
+        addMouseListener(mouse);
+        ToolTipManager.sharedInstance().registerComponent(this);
+    }
+
+    /**
+     * Sets the years shown.
+     * @param startYear the first year
+     * @param years quantity of years
+     */
+    public void setRange(final int startYear, final int years) {
+        this.startYear = startYear;
+        this.years = Math.max(1, years);
+        first = MonthLayout.epochDay(startYear, Calendar.JANUARY, 1);
+        final int count = (int) (MonthLayout.epochDay(startYear + this.years, Calendar.JANUARY, 1) - first);
+        values = new double[count];
+        buckets = new byte[count];
+        selected = new boolean[count];
+        markedCount = 0;
+        measured = false;
+        reload();
+        refreshSelection();
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Getter for property startYear.
+     * @return Value of property startYear.
+     */
+    public int getStartYear() {
+        return startYear;
+    }
+
+    /**
+     * Getter for property years.
+     * @return Value of property years.
+     */
+    public int getYears() {
+        return years;
+    }
+
+    /**
+     * Getter for property model.
+     * @return Value of property model.
+     */
+    public DataModel getModel() {
+        return model;
+    }
+
+    /**
+     * Setter for property model. Remember to register the component as
+     * listener of the model to follow its changes.
+     * @param model New value of property model.
+     */
+    public void setModel(final DataModel model) {
+        this.model = model;
+        reload();
+        repaint();
+    }
+
+    /**
+     * Reads again every value of the model.
+     */
+    public void reload() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = read(first + i);
+        }
+        rescale();
+    }
+
+    /**
+     * Reads the value of a day from the model.
+     * @param day local epoch day
+     * @return the value, NaN if the day has no data
+     */
+    private double read(final long day) {
+        if (model == null) {
+            return Double.NaN;
+        }
+        if (model instanceof NumericDataModel) {
+            final NumericDataModel numeric = (NumericDataModel) model;
+            return numeric.hasValue(day) ? numeric.getValue(day) : Double.NaN;
+        }
+        final Object data = model instanceof DayDataModel ? ((DayDataModel) model).getData(day) : model.getData(CalendarUtils.fromEpochDay(day));
+        if (data == null) {
+            return Double.NaN;
+        }
+        if (data instanceof Number) {
+            return ((Number) data).doubleValue();
+        }
+        if (data instanceof Collection) {
+            return ((Collection) data).size();
+        }
+        return 1;
+    }
+
+    /**
+     * Computes the minimum, the maximum and every bucket.
+     */
+    private void rescale() {
+        min = Double.NaN;
+        max = Double.NaN;
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (!Double.isNaN(v)) {
+                if (!(v >= min)) {
+                    min = v;
+                }
+                if (!(v <= max)) {
+                    max = v;
+                }
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            buckets[i] = bucket(values[i]);
+        }
+    }
+
+    /**
+     * Returns the bucket of a value: 0 without data, then 1 to levels.
+     * @param v the value
+     * @return the bucket
+     */
+    private byte bucket(final double v) {
+        if (Double.isNaN(v)) {
+            return 0;
+        }
+        if (!(max > min)) {
+            return (byte) levels;
+        }
+        return (byte) (1 + Math.min(levels - 1, (int) ((v - min) / (max - min) * levels)));
+    }
+
+    /**
+     * Called by the model when a day changes, from any thread. Only the
+     * cells whose color changed are repainted, unless the scale changed.
+     * @param evt the event
+     */
+    @Override
+    public void dataChanged(final DataChangeEvent evt) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> dataChanged(evt));
+            return;
+        }
+        final Date date = evt.getDate();
+        if (date == null) {
+            reload();
+            repaint();
+            return;
+        }
+        final long[] day = { CalendarUtils.toEpochDay(date) };
+        daysChanged(day, 1, false);
+    }
+
+    /**
+     * Reads again the values of the days changed.
+     * @param days changed epoch days
+     * @param size quantity of days
+     * @param all true to read every day
+     */
+    void daysChanged(final long[] days, final int size, final boolean all) {
+        if (all) {
+            reload();
+            repaint();
+            return;
+        }
+        boolean scale = false;
+        for (int i = 0; i < size; i++) {
+            final int index = (int) (days[i] - first);
+            if ((days[i] < first) || (index >= values.length)) {
+                continue;
+            }
+            final double old = values[index];
+            final double v = read(days[i]);
+            values[index] = v;
+            // an extreme that moves changes the scale of every cell
+            if ((old == min) || (old == max) || (v < min) || (v > max) || (!Double.isNaN(v) && Double.isNaN(min))) {
+                scale = true;
+            }
+        }
+        if (scale) {
+            final double oldmin = min, oldmax = max;
+            rescale();
+            if ((Double.compare(oldmin, min) != 0) || (Double.compare(oldmax, max) != 0)) {
+                repaint();
+                return;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            final int index = (int) (days[i] - first);
+            if ((days[i] < first) || (index >= values.length)) {
+                continue;
+            }
+            final byte b = bucket(values[index]);
+            if (b != buckets[index]) {
+                buckets[index] = b;
+                repaint(cellBounds(days[i]));
+            }
+        }
+    }
+
+    /**
+     * Returns the value shown for a day.
+     * @param day local epoch day
+     * @return the value, NaN if it has none or is not shown
+     */
+    public double getValue(final long day) {
+        final long index = day - first;
+        return (index < 0) || (index >= values.length) ? Double.NaN : values[(int) index];
+    }
+
+    /**
+     * Returns the color bucket of a day.
+     * @param day local epoch day
+     * @return 0 without data, else 1 to the quantity of levels
+     */
+    public int getBucket(final long day) {
+        final long index = day - first;
+        return (index < 0) || (index >= buckets.length) ? 0 : buckets[(int) index];
+    }
+
+    private void createPalette() {
+        palette = new Color[levels + 1];
+        palette[0] = empty;
+        for (int i = 1; i <= levels; i++) {
+            palette[i] = levels == 1 ? high : HeatDayRenderer.mix(low, high, (i - 1) / (float) (levels - 1));
+        }
+    }
+
+    /**
+     * Sets the colors of the scale.
+     * @param empty color of the days without data
+     * @param low color of the lowest bucket
+     * @param high color of the highest bucket
+     * @param levels quantity of buckets with data
+     */
+    public void setColors(final Color empty, final Color low, final Color high, final int levels) {
+        this.empty = empty;
+        this.low = low;
+        this.high = high;
+        this.levels = Math.max(1, Math.min(100, levels));
+        createPalette();
+        rescale();
+        repaint();
+    }
+
+    /**
+     * Getter for property levels.
+     * @return Value of property levels.
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Getter for property selectionColor.
+     * @return Value of property selectionColor.
+     */
+    public Color getSelectionColor() {
+        return selectionColor;
+    }
+
+    /**
+     * Setter for property selectionColor.
+     * @param selectionColor New value of property selectionColor.
+     */
+    public void setSelectionColor(final Color selectionColor) {
+        this.selectionColor = selectionColor;
+        repaint();
+    }
+
+    /**
+     * Getter for property cellSize.
+     * @return Value of property cellSize.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Setter for property cellSize.
+     * @param cellSize New value of property cellSize.
+     */
+    public void setCellSize(final int cellSize) {
+        this.cellSize = Math.max(2, cellSize);
+        gap = Math.max(1, this.cellSize / 5);
+        measured = false;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Getter for property firstDayOfWeek.
+     * @return Value of property firstDayOfWeek.
+     */
+    public int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * Setter for property firstDayOfWeek, the day of the first row.
+     * @param firstDayOfWeek New value of property firstDayOfWeek.
+     */
+    public void setFirstDayOfWeek(final int firstDayOfWeek) {
+        this.firstDayOfWeek = firstDayOfWeek;
+        repaint();
+    }
+
+    /**
+     * Getter for property dateSelectionModel.
+     * @return Value of property dateSelectionModel.
+     */
+    public DateSelectionModel getDateSelectionModel() {
+        return dateSelectionModel;
+    }
+
+    /**
+     * Setter for property dateSelectionModel.
+     * @param dateSelectionModel New value of property dateSelectionModel.
+     */
+    public void setDateSelectionModel(final DateSelectionModel dateSelectionModel) {
+        this.dateSelectionModel.removeDateSelectionListener(listlistener);
+        this.dateSelectionModel = dateSelectionModel;
+        dateSelectionModel.addDateSelectionListener(listlistener);
+        refreshSelection();
+    }
+
+    /**
+     * Reads the selection and repaints the cells that changed. The days
+     * selected are compared, as sorted cell indexes, with those marked.
+     */
+    private void refreshSelection() {
+        final Object[] dates = dateSelectionModel.getSelectedDates();
+        final TimeZone zone = CalendarUtils.getDefaultZone();
+        final int[] next = new int[dates == null ? 0 : dates.length];
+        int size = 0;
+        for (int i = 0; i < next.length; i++) {
+            if (dates[i] instanceof Date) {
+                final long index = CalendarUtils.toEpochDay(((Date) dates[i]).getTime(), zone) - first;
+                if ((index >= 0) && (index < selected.length)) {
+                    next[size++] = (int) index;
+                }
+            }
+        }
+        Arrays.sort(next, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if ((unique == 0) || (next[unique - 1] != next[i])) {
+                next[unique++] = next[i];
+            }
+        }
+        size = unique;
+
+        int i = 0;
+        int j = 0;
+        while ((i < markedCount) || (j < size)) {
+            if ((j == size) || ((i < markedCount) && (marked[i] < next[j]))) {
+                selected[marked[i]] = false;
+                repaint(cellBounds(first + marked[i]));
+                i++;
+            } else if ((i == markedCount) || (next[j] < marked[i])) {
+                selected[next[j]] = true;
+                repaint(cellBounds(first + next[j]));
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        marked = next;
+        markedCount = size;
+    }
+
+    private void select(final long day, final boolean control, final boolean shift) {
+        if (day == NO_DAY) {
+            return;
+        }
+        final Date date = CalendarUtils.fromEpochDay(day);
+        dateSelectionModel.setValueIsAdjusting(true);
+        if (!control) {
+            dateSelectionModel.clearSelection();
+        }
+        if (shift && (dateSelectionModel.getLeadSelectionDate() != null)) {
+            dateSelectionModel.addSelectionInterval(dateSelectionModel.getLeadSelectionDate(), date);
+        } else if (control && dateSelectionModel.isSelectedDate(date)) {
+            dateSelectionModel.removeSelectionInterval(date, date);
+        } else {
+            dateSelectionModel.addSelectionInterval(date, date);
+        }
+        dateSelectionModel.setLeadSelectionDate(date);
+        dateSelectionModel.setValueIsAdjusting(false);
+    }
+
+    /**
+     * Computes the margins for the labels with the current font, only after
+     * the font, locale, cell size or years change.
+     */
+    private void measure() {
+        if (measured) {
+            return;
+        }
+        measured = true;
+        final FontMetrics fm = getFontMetrics(getFont());
+        final LocaleNames names = LocaleNames.get(getLocale());
+        int width = fm.stringWidth(Integer.toString(startYear + years - 1));
+        for (int i = Calendar.SUNDAY; i <= Calendar.SATURDAY; i++) {
+            width = Math.max(width, fm.stringWidth(names.getShortWeekday(i)));
+        }
+        left = width + gap * 2;
+        header = fm.getHeight() + gap;
+    }
+
+    private int blockHeight() {
+        return header + 7 * (cellSize + gap) + cellSize;
+    }
+
+    private long gridStart(final int year) {
+        final long jan1 = MonthLayout.epochDay(year, Calendar.JANUARY, 1);
+        return jan1 - Math.floorMod(MonthLayout.dayOfWeek(jan1) - firstDayOfWeek, 7);
+    }
+
+    /**
+     * Returns the bounds of the cell of a day.
+     * @param day local epoch day
+     * @return the bounds, empty if the day is not shown
+     */
+    public Rectangle cellBounds(final long day) {
+        if ((day < first) || (day - first >= values.length)) {
+            return new Rectangle();
+        }
+        measure();
+        final Insets insets = getInsets();
+        final int year = MonthLayout.yearOf(day);
+        final long start = gridStart(year);
+        final int column = (int) ((day - start) / 7);
+        final int row = (int) ((day - start) % 7);
+        return new Rectangle(insets.left + left + column * (cellSize + gap), insets.top + (year - startYear) * blockHeight() + header
+                + row * (cellSize + gap), cellSize, cellSize);
+    }
+
+    /**
+     * Returns the day of the cell at a point.
+     * @param x horizontal coordinate
+     * @param y vertical coordinate
+     * @return the epoch day, NO_DAY outside the cells
+     */
+    public long dayAt(final int x, final int y) {
+        measure();
+        final Insets insets = getInsets();
+        final int bx = x - insets.left - left;
+        final int by = y - insets.top;
+        if ((bx < 0) || (by < 0)) {
+            return NO_DAY;
+        }
+        final int block = by / blockHeight();
+        final int cy = by % blockHeight() - header;
+        if ((block >= years) || (cy < 0) || (cy % (cellSize + gap) >= cellSize) || (bx % (cellSize + gap) >= cellSize)) {
+            return NO_DAY;
+        }
+        final int row = cy / (cellSize + gap);
+        if (row >= 7) {
+            return NO_DAY;
+        }
+        final int year = startYear + block;
+        final long day = gridStart(year) + (bx / (cellSize + gap)) * 7L + row;
+        return MonthLayout.yearOf(day) == year ? day : NO_DAY;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#getToolTipText(java.awt.event.MouseEvent)
+     */
+    @Override
+    public String getToolTipText(final MouseEvent event) {
+        final long day = dayAt(event.getX(), event.getY());
+        if (day == NO_DAY) {
+            return null;
+        }
+        if (dateFormat == null) {
+            dateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, getLocale());
+            numberFormat = NumberFormat.getInstance(getLocale());
+        }
+        final String text = dateFormat.format(CalendarUtils.fromEpochDay(day));
+        final double v = getValue(day);
+        return Double.isNaN(v) ? text : text + ": " + numberFormat.format(v);
+    }
+
+    /* (non-Javadoc)
+     * @see java.awt.Component#setLocale(java.util.Locale)
+     */
+    @Override
+    public void setLocale(final Locale l) {
+        super.setLocale(l);
+        dateFormat = null;
+        measured = false;
+        repaint();
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#setFont(java.awt.Font)
+     */
+    @Override
+    public void setFont(final Font font) {
+        super.setFont(font);
+        measured = false;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#updateUI()
+     */
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        measured = false;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#getPreferredSize()
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        measure();
+        final Insets insets = getInsets();
+        return new Dimension(insets.left + insets.right + left + 54 * (cellSize + gap), insets.top + insets.bottom + years * blockHeight());
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#paintComponent(java.awt.Graphics)
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        measure();
+        final Rectangle clip = g.getClipBounds() != null ? g.getClipBounds() : new Rectangle(0, 0, getWidth(), getHeight());
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        }
+        final Insets insets = getInsets();
+        final FontMetrics fm = g.getFontMetrics();
+        final LocaleNames names = LocaleNames.get(getLocale());
+        final int step = cellSize + gap;
+        final int block = blockHeight();
+        final int firstBlock = Math.max(0, (clip.y - insets.top) / block);
+        final int lastBlock = Math.min(years - 1, (clip.y + clip.height - insets.top) / block);
+        for (int b = firstBlock; b <= lastBlock; b++) {
+            final int year = startYear + b;
+            final int top = insets.top + b * block;
+            final long start = gridStart(year);
+            final long jan1 = MonthLayout.epochDay(year, Calendar.JANUARY, 1);
+            final long end = MonthLayout.epochDay(year + 1, Calendar.JANUARY, 1);
+
+            // labels
+            g.setColor(getForeground());
+            if (clip.intersects(0, top, getWidth(), header)) {
+                g.drawString(Integer.toString(year), insets.left, top + fm.getAscent());
+                for (int m = 0; m < 12; m++) {
+                    final long day = MonthLayout.epochDay(year, m, 1);
+                    g.drawString(names.getShortMonth(m), insets.left + left + (int) ((day - start) / 7) * step, top + fm.getAscent());
+                }
+            }
+            if (clip.x < insets.left + left) {
+                for (int row = 1; row < 7; row += 2) {
+                    final int dow = (firstDayOfWeek - 1 + row) % 7 + 1;
+                    g.drawString(names.getShortWeekday(dow), insets.left, top + header + row * step + (cellSize + fm.getAscent()) / 2 - 1);
+                }
+            }
+
+            // cells in the clip
+            final int firstColumn = Math.max(0, (clip.x - insets.left - left) / step);
+            final int lastColumn = Math.min(53, (clip.x + clip.width - insets.left - left) / step);
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                final int x = insets.left + left + c * step;
+                for (int row = 0; row < 7; row++) {
+                    final long day = start + c * 7L + row;
+                    if ((day < jan1) || (day >= end)) {
+                        continue;
+                    }
+                    final int index = (int) (day - first);
+                    final int y = top + header + row * step;
+                    g.setColor(palette[buckets[index]]);
+                    g.fillRect(x, y, cellSize, cellSize);
+                    if (selected[index]) {
+                        g.setColor(selectionColor);
+                        g.drawRect(x, y, cellSize - 1, cellSize - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the lowest value of the years shown.
+     * @return the minimum, NaN without data
+     */
+    public double getMinimum() {
+        return min;
+    }
+
+    /**
+     * Returns the highest value of the years shown.
+     * @return the maximum, NaN without data
+     */
+    public double getMaximum() {
+        return max;
+    }
+
+    /**
+     * Returns the days selected in the years shown.
+     * @return sorted epoch days
+     */
+    public long[] getSelectedDays() {
+        long[] retorno = new long[16];
+        int size = 0;
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                if (size == retorno.length) {
+                    retorno = Arrays.copyOf(retorno, size * 2);
+                }
+                retorno[size++] = first + i;
+            }
+        }
+        return Arrays.copyOf(retorno, size);
+    }
+}
@@ -48,9 +48,11 @@ import javax.swing.JFormattedTextField;
 import javax.swing.SwingConstants;
 import javax.swing.border.Border;
 import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import javax.swing.text.MaskFormatter;
 
 import lombok.extern.slf4j.Slf4j;
+import net.sf.nachocalendar.event.ListenerRegistry;
 
 /**
  * Component used to change the current year. It extends from JComboBox
@@ -210,10 +212,7 @@ public class YearScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to register.
      */
-    public synchronized void addChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList == null) {
-            changeListenerList = new java.util.ArrayList();
-        }
+    public void addChangeListener(final ChangeListener listener) {
         changeListenerList.add(listener);
     }
 
@@ -223,10 +222,8 @@ public class YearScroller extends javax.swing.JPanel {
      * @param listener
      *            The listener to remove.
      */
-    public synchronized void removeChangeListener(final javax.swing.event.ChangeListener listener) {
-        if (changeListenerList != null) {
-            changeListenerList.remove(listener);
-        }
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListenerList.remove(listener);
     }
 
     /**
@@ -236,16 +233,7 @@ public class YearScroller extends javax.swing.JPanel {
      *            The event to be fired
      */
     private void fireChangeListenerStateChanged(final javax.swing.event.ChangeEvent event) {
-        java.util.ArrayList list;
-        synchronized (this) {
-            if (changeListenerList == null) {
-                return;
-            }
-            list = (java.util.ArrayList) changeListenerList.clone();
-        }
-        for (int i = 0; i < list.size(); i++) {
-            ((javax.swing.event.ChangeListener) list.get(i)).stateChanged(event);
-        }
+        changeListenerList.fire(ChangeListener::stateChanged, event);
     }
 
     /**
@@ -271,6 +259,6 @@ public class YearScroller extends javax.swing.JPanel {
     /**
      * Utility field holding list of ChangeListeners.
      */
-    private transient java.util.ArrayList changeListenerList;
+    private final ListenerRegistry<ChangeListener> changeListenerList = new ListenerRegistry<ChangeListener>();
 
 }
@@ -0,0 +1,335 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * ConfigurationSource.java
+ *
+ * Created on October 19, 2026
+ */
+package net.sf.nachocalendar.customizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import javax.swing.SwingUtilities;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sf.nachocalendar.components.CalendarPanel;
+import net.sf.nachocalendar.components.DateField;
+import net.sf.nachocalendar.components.DatePanel;
+
+/**
+ * Setter reading a .properties or .xml file that can be reloaded while the
+ * application runs. The components it customizes are remembered, weakly,
+ * and when the file changes only the settings that changed are applied to
+ * the components that use them, on the event dispatch thread. Components
+ * are never rebuilt. Settings removed from the file keep their current
+ * value. The file is not read again while its size and modification time
+ * stay the same, and not parsed again while its content does.
+ *
+ * @author Ignacio Merani
+ */
+@Slf4j
+public final class ConfigurationSource implements PropertiesSetter, Closeable {
+    /** Time given to an editor to finish writing the file. */
+    private static final long SETTLE = 100;
+    /** Coarsest modification time resolution of the usual file systems. */
+    private static final long RESOLUTION = 2000;
+
+    private final Path file;
+    private volatile Customizer customizer;
+    private volatile DirectSetter setter;
+    private final Set<DateField> datefields = Collections.newSetFromMap(new WeakHashMap<DateField, Boolean>());
+    private final Set<CalendarPanel> calendarpanels = Collections.newSetFromMap(new WeakHashMap<CalendarPanel, Boolean>());
+    private final Set<DatePanel> datepanels = Collections.newSetFromMap(new WeakHashMap<DatePanel, Boolean>());
+    private WatchService watcher;
+    private long size;
+    private FileTime modified;
+    private long readAt;
+    private long checksum;
+
+    /**
+     * Reads the configuration file.
+     * @param file a .properties or .xml file
+     * @throws IOException if the file can not be read
+     */
+    public ConfigurationSource(final Path file) throws IOException {
+        this.file = file.toAbsolutePath();
+        final byte[] content = readFile();
+        customizer = parse(this.file, content);
+        checksum = checksum(content);
+        setter = new DirectSetter(customizer);
+    }
+
+    /**
+     * Reads the whole file, remembering its size and modification time.
+     * @return the content
+     * @throws IOException if the file can not be read
+     */
+    private byte[] readFile() throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        readAt = System.currentTimeMillis();
+        size = attributes.size();
+        modified = attributes.lastModifiedTime();
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Checks if the file may have changed since it was read. A change in
+     * the same tick of the modification time is only trusted once that
+     * tick is old enough, otherwise a quick save of the same size would
+     * be missed.
+     * @return true if the file must be read again
+     * @throws IOException if the file attributes can not be read
+     */
+    private boolean touched() throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return (attributes.size() != size) || !attributes.lastModifiedTime().equals(modified)
+            || (readAt - modified.toMillis() < RESOLUTION);
+    }
+
+    private static long checksum(final byte[] content) {
+        final CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        return crc.getValue();
+    }
+
+    private static Customizer parse(final Path file, final byte[] content) throws IOException {
+        final String name = file.getFileName().toString().toLowerCase();
+        try (InputStream is = new ByteArrayInputStream(content)) {
+            if (name.endsWith(".properties")) {
+                return new PropertiesCustomizer(is);
+            }
+            if (name.endsWith(".xml")) {
+                return new XMLCustomizer(is);
+            }
+        }
+        throw new IllegalArgumentException("Configuration file not valid");
+    }
+
+    /**
+     * Getter for property file.
+     * @return the configuration file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DateField)
+     */
+    @Override
+    public void customize(final DateField datefield) {
+        setter.customize(datefield);
+        synchronized (datefields) {
+            datefields.add(datefield);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.CalendarPanel)
+     */
+    @Override
+    public void customize(final CalendarPanel calendarpanel) {
+        setter.customize(calendarpanel);
+        synchronized (calendarpanels) {
+            calendarpanels.add(calendarpanel);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DatePanel)
+     */
+    @Override
+    public void customize(final DatePanel datepanel) {
+        setter.customize(datepanel);
+        synchronized (datepanels) {
+            datepanels.add(datepanel);
+        }
+    }
+
+    /**
+     * Reads the file again and applies the settings that changed to the
+     * customized components. Nothing is read if the file was not touched,
+     * and nothing is parsed if its content is the same.
+     * @return true if something changed
+     * @throws IOException if the file can not be read, the current
+     * settings are kept
+     */
+    public synchronized boolean reload() throws IOException {
+        if (!touched()) {
+            return false;
+        }
+        final byte[] content = readFile();
+        final long sum = checksum(content);
+        if (sum == checksum) {
+            return false;
+        }
+        final Customizer next = parse(file, content);
+        checksum = sum;
+        final Set<String> changed = changes(customizer, next);
+        if (changed.isEmpty()) {
+            return false;
+        }
+        final DirectSetter nextSetter = new DirectSetter(next);
+        customizer = next;
+        setter = nextSetter;
+        log.info("Configuration changed: {}", changed);
+        SwingUtilities.invokeLater(() -> push(nextSetter, changed));
+        return true;
+    }
+
+    /**
+     * Returns the keys of the new configuration with a different value.
+     * Removed keys are not included, their settings keep the current value.
+     * @param before the old configuration
+     * @param after the new configuration
+     * @return the keys that changed
+     */
+    static Set<String> changes(final Customizer before, final Customizer after) {
+        final Set<String> retorno = new HashSet<String>();
+        for (final Object name : after.keySet()) {
+            final String key = name.toString();
+            final String value = trim(after.getString(key));
+            if ((value != null) && !value.equals(trim(before.getString(key)))) {
+                retorno.add(key);
+            }
+        }
+        if (retorno.contains("sharedRenderers")) {
+            retorno.add("headerRenderer");
+            retorno.add("renderer");
+        }
+        return retorno;
+    }
+
+    private static String trim(final String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private void push(final DirectSetter next, final Set<String> changed) {
+        for (final DateField datefield : snapshot(datefields)) {
+            next.update(datefield, changed);
+        }
+        for (final CalendarPanel calendarpanel : snapshot(calendarpanels)) {
+            next.update(calendarpanel, changed);
+        }
+        for (final DatePanel datepanel : snapshot(datepanels)) {
+            next.update(datepanel, changed);
+        }
+    }
+
+    private static <T> List<T> snapshot(final Set<T> components) {
+        synchronized (components) {
+            return new ArrayList<T>(components);
+        }
+    }
+
+    /**
+     * Starts watching the file, every change is reloaded. The watching
+     * thread is a daemon, it stops with {@link #close()}.
+     * @throws IOException if the directory can not be watched
+     */
+    public synchronized void watch() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        final WatchService service = file.getFileSystem().newWatchService();
+        // editors often replace the file instead of writing it
+        file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = service;
+        final Thread thread = new Thread(() -> run(service), "NachoCalendar configuration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Checks if the file is being watched.
+     * @return true if watching
+     */
+    public synchronized boolean isWatching() {
+        return watcher != null;
+    }
+
+    private void run(final WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                while (key != null) {
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        if (file.getFileName().equals(event.context())) {
+                            touched = true;
+                        }
+                    }
+                    if (!key.reset()) {
+                        log.warn("{} can not be watched anymore", file.getParent());
+                        return;
+                    }
+                    // one save usually gives several events
+                    key = touched ? service.poll(SETTLE, TimeUnit.MILLISECONDS) : null;
+                }
+                if (touched) {
+                    try {
+                        reload();
+                    } catch (final IOException | RuntimeException e) {
+                        log.warn("Configuration not reloaded", e);
+                    }
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     * @throws IOException if the watch service fails to close
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+}
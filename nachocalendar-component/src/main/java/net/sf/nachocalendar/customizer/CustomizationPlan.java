@@ -0,0 +1,288 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * CustomizationPlan.java
+ *
+ * Created on October 19, 2026
+ */
+package net.sf.nachocalendar.customizer;
+
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
+/**
+ * A customization compiled once: values are already parsed and classes
+ * resolved, so applying it to a component only calls its setters, in one
+ * pass. Steps built with {@link Builder#setIfChanged} are skipped when the
+ * component already has the value, avoiding their refresh. Swing
+ * components are customized as one batch: the repaints and revalidations
+ * requested by the setters are dropped, and the component is revalidated
+ * and repainted once at the end. Steps can be tagged with the
+ * configuration key they come from, to apply only the settings that
+ * changed.
+ *
+ * @param <T> type of the component
+ * @author Ignacio Merani
+ */
+public final class CustomizationPlan<T> {
+    private final List<Consumer<? super T>> steps;
+    private final String[] keys;
+
+    private CustomizationPlan(final List<Consumer<? super T>> steps, final String[] keys) {
+        this.steps = steps;
+        this.keys = keys;
+    }
+
+    /**
+     * Applies every step to the component.
+     * @param component the component to customize
+     */
+    public void apply(final T component) {
+        batch(component, () -> {
+            for (int i = 0; i < keys.length; i++) {
+                steps.get(i).accept(component);
+            }
+        });
+    }
+
+    /**
+     * Applies the steps of the given keys, in the order of the plan. The
+     * component is left alone if the plan uses none of the keys.
+     * @param component the component to customize
+     * @param only keys of the steps to apply
+     */
+    public void apply(final T component, final Set<String> only) {
+        if (!uses(only)) {
+            return;
+        }
+        batch(component, () -> {
+            for (int i = 0; i < keys.length; i++) {
+                if ((keys[i] != null) && only.contains(keys[i])) {
+                    steps.get(i).accept(component);
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks if the plan has a step for any of the keys.
+     * @param only the keys
+     * @return true if some step comes from one of the keys
+     */
+    public boolean uses(final Set<String> only) {
+        for (int i = 0; i < keys.length; i++) {
+            if ((keys[i] != null) && only.contains(keys[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the steps. On the event dispatch thread a Swing component is
+     * customized with its repaints held back, then revalidated and
+     * repainted once; anything else just runs the steps.
+     * @param component the component to customize
+     * @param steps the steps to run
+     */
+    private static void batch(final Object component, final Runnable steps) {
+        if (!(component instanceof JComponent) || !SwingUtilities.isEventDispatchThread()) {
+            steps.run();
+            return;
+        }
+        final JComponent root = (JComponent) component;
+        final RepaintManager current = RepaintManager.currentManager(root);
+        RepaintManager.setCurrentManager(new Batch(root, current));
+        try {
+            steps.run();
+        } finally {
+            RepaintManager.setCurrentManager(current);
+        }
+        root.revalidate();
+        root.repaint();
+    }
+
+    /**
+     * Returns the number of steps.
+     * @return the steps
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Creates an empty builder.
+     * @param <T> type of the component
+     * @return the builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<T>();
+    }
+
+    /**
+     * Builder of CustomizationPlan.
+     * @param <T> type of the component
+     */
+    public static final class Builder<T> {
+        private final List<Consumer<? super T>> steps = new ArrayList<Consumer<? super T>>();
+        private final List<String> keys = new ArrayList<String>();
+        private String key;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the configuration key of the steps added next.
+         * @param key the key, null for none
+         * @return this builder
+         */
+        public Builder<T> key(final String key) {
+            this.key = key;
+            return this;
+        }
+
+        private void add(final Consumer<? super T> step) {
+            steps.add(step);
+            keys.add(key);
+        }
+
+        /**
+         * Adds a step that sets a value.
+         * @param setter the setter
+         * @param value the value
+         * @param <V> type of the value
+         * @return this builder
+         */
+        public <V> Builder<T> set(final BiConsumer<? super T, V> setter, final V value) {
+            add(c -> setter.accept(c, value));
+            return this;
+        }
+
+        /**
+         * Adds a step that sets a value created for each component. Nothing
+         * is set when the factory returns null.
+         * @param setter the setter
+         * @param factory creates the value
+         * @param <V> type of the value
+         * @return this builder
+         */
+        public <V> Builder<T> create(final BiConsumer<? super T, V> setter, final Supplier<? extends V> factory) {
+            add(c -> {
+                final V value = factory.get();
+                if (value != null) {
+                    setter.accept(c, value);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Adds a step that sets a value unless the component already has
+         * it.
+         * @param getter the getter
+         * @param setter the setter
+         * @param value the value
+         * @param <V> type of the value
+         * @return this builder
+         */
+        public <V> Builder<T> setIfChanged(final Function<? super T, V> getter, final BiConsumer<? super T, V> setter, final V value) {
+            add(c -> {
+                if (!same(getter.apply(c), value)) {
+                    setter.accept(c, value);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Builds the plan.
+         * @return the plan
+         */
+        public CustomizationPlan<T> build() {
+            return new CustomizationPlan<T>(new ArrayList<Consumer<? super T>>(steps), keys.toArray(new String[keys.size()]));
+        }
+    }
+
+    /**
+     * RepaintManager installed while a batch runs. It drops the requests of
+     * the customized component and its children, and passes the others on.
+     */
+    private static final class Batch extends RepaintManager {
+        private final JComponent root;
+        private final RepaintManager delegate;
+
+        Batch(final JComponent root, final RepaintManager delegate) {
+            this.root = root;
+            this.delegate = delegate;
+        }
+
+        /* (non-Javadoc)
+         * @see javax.swing.RepaintManager#addDirtyRegion(javax.swing.JComponent, int, int, int, int)
+         */
+        @Override
+        public void addDirtyRegion(final JComponent c, final int x, final int y, final int w, final int h) {
+            if (!SwingUtilities.isDescendingFrom(c, root)) {
+                delegate.addDirtyRegion(c, x, y, w, h);
+            }
+        }
+
+        /* (non-Javadoc)
+         * @see javax.swing.RepaintManager#addDirtyRegion(java.awt.Window, int, int, int, int)
+         */
+        @Override
+        public void addDirtyRegion(final Window window, final int x, final int y, final int w, final int h) {
+            delegate.addDirtyRegion(window, x, y, w, h);
+        }
+
+        /* (non-Javadoc)
+         * @see javax.swing.RepaintManager#addInvalidComponent(javax.swing.JComponent)
+         */
+        @Override
+        public void addInvalidComponent(final JComponent invalidComponent) {
+            if (!SwingUtilities.isDescendingFrom(invalidComponent, root)) {
+                delegate.addInvalidComponent(invalidComponent);
+            }
+        }
+    }
+
+    private static boolean same(final Object a, final Object b) {
+        if ((a instanceof boolean[]) && (b instanceof boolean[])) {
+            return Arrays.equals((boolean[]) a, (boolean[]) b);
+        }
+        return Objects.equals(a, b);
+    }
+}
@@ -32,21 +32,33 @@
  */
 package net.sf.nachocalendar.customizer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.text.DateFormat;
+import java.text.DateFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 import net.sf.nachocalendar.components.CalendarPanel;
 import net.sf.nachocalendar.components.DateField;
 import net.sf.nachocalendar.components.DatePanel;
 import net.sf.nachocalendar.components.DayRenderer;
+import net.sf.nachocalendar.components.DefaultDayRenderer;
+import net.sf.nachocalendar.components.DefaultHeaderRenderer;
 import net.sf.nachocalendar.components.HeaderRenderer;
 import net.sf.nachocalendar.model.DataModel;
 import net.sf.nachocalendar.model.DateSelectionModel;
 
 /**
  * Class that sets properties of components
- * using direct calls to methods.
+ * using direct calls to methods. The configuration
+ * is compiled once into a {@link CustomizationPlan}
+ * per component type.
  * 
  * @author Ignacio Merani
  *
@@ -66,6 +78,10 @@ public class DirectSetter implements PropertiesSetter {
     private int scrollPosition = CalendarPanel.LEFT;
     private int yearPosition = CalendarPanel.UP;
     private String dateFormat;
+    private boolean sharedRenderers;
+    private CustomizationPlan<DateField> dateFieldPlan;
+    private CustomizationPlan<CalendarPanel> calendarPanelPlan;
+    private CustomizationPlan<DatePanel> datePanelPlan;
 
     /**
      * Constructor with a Customizer.
@@ -95,8 +111,11 @@ public class DirectSetter implements PropertiesSetter {
     private void init(final Customizer customizer) {
         final String first = customizer.getString("firstDayOfWeek");
         if (first != null) {
-            if (first.toLowerCase().equals("monday")) {
-                this.firstDayOfWeek = Calendar.MONDAY;
+            final String[] names = new DateFormatSymbols(Locale.ENGLISH).getWeekdays();
+            for (int i = Calendar.SUNDAY; i <= Calendar.SATURDAY; i++) {
+                if (names[i].equalsIgnoreCase(first)) {
+                    this.firstDayOfWeek = i;
+                }
             }
         }
 
@@ -174,6 +193,8 @@ public class DirectSetter implements PropertiesSetter {
                 this.yearPosition = CalendarPanel.DOWN;
             }
         }
+        sharedRenderers = customizer.getBoolean("sharedRenderers");
+        compile();
         initialized = true;
     }
 
@@ -186,159 +207,200 @@ public class DirectSetter implements PropertiesSetter {
         }
     }
 
-    /* (non-Javadoc)
-     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DateField)
+    /**
+     * Compiles the values read into one plan per component type. Classes
+     * are resolved to constructor handles here, so customizing a component
+     * does not use reflection.
      */
-    @Override
-    public void customize(final DateField datefield) {
-        if (!initialized) {
-            throw new IllegalStateException("This setter is not initialized.");
-        }
-        datefield.setFirstDayOfWeek(firstDayOfWeek);
-
-        datefield.setAllowsInvalid(allowsInvalid);
-
-        datefield.setAntiAliased(antiAliased);
-
+    private void compile() {
+        final Supplier<HeaderRenderer> headers = factory(headerRenderer, HeaderRenderer.class, DefaultHeaderRenderer.class,
+                DefaultHeaderRenderer::getSharedInstance);
+        final Supplier<DataModel> models = factory(model, DataModel.class, null, null);
+        final Supplier<DayRenderer> renderers = factory(renderer, DayRenderer.class, DefaultDayRenderer.class, DefaultDayRenderer::getSharedInstance);
+
+        final CustomizationPlan.Builder<DateField> df = CustomizationPlan.builder();
+        df.key("firstDayOfWeek").set(DateField::setFirstDayOfWeek, firstDayOfWeek);
+        df.key("allowsInvalid").set(DateField::setAllowsInvalid, allowsInvalid);
+        df.key("antiAliased").set(DateField::setAntiAliased, antiAliased);
         if (dateFormat != null) {
-            datefield.setDateFormat(new SimpleDateFormat(dateFormat));
+            final SimpleDateFormat template = new SimpleDateFormat(dateFormat);
+            df.key("dateFormat").create(DateField::setDateFormat, () -> (DateFormat) template.clone());
         }
-
-        if (headerRenderer != null) {
-            try {
-                datefield.setHeaderRenderer((HeaderRenderer) headerRenderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Header renderer", e);
-            }
+        if (headers != null) {
+            df.key("headerRenderer").create(DateField::setHeaderRenderer, headers);
         }
-
-        if (model != null) {
-            try {
-                datefield.setModel((DataModel) model.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Model", e);
-            }
+        if (models != null) {
+            df.key("model").create(DateField::setModel, models);
         }
-
-        datefield.setPrintMoon(printMoon);
-
-        if (renderer != null) {
-            try {
-                datefield.setRenderer((DayRenderer) renderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("renderer", e);
-            }
+        df.key("printMoon").set(DateField::setPrintMoon, printMoon);
+        if (renderers != null) {
+            df.key("renderer").create(DateField::setRenderer, renderers);
         }
-
-        datefield.setShowOkCancel(showOkCancel);
-        datefield.setShowToday(showToday);
+        df.key("showOkCancel").set(DateField::setShowOkCancel, showOkCancel);
+        df.key("showToday").set(DateField::setShowToday, showToday);
         if (todayCaption != null) {
-            datefield.setTodayCaption(todayCaption);
+            df.key("todayCaption").set(DateField::setTodayCaption, todayCaption);
         }
-
         if (workingDays != null) {
-            datefield.setWorkingDays(workingDays);
+            df.key("workingDays").set(DateField::setWorkingDays, workingDays);
         }
-
-    }
-
-    /* (non-Javadoc)
-     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.CalendarPanel)
-     */
-    @Override
-    public void customize(final CalendarPanel calendarpanel) {
-        if (!initialized) {
-            throw new IllegalStateException("This setter is not initialized.");
+        dateFieldPlan = df.build();
+
+        final CustomizationPlan.Builder<CalendarPanel> cp = CustomizationPlan.builder();
+        cp.key("firstDayOfWeek").setIfChanged(CalendarPanel::getFirstDayOfWeek, CalendarPanel::setFirstDayOfWeek, firstDayOfWeek);
+        cp.key("antiAliased").setIfChanged(CalendarPanel::isAntiAliased, CalendarPanel::setAntiAliased, antiAliased);
+        cp.key("selectionMode").setIfChanged(CalendarPanel::getSelectionMode, CalendarPanel::setSelectionMode, selectionMode);
+        if (headers != null) {
+            cp.key("headerRenderer").create(CalendarPanel::setHeaderRenderer, headers);
         }
-        calendarpanel.setFirstDayOfWeek(firstDayOfWeek);
-
-        calendarpanel.setAntiAliased(antiAliased);
-        calendarpanel.setSelectionMode(selectionMode);
-        if (headerRenderer != null) {
-            try {
-                calendarpanel.setHeaderRenderer((HeaderRenderer) headerRenderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Header renderer", e);
-            }
+        if (models != null) {
+            cp.key("model").create(CalendarPanel::setModel, models);
         }
-
-        if (model != null) {
-            try {
-                calendarpanel.setModel((DataModel) model.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Model", e);
-            }
+        cp.key("printMoon").set(CalendarPanel::setPrintMoon, printMoon);
+        if (renderers != null) {
+            cp.key("renderer").create(CalendarPanel::setRenderer, renderers);
         }
-
-        calendarpanel.setPrintMoon(printMoon);
-
-        if (renderer != null) {
-            try {
-                calendarpanel.setRenderer((DayRenderer) renderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("renderer", e);
-            }
+        cp.key("showToday").set(CalendarPanel::setShowToday, showToday);
+        if (todayCaption != null) {
+            cp.key("todayCaption").set(CalendarPanel::setTodayCaption, todayCaption);
         }
-
-        calendarpanel.setShowToday(showToday);
+        if (workingDays != null) {
+            cp.key("workingDays").setIfChanged(CalendarPanel::getWorkingdays, CalendarPanel::setWorkingdays, workingDays);
+        }
+        // the layout is changed last, once every month is set
+        cp.key("orientation").set(CalendarPanel::setOrientation, orientation);
+        cp.key("scrollPosition").set(CalendarPanel::setScrollPosition, scrollPosition);
+        cp.key("yearPosition").set(CalendarPanel::setYearPosition, yearPosition);
+        calendarPanelPlan = cp.build();
+
+        final CustomizationPlan.Builder<DatePanel> dp = CustomizationPlan.builder();
+        dp.key("firstDayOfWeek").setIfChanged(DatePanel::getFirstDayOfWeek, DatePanel::setFirstDayOfWeek, firstDayOfWeek);
+        dp.key("antiAliased").setIfChanged(DatePanel::isAntiAliased, DatePanel::setAntiAliased, antiAliased);
+        dp.key("selectionMode").setIfChanged(DatePanel::getSelectionMode, DatePanel::setSelectionMode, selectionMode);
+        if (headers != null) {
+            dp.key("headerRenderer").create(DatePanel::setHeaderRenderer, headers);
+        }
+        if (models != null) {
+            dp.key("model").create(DatePanel::setModel, models);
+        }
+        dp.key("printMoon").set(DatePanel::setPrintMoon, printMoon);
+        if (renderers != null) {
+            dp.key("renderer").create(DatePanel::setRenderer, renderers);
+        }
+        dp.key("showToday").set(DatePanel::setShowToday, showToday);
         if (todayCaption != null) {
-            calendarpanel.setTodayCaption(todayCaption);
+            dp.key("todayCaption").set(DatePanel::setTodayCaption, todayCaption);
         }
-
         if (workingDays != null) {
-            calendarpanel.setWorkingdays(workingDays);
+            dp.key("workingDays").setIfChanged(DatePanel::getWorkingDays, DatePanel::setWorkingDays, workingDays);
         }
-
-        calendarpanel.setOrientation(orientation);
-        calendarpanel.setScrollPosition(scrollPosition);
-        calendarpanel.setYearPosition(yearPosition);
+        datePanelPlan = dp.build();
     }
 
-    /* (non-Javadoc)
-     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DatePanel)
+    /**
+     * Returns a factory for the instances of a configured class. The
+     * default class gives its shared instance, other classes are created
+     * through a constructor handle, or shared too if sharedRenderers is set.
      */
-    @Override
-    public void customize(final DatePanel datepanel) {
-        if (!initialized) {
-            throw new IllegalStateException("This setter is not initialized.");
+    private <T> Supplier<T> factory(final Class cls, final Class<T> type, final Class defaultClass, final Supplier<T> shared) {
+        if (cls == null) {
+            return null;
         }
-        datepanel.setFirstDayOfWeek(firstDayOfWeek);
-
-        datepanel.setAntiAliased(antiAliased);
-        datepanel.setSelectionMode(selectionMode);
-        if (headerRenderer != null) {
-            try {
-                datepanel.setHeaderRenderer((HeaderRenderer) headerRenderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Header renderer", e);
-            }
+        if (!type.isAssignableFrom(cls)) {
+            log.error("{} is not a {}", cls.getName(), type.getName());
+            return null;
         }
-
-        if (model != null) {
+        if ((shared != null) && (cls == defaultClass)) {
+            return shared;
+        }
+        final MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup().findConstructor(cls, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            log.error("Constructor of " + cls.getName(), e);
+            return null;
+        }
+        final Supplier<T> create = () -> {
             try {
-                datepanel.setModel((DataModel) model.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Model", e);
+                return type.cast(constructor.invokeExact());
+            } catch (final Throwable e) {
+                log.error("Instance of " + cls.getName(), e);
+                return null;
             }
+        };
+        if ((shared == null) || !sharedRenderers) {
+            return create;
         }
+        // renderers are only used on the event dispatch thread, one is enough
+        final Object[] instance = new Object[1];
+        return () -> {
+            if (instance[0] == null) {
+                instance[0] = create.get();
+            }
+            return type.cast(instance[0]);
+        };
+    }
 
-        datepanel.setPrintMoon(printMoon);
+    /**
+     * Applies to a DateField only the settings of the given keys.
+     * @param datefield the component
+     * @param keys the configuration keys that changed
+     */
+    void update(final DateField datefield, final Set<String> keys) {
+        checkInitialized();
+        dateFieldPlan.apply(datefield, keys);
+    }
 
-        if (renderer != null) {
-            try {
-                datepanel.setRenderer((DayRenderer) renderer.newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                log.error("Renderer", e);
-            }
-        }
+    /**
+     * Applies to a CalendarPanel only the settings of the given keys.
+     * @param calendarpanel the component
+     * @param keys the configuration keys that changed
+     */
+    void update(final CalendarPanel calendarpanel, final Set<String> keys) {
+        checkInitialized();
+        calendarPanelPlan.apply(calendarpanel, keys);
+    }
 
-        datepanel.setShowToday(showToday);
-        if (todayCaption != null) {
-            datepanel.setTodayCaption(todayCaption);
-        }
+    /**
+     * Applies to a DatePanel only the settings of the given keys.
+     * @param datepanel the component
+     * @param keys the configuration keys that changed
+     */
+    void update(final DatePanel datepanel, final Set<String> keys) {
+        checkInitialized();
+        datePanelPlan.apply(datepanel, keys);
+    }
 
-        if (workingDays != null) {
-            datepanel.setWorkingDays(workingDays);
+    private void checkInitialized() {
+        if (!initialized) {
+            throw new IllegalStateException("This setter is not initialized.");
         }
     }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DateField)
+     */
+    @Override
+    public void customize(final DateField datefield) {
+        checkInitialized();
+        dateFieldPlan.apply(datefield);
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.CalendarPanel)
+     */
+    @Override
+    public void customize(final CalendarPanel calendarpanel) {
+        checkInitialized();
+        calendarPanelPlan.apply(calendarpanel);
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.customizer.PropertiesSetter#customize(net.sf.nachocalendar.components.DatePanel)
+     */
+    @Override
+    public void customize(final DatePanel datepanel) {
+        checkInitialized();
+        datePanelPlan.apply(datepanel);
+    }
 }
@@ -37,29 +37,56 @@ import java.io.InputStream;
 import java.util.Properties;
 import java.util.Set;
 
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
-import org.xml.sax.Attributes;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * This class reads an xml file to get properties values.
+ * The file is read with a streaming parser, only the
+ * property elements are kept.
  * @author Ignacio Merani
  *
  * 
  */
-public class XMLCustomizer extends DefaultHandler implements Customizer {
-    private Properties properties;
-    private String name;
-    private StringBuffer value;
+public class XMLCustomizer implements Customizer {
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private final Properties properties = new Properties();
+
+    public XMLCustomizer(final InputStream config) throws IOException {
+        try {
+            final XMLStreamReader reader = FACTORY.createXMLStreamReader(config);
+            try {
+                read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new IOException("Invalid configuration: " + e.getMessage(), e);
+        }
+    }
 
-    public XMLCustomizer(final InputStream config) throws SAXException, IOException, ParserConfigurationException {
-        final SAXParserFactory factory = SAXParserFactory.newInstance();
-        final SAXParser parser = factory.newSAXParser();
-        parser.parse(config, this);
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        // the internal DTD only declares the elements, nothing to resolve
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    private void read(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if ((reader.next() == XMLStreamConstants.START_ELEMENT) && reader.getLocalName().equals("property")) {
+                final String name = reader.getAttributeValue(null, "name");
+                final String value = reader.getElementText();
+                if (name != null) {
+                    properties.put(name, value);
+                }
+            }
+        }
     }
 
     /* (non-Javadoc)
@@ -111,26 +138,4 @@ public class XMLCustomizer extends DefaultHandler implements Customizer {
         return properties.keySet();
     }
 
-    public void startDocument() throws SAXException {
-        properties = new Properties();
-    }
-
-    public void characters(final char[] ch, final int start, final int length) throws SAXException {
-        value.append(ch, start, length);
-
-    }
-
-    public void endElement(final String namespaceURI, final String localName, final String qName) throws SAXException {
-        if (qName.equals("property")) {
-            properties.put(name, value.toString());
-        }
-    }
-
-    public void startElement(final String namespaceURI, final String localName, final String qName, final Attributes atts) throws SAXException {
-        if (qName.equals("property")) {
-            name = atts.getValue("name");
-            value = new StringBuffer();
-        }
-    }
-
 }
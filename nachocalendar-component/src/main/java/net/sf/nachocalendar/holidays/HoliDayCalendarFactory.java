@@ -44,7 +44,6 @@ import net.sf.nachocalendar.components.DateField;
 import net.sf.nachocalendar.components.DatePanel;
 import net.sf.nachocalendar.components.DefaultDayRenderer;
 import net.sf.nachocalendar.components.DefaultHeaderRenderer;
-import net.sf.nachocalendar.components.FormatSymbols;
 
 /**
  * Factory for holiday showing components.
@@ -78,9 +77,8 @@ public final class HoliDayCalendarFactory {
         requiredLocale = userLocale;
         requiredFormatter = new DateFormatter(new java.text.SimpleDateFormat(formatter, userLocale));
 
-        FormatSymbols.getDefaultInstance().setRequiredLocale(requiredLocale);
-
         final DateField datefield = new DateField();
+        datefield.setLocale(requiredLocale);
         datefield.setRenderer(new HolidayDecorator(new DefaultDayRenderer()));
         datefield.setHeaderRenderer(new DefaultHeaderRenderer());
         datefield.setModel(new HoliDayModel());
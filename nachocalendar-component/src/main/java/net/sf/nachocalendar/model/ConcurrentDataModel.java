@@ -0,0 +1,207 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * ConcurrentDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
+
+/**
+ * DataModel that can be updated from any thread. Data is keyed by local
+ * day, so every Date of the same day maps to the same entry. Reads never
+ * lock and writes only contend on the same bucket, so producers are never
+ * blocked by rendering.
+ * <p>
+ * Change events are coalesced: all the days changed between two deliveries
+ * are sent in a single batch on the event dispatch thread, with one
+ * DataChangeEvent per day. The source of the events is the model.
+ *
+ * @author Ignacio Merani
+ */
+public class ConcurrentDataModel implements DataModel, DayDataModel {
+    private final ConcurrentHashMap<Long, Object> data = new ConcurrentHashMap<Long, Object>();
+    private final Set<Long> pending = ConcurrentHashMap.<Long>newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable flusher = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    /**
+     * Utility field holding list of DataModelListeners.
+     */
+    private final ListenerRegistry<DataModelListener> dataModelListenerList = new ListenerRegistry<DataModelListener>();
+
+    /**
+     * Adds new data, replacing the data of the same day if any.
+     * @param date the new date
+     * @param o the new data, null removes the day
+     */
+    public void addData(final Date date, final Object o) {
+        if (o == null) {
+            removeData(date);
+            return;
+        }
+        final Long key = Long.valueOf(CalendarUtils.toEpochDay(date));
+        final Object old = data.put(key, o);
+        if (old != o) {
+            changed(key);
+        }
+    }
+
+    /**
+     * Removes the data of the provided day.
+     * @param date date to be removed
+     */
+    public void removeData(final Date date) {
+        final Long key = Long.valueOf(CalendarUtils.toEpochDay(date));
+        if (data.remove(key) != null) {
+            changed(key);
+        }
+    }
+
+    /**
+     * Returns the quantity of days with data.
+     * @return the size of the Collection
+     */
+    public int getSize() {
+        return data.size();
+    }
+
+    /**
+     * Returns a copy of the data, keyed by the start of each day.
+     * @return Map with the data
+     */
+    public Map getAll() {
+        final Map<Date, Object> retorno = new HashMap<Date, Object>();
+        for (Map.Entry<Long, Object> e : data.entrySet()) {
+            retorno.put(CalendarUtils.fromEpochDay(e.getKey().longValue()), e.getValue());
+        }
+        return retorno;
+    }
+
+    /**
+     * Removes all data.
+     */
+    public void clear() {
+        final Iterator<Long> it = data.keySet().iterator();
+        while (it.hasNext()) {
+            final Long key = it.next();
+            it.remove();
+            changed(key);
+        }
+    }
+
+    /**
+     * Checks if the date provided has data.
+     * @param date Date to be checked
+     * @return the data or null if it has not
+     */
+    @Override
+    public Object getData(final Date date) {
+        if (date == null) {
+            return null;
+        }
+        return data.get(Long.valueOf(CalendarUtils.toEpochDay(date)));
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+     */
+    @Override
+    public Object getData(final long epochDay) {
+        return data.get(Long.valueOf(epochDay));
+    }
+
+    /**
+     * Registers DataModelListener to receive events.
+     * Events are always delivered on the event dispatch thread.
+     * @param listener The listener to register.
+     */
+    public void addDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.add(listener);
+    }
+
+    /**
+     * Registers DataModelListener to receive events, without preventing it
+     * from being garbage collected.
+     * @param listener The listener to register.
+     */
+    public void addWeakDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.addWeak(listener);
+    }
+
+    /**
+     * Removes DataModelListener from the list of listeners.
+     * @param listener The listener to remove.
+     */
+    public void removeDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.remove(listener);
+    }
+
+    private void changed(final Long key) {
+        if (dataModelListenerList.isEmpty()) {
+            return;
+        }
+        pending.add(key);
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(flusher);
+        }
+    }
+
+    /**
+     * Delivers the pending changes. Runs on the event dispatch thread. The
+     * flag is reset before draining, so a change made while draining is
+     * either delivered now or schedules the next batch.
+     */
+    private void flush() {
+        scheduled.set(false);
+        final Iterator<Long> it = pending.iterator();
+        while (it.hasNext()) {
+            final Long key = it.next();
+            it.remove();
+            dataModelListenerList.fire(DataModelListener::dataChanged, new DataChangeEvent(this, CalendarUtils.fromEpochDay(key.longValue())));
+        }
+    }
+}
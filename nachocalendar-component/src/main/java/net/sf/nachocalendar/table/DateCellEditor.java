@@ -0,0 +1,320 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateCellEditor.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.table;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.EventObject;
+
+import javax.swing.AbstractAction;
+import javax.swing.AbstractCellEditor;
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.KeyStroke;
+import javax.swing.border.Border;
+import javax.swing.table.TableCellEditor;
+
+import net.sf.nachocalendar.CalendarFactory;
+import net.sf.nachocalendar.components.DateField;
+
+/**
+ * Light editor for Date cells: a plain text field, the calendar is only
+ * shown when asked for with F4 or alt down. Besides a date in the format,
+ * it accepts:
+ * <ul>
+ * <li><code>t</code> for today,</li>
+ * <li><code>+n</code> or <code>-n</code> followed by <code>d</code>,
+ * <code>w</code>, <code>m</code> or <code>y</code> to move the date of the
+ * cell by days, weeks, months or years (days if omitted),</li>
+ * <li>an empty text for no date.</li>
+ * </ul>
+ * The value is only parsed when editing stops. The calendar is the popup
+ * shared by the DateFields of the window, shown with the settings of the
+ * editor's DateField.
+ *
+ * @author Ignacio Merani
+ */
+public class DateCellEditor extends AbstractCellEditor implements TableCellEditor {
+    private static final long serialVersionUID = 1L;
+
+    private final DateField datefield;
+    private final JTextField field = new JTextField();
+    private final DateFormat format;
+    private final DateFormatCache texts;
+    private final Calendar calendar = Calendar.getInstance();
+    private final Border border = BorderFactory.createLineBorder(Color.black);
+    private final Border errorBorder = BorderFactory.createLineBorder(Color.red);
+    private int clickCountToStart = 2;
+    private Date original;
+    private Date value;
+
+    /**
+     * Default constructor, uses the short date format.
+     */
+    public DateCellEditor() {
+        this(DateFormat.getDateInstance(DateFormat.SHORT));
+    }
+
+    /**
+     * Constructor specifying the format.
+     * @param format format to use
+     */
+    public DateCellEditor(final DateFormat format) {
+        this(CalendarFactory.createDateField(), format);
+    }
+
+    /**
+     * Constructor specifying the DateField whose settings the calendar
+     * shows, and the format.
+     * @param datefield DateField giving the model, renderers and working days
+     * @param format format to use
+     */
+    public DateCellEditor(final DateField datefield, final DateFormat format) {
+        this.datefield = datefield;
+        this.format = (DateFormat) format.clone();
+        this.format.setLenient(false);
+        this.texts = new DateFormatCache(format);
+        field.setBorder(border);
+        field.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                stopCellEditing();
+            }
+        });
+        field.getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_F4, 0), "showCalendar");
+        field.getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_DOWN, KeyEvent.ALT_DOWN_MASK), "showCalendar");
+        field.getActionMap().put("showCalendar", new AbstractAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                showCalendar();
+            }
+        });
+    }
+
+    /**
+     * Getter for property clickCountToStart.
+     * @return clicks needed to start editing
+     */
+    public int getClickCountToStart() {
+        return clickCountToStart;
+    }
+
+    /**
+     * Setter for property clickCountToStart.
+     * @param count clicks needed to start editing
+     */
+    public void setClickCountToStart(final int count) {
+        this.clickCountToStart = count;
+    }
+
+    /**
+     * @see javax.swing.table.TableCellEditor#getTableCellEditorComponent(javax.swing.JTable, java.lang.Object, boolean, int, int)
+     */
+    @Override
+    public Component getTableCellEditorComponent(final JTable table, final Object value, final boolean isSelected, final int row, final int col) {
+        original = value instanceof Date ? (Date) value : null;
+        this.value = original;
+        field.setBorder(border);
+        field.setText(original == null ? "" : texts.format(original));
+        return field;
+    }
+
+    /**
+     * @see javax.swing.CellEditor#getCellEditorValue()
+     */
+    @Override
+    public Object getCellEditorValue() {
+        return value;
+    }
+
+    /**
+     * @see javax.swing.CellEditor#isCellEditable(java.util.EventObject)
+     */
+    @Override
+    public boolean isCellEditable(final EventObject evt) {
+        if (evt instanceof MouseEvent) {
+            return ((MouseEvent) evt).getClickCount() >= clickCountToStart;
+        }
+        return true;
+    }
+
+    /**
+     * Parses the text, editing does not stop if it is not valid.
+     * @see javax.swing.CellEditor#stopCellEditing()
+     */
+    @Override
+    public boolean stopCellEditing() {
+        final String text = field.getText().trim();
+        final Date parsed = parse(text);
+        if ((parsed == null) && (text.length() > 0)) {
+            field.setBorder(errorBorder);
+            return false;
+        }
+        value = parsed;
+        hideCalendar();
+        return super.stopCellEditing();
+    }
+
+    /**
+     * @see javax.swing.CellEditor#cancelCellEditing()
+     */
+    @Override
+    public void cancelCellEditing() {
+        hideCalendar();
+        super.cancelCellEditing();
+    }
+
+    /**
+     * Converts a text to a date.
+     * @param text the text, trimmed
+     * @return the date, or null if empty or not valid
+     */
+    protected Date parse(final String text) {
+        final int length = text.length();
+        if (length == 0) {
+            return null;
+        }
+        final char first = text.charAt(0);
+        if ((length == 1) && ((first == 't') || (first == 'T'))) {
+            return today();
+        }
+        if ((first == '+') || (first == '-')) {
+            return move(text);
+        }
+        final ParsePosition position = new ParsePosition(0);
+        final Date retorno = format.parse(text, position);
+        if ((retorno == null) || (position.getIndex() != length)) {
+            return null;
+        }
+        return retorno;
+    }
+
+    private Date today() {
+        calendar.setTimeInMillis(System.currentTimeMillis());
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTime();
+    }
+
+    /**
+     * Parses an increment like +1d or -2w, from the date of the cell.
+     */
+    private Date move(final String text) {
+        final int length = text.length();
+        int amount = 0;
+        int i = 1;
+        while ((i < length) && (text.charAt(i) >= '0') && (text.charAt(i) <= '9')) {
+            amount = amount * 10 + (text.charAt(i) - '0');
+            if (amount > 100000) {
+                return null;
+            }
+            i++;
+        }
+        if (i == 1) {
+            return null;
+        }
+        int unit = Calendar.DAY_OF_MONTH;
+        if (i < length) {
+            if (i != length - 1) {
+                return null;
+            }
+            switch (Character.toLowerCase(text.charAt(i))) {
+            case 'd':
+                break;
+            case 'w':
+                unit = Calendar.WEEK_OF_YEAR;
+                break;
+            case 'm':
+                unit = Calendar.MONTH;
+                break;
+            case 'y':
+                unit = Calendar.YEAR;
+                break;
+            default:
+                return null;
+            }
+        }
+        if (original != null) {
+            calendar.setTime(original);
+        } else {
+            calendar.setTime(today());
+        }
+        calendar.add(unit, text.charAt(0) == '-' ? -amount : amount);
+        return calendar.getTime();
+    }
+
+    /**
+     * Getter for property datefield.
+     * @return the DateField whose settings the calendar shows
+     */
+    public DateField getDateField() {
+        return datefield;
+    }
+
+    /**
+     * Shows the shared calendar under the field.
+     */
+    protected void showCalendar() {
+        final Date current = parse(field.getText().trim());
+        datefield.showCalendar(field, current != null ? current : today(), this::calendarSelected);
+    }
+
+    /**
+     * Stops editing with the day picked in the calendar. It is not parsed
+     * back from the text, a two digit year could give another century.
+     * @param date the day picked
+     */
+    void calendarSelected(final Date date) {
+        field.setText(texts.format(date));
+        field.setBorder(border);
+        value = date;
+        hideCalendar();
+        super.stopCellEditing();
+    }
+
+    private void hideCalendar() {
+        datefield.hideCalendar();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateCellRenderer.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.table;
+
+import java.text.DateFormat;
+import java.util.Date;
+
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * Renderer for Date cells. A single label is used for every cell and the
+ * texts are taken from a {@link DateFormatCache}, so scrolling over days
+ * already painted does not allocate.
+ *
+ * @author Ignacio Merani
+ */
+public class DateCellRenderer extends DefaultTableCellRenderer {
+    private static final long serialVersionUID = 1L;
+
+    private final DateFormatCache cache;
+
+    /**
+     * Default constructor, uses the short date format.
+     */
+    public DateCellRenderer() {
+        this(DateFormat.getDateInstance(DateFormat.SHORT));
+    }
+
+    /**
+     * Constructor specifying the format.
+     * @param format format to use
+     */
+    public DateCellRenderer(final DateFormat format) {
+        this(new DateFormatCache(format));
+    }
+
+    /**
+     * Constructor using a cache, which may be shared by the renderers of
+     * one table.
+     * @param cache the cache
+     */
+    public DateCellRenderer(final DateFormatCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Getter for property cache.
+     * @return the cache
+     */
+    public DateFormatCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @see javax.swing.table.DefaultTableCellRenderer#setValue(java.lang.Object)
+     */
+    @Override
+    protected void setValue(final Object value) {
+        if (value instanceof Date) {
+            setText(cache.format((Date) value));
+        } else {
+            super.setValue(value);
+        }
+    }
+}
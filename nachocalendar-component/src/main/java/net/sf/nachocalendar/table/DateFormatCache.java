@@ -0,0 +1,153 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateFormatCache.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.table;
+
+import java.io.Serializable;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Formats dates remembering the text of each day, so painting the same
+ * days again does not format nor allocate. The cache is direct mapped on
+ * the epoch day, with a fixed number of entries. Formats that show the
+ * time of day are not cached. Not thread safe, meant for the event
+ * dispatch thread. It is serialized with the renderers that use it.
+ *
+ * @author Ignacio Merani
+ */
+public final class DateFormatCache implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Default number of days remembered. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private final DateFormat format;
+    private final TimeZone zone;
+    private final boolean dateOnly;
+    private final long[] days;
+    private final String[] texts;
+    private final int mask;
+
+    /**
+     * Constructor with the format to use.
+     * @param format the format, it is copied
+     */
+    public DateFormatCache(final DateFormat format) {
+        this(format, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with the format and the size of the cache.
+     * @param format the format, it is copied
+     * @param capacity days remembered, rounded up to a power of two
+     */
+    public DateFormatCache(final DateFormat format, final int capacity) {
+        this.format = (DateFormat) format.clone();
+        this.zone = this.format.getTimeZone();
+        this.dateOnly = isDateOnly(this.format);
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        days = new long[size];
+        texts = new String[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Checks if a format shows only the date, quoted text is ignored.
+     * @param format the format
+     * @return false if it shows the time of day or is not a SimpleDateFormat
+     */
+    static boolean isDateOnly(final DateFormat format) {
+        if (!(format instanceof SimpleDateFormat)) {
+            return false;
+        }
+        final String pattern = ((SimpleDateFormat) format).toPattern();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && ("aHkKhmsSzZX".indexOf(c) >= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats a date.
+     * @param date the date
+     * @return the text
+     */
+    public String format(final Date date) {
+        return format(date.getTime());
+    }
+
+    /**
+     * Formats an instant.
+     * @param millis milliseconds since the epoch
+     * @return the text
+     */
+    public String format(final long millis) {
+        if (!dateOnly) {
+            return format.format(new Date(millis));
+        }
+        final long day = Math.floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+        final int index = (int) (day ^ (day >>> 32)) & mask;
+        String text = texts[index];
+        if ((text == null) || (days[index] != day)) {
+            text = format.format(new Date(millis));
+            days[index] = day;
+            texts[index] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Checks if the format is cached per day.
+     * @return false if the format shows the time of day
+     */
+    public boolean isCached() {
+        return dateOnly;
+    }
+
+    /**
+     * Forgets every text, to be called if the locale or time zone changes.
+     */
+    public void clear() {
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = null;
+        }
+    }
+}
@@ -45,7 +45,7 @@ import javax.swing.table.TableCellRenderer;
  */
 public class DateRendererDecorator implements TableCellRenderer {
     private final TableCellRenderer renderer;
-    private final DateFormat format;
+    private final DateFormatCache cache;
 
     /**
      * Default constructor.
@@ -67,7 +67,7 @@ public class DateRendererDecorator implements TableCellRenderer {
      * @param format format to use
      */
     public DateRendererDecorator(TableCellRenderer renderer, final DateFormat format) {
-        this.format = format;
+        this.cache = new DateFormatCache(format);
         if (renderer == null) {
             renderer = new DefaultTableCellRenderer();
         }
@@ -80,7 +80,7 @@ public class DateRendererDecorator implements TableCellRenderer {
     public Component getTableCellRendererComponent(final JTable table, Object value, final boolean isSelected, final boolean isEnabled, final int row,
             final int col) {
         if ((value != null) && (value instanceof Date)) {
-            value = format.format((Date) value);
+            value = cache.format((Date) value);
         }
         final Component retorno = renderer.getTableCellRendererComponent(table, value, isSelected, isEnabled, row, col);
         return retorno;
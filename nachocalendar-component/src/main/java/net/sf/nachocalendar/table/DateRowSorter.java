@@ -0,0 +1,506 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateRowSorter.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.table;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.TimeZone;
+
+import javax.swing.DefaultRowSorter;
+import javax.swing.RowFilter;
+import javax.swing.table.TableModel;
+import javax.swing.table.TableRowSorter;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.components.MonthLayout;
+import net.sf.nachocalendar.holidays.BusinessDays;
+import net.sf.nachocalendar.model.DateSelectionModel;
+
+/**
+ * TableRowSorter that reads the Date columns once and keeps their epoch
+ * days in a long[] per column, updated row by row from the events of the
+ * model. Sorting compares the days as longs, and the filters given by
+ * this class test them without reading the model again: ranges,
+ * selections and business days, the last two with a binary search.
+ *
+ * <p>Date columns are sorted by day, the time of day is not compared.
+ * Filters see the dates as they are in the model.</p>
+ *
+ * @param <M> type of the model
+ * @author Ignacio Merani
+ */
+public class DateRowSorter<M extends TableModel> extends TableRowSorter<M> {
+    /** Epoch day of the cells with no date. */
+    public static final long NO_DAY = Long.MIN_VALUE;
+
+    private final int[] fixedColumns;
+    private TimeZone zone = TimeZone.getDefault();
+    private int[] columns;
+    private long[][] values;
+    /** Key given to the comparators for each model row, shared by the columns. */
+    private Integer[] rows = new Integer[0];
+    private int size;
+    private boolean rebuilding;
+
+    /**
+     * Creates a sorter for the columns whose class is Date.
+     * @param model the model
+     */
+    public DateRowSorter(final M model) {
+        this(model, (int[]) null);
+    }
+
+    /**
+     * Creates a sorter for the given date columns.
+     * @param model the model
+     * @param dateColumns model indexes of the date columns
+     */
+    public DateRowSorter(final M model, final int... dateColumns) {
+        super(model);
+        fixedColumns = dateColumns == null ? null : dateColumns.clone();
+        rebuild();
+    }
+
+    /**
+     * Wraps the model so the date columns give the row to the comparators.
+     */
+    private void wrap() {
+        final ModelWrapper<M, Integer> wrapper = getModelWrapper();
+        if (wrapper instanceof DayWrapper) {
+            return;
+        }
+        setModelWrapper(new DayWrapper<M>(this, wrapper));
+    }
+
+    /**
+     * Sets the filter. The date columns of the entries give the dates of
+     * the model, as with any TableRowSorter, so the filter is wrapped and
+     * getRowFilter returns the wrapper.
+     * @param filter the filter, null for none
+     */
+    @Override
+    public void setRowFilter(final RowFilter<? super M, ? super Integer> filter) {
+        super.setRowFilter(filter == null ? null : new ModelValueFilter<M>(filter));
+    }
+
+    /**
+     * Sets the time zone used to get the days.
+     * @param zone the time zone
+     */
+    public void setTimeZone(final TimeZone zone) {
+        this.zone = zone;
+        rebuild();
+        allRowsChanged();
+    }
+
+    /**
+     * Getter for property timeZone.
+     * @return the time zone
+     */
+    public TimeZone getTimeZone() {
+        return zone;
+    }
+
+    private void rebuild() {
+        final TableModel model = getModel();
+        if (fixedColumns != null) {
+            columns = fixedColumns.clone();
+        } else {
+            int count = 0;
+            final int[] found = new int[model.getColumnCount()];
+            for (int i = 0; i < found.length; i++) {
+                if (Date.class.isAssignableFrom(model.getColumnClass(i))) {
+                    found[count++] = i;
+                }
+            }
+            columns = Arrays.copyOf(found, count);
+        }
+        size = model.getRowCount();
+        values = new long[model.getColumnCount()][];
+        for (int i = 0; i < columns.length; i++) {
+            values[columns[i]] = new long[Math.max(16, size)];
+        }
+        ensureRows(size);
+        read(0, size - 1, -1);
+        rebuilding = true;
+        try {
+            wrap();
+        } finally {
+            rebuilding = false;
+        }
+        // a change of structure forgets the comparators, set them after
+        for (int i = 0; i < columns.length; i++) {
+            setComparator(columns[i], new DayOrder(columns[i]));
+        }
+    }
+
+    private void ensureRows(final int capacity) {
+        if (rows.length < capacity) {
+            final int old = rows.length;
+            rows = Arrays.copyOf(rows, Math.max(capacity, old * 3 / 2));
+            for (int i = old; i < rows.length; i++) {
+                rows[i] = Integer.valueOf(i);
+            }
+        }
+    }
+
+    private void read(final int first, final int last, final int column) {
+        final TableModel model = getModel();
+        for (int i = 0; i < columns.length; i++) {
+            final int c = columns[i];
+            if ((column >= 0) && (column != c)) {
+                continue;
+            }
+            final long[] days = values[c];
+            for (int row = first; row <= last; row++) {
+                final Object value = model.getValueAt(row, c);
+                days[row] = value instanceof Date ? CalendarUtils.toEpochDay(((Date) value).getTime(), zone) : NO_DAY;
+            }
+        }
+    }
+
+    private boolean isDateColumn(final int column) {
+        return (column >= 0) && (column < values.length) && (values[column] != null);
+    }
+
+    /**
+     * Returns the epoch day of a cell.
+     * @param modelRow row in the model
+     * @param column column in the model
+     * @return the day, NO_DAY if the cell has no date
+     */
+    public long getEpochDay(final int modelRow, final int column) {
+        return values[column][modelRow];
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        super.modelStructureChanged();
+        if ((values != null) && !rebuilding) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void allRowsChanged() {
+        if (values != null) {
+            size = getModel().getRowCount();
+            for (int i = 0; i < columns.length; i++) {
+                if (values[columns[i]].length < size) {
+                    values[columns[i]] = new long[size];
+                }
+            }
+            ensureRows(size);
+            read(0, size - 1, -1);
+        }
+        super.allRowsChanged();
+    }
+
+    @Override
+    public void rowsInserted(final int firstRow, final int endRow) {
+        final int count = endRow - firstRow + 1;
+        for (int i = 0; i < columns.length; i++) {
+            long[] days = values[columns[i]];
+            if (size + count > days.length) {
+                days = Arrays.copyOf(days, Math.max(size + count, days.length * 3 / 2));
+                values[columns[i]] = days;
+            }
+            System.arraycopy(days, firstRow, days, endRow + 1, size - firstRow);
+        }
+        size += count;
+        ensureRows(size);
+        read(firstRow, endRow, -1);
+        super.rowsInserted(firstRow, endRow);
+    }
+
+    @Override
+    public void rowsDeleted(final int firstRow, final int endRow) {
+        final int count = endRow - firstRow + 1;
+        for (int i = 0; i < columns.length; i++) {
+            final long[] days = values[columns[i]];
+            System.arraycopy(days, endRow + 1, days, firstRow, size - endRow - 1);
+            Arrays.fill(days, size - count, size, NO_DAY);
+        }
+        size -= count;
+        super.rowsDeleted(firstRow, endRow);
+    }
+
+    @Override
+    public void rowsUpdated(final int firstRow, final int endRow) {
+        read(firstRow, endRow, -1);
+        super.rowsUpdated(firstRow, endRow);
+    }
+
+    @Override
+    public void rowsUpdated(final int firstRow, final int endRow, final int column) {
+        if (isDateColumn(column)) {
+            read(firstRow, endRow, column);
+        }
+        super.rowsUpdated(firstRow, endRow, column);
+    }
+
+    /**
+     * Returns a filter for the rows with a day between two days, both
+     * included.
+     * @param column column in the model
+     * @param fromDay first epoch day
+     * @param toDay last epoch day
+     * @return the filter
+     */
+    public RowFilter<M, Integer> rangeFilter(final int column, final long fromDay, final long toDay) {
+        checkColumn(column);
+        return new RowFilter<M, Integer>() {
+            @Override
+            public boolean include(final Entry<? extends M, ? extends Integer> entry) {
+                final long day = getEpochDay(entry.getIdentifier().intValue(), column);
+                return (day != NO_DAY) && (day >= fromDay) && (day <= toDay);
+            }
+        };
+    }
+
+    /**
+     * Returns a filter for the rows with a day between two dates, both
+     * included.
+     * @param column column in the model
+     * @param from first date
+     * @param to last date
+     * @return the filter
+     */
+    public RowFilter<M, Integer> rangeFilter(final int column, final Date from, final Date to) {
+        return rangeFilter(column, CalendarUtils.toEpochDay(from.getTime(), zone), CalendarUtils.toEpochDay(to.getTime(), zone));
+    }
+
+    /**
+     * Returns a filter for the rows with a day selected in a
+     * DateSelectionModel. The selection is read now, a new filter must be
+     * set when it changes.
+     * @param column column in the model
+     * @param selection the selection
+     * @return the filter
+     */
+    public RowFilter<M, Integer> selectionFilter(final int column, final DateSelectionModel selection) {
+        final Object[] dates = selection.getSelectedDates();
+        long[] days = new long[dates == null ? 0 : dates.length];
+        int count = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (dates[i] instanceof Date) {
+                days[count++] = CalendarUtils.toEpochDay(((Date) dates[i]).getTime(), zone);
+            }
+        }
+        days = Arrays.copyOf(days, count);
+        Arrays.sort(days);
+        return daysFilter(column, days);
+    }
+
+    /**
+     * Returns a filter for the rows with one of the given days.
+     * @param column column in the model
+     * @param days the epoch days, sorted
+     * @return the filter
+     */
+    public RowFilter<M, Integer> daysFilter(final int column, final long[] days) {
+        checkColumn(column);
+        return new RowFilter<M, Integer>() {
+            @Override
+            public boolean include(final Entry<? extends M, ? extends Integer> entry) {
+                final long day = getEpochDay(entry.getIdentifier().intValue(), column);
+                return (day != NO_DAY) && (Arrays.binarySearch(days, day) >= 0);
+            }
+        };
+    }
+
+    /**
+     * Returns a filter for the rows on a business day.
+     * @param column column in the model
+     * @param workingDays the working days, sunday first as in the components
+     * @param holidays epoch days that are not worked, sorted, can be null
+     * @return the filter
+     */
+    public RowFilter<M, Integer> businessDayFilter(final int column, final boolean[] workingDays, final long[] holidays) {
+        checkColumn(column);
+        return new RowFilter<M, Integer>() {
+            @Override
+            public boolean include(final Entry<? extends M, ? extends Integer> entry) {
+                final long day = getEpochDay(entry.getIdentifier().intValue(), column);
+                if ((day == NO_DAY) || !workingDays[MonthLayout.dayOfWeek(day) - 1]) {
+                    return false;
+                }
+                return (holidays == null) || (Arrays.binarySearch(holidays, day) < 0);
+            }
+        };
+    }
+
+    /**
+     * Returns a filter for the rows on a business day.
+     * @param column column in the model
+     * @param days the business day calendar
+     * @return the filter
+     */
+    public RowFilter<M, Integer> businessDayFilter(final int column, final BusinessDays days) {
+        checkColumn(column);
+        return new RowFilter<M, Integer>() {
+            @Override
+            public boolean include(final Entry<? extends M, ? extends Integer> entry) {
+                final long day = getEpochDay(entry.getIdentifier().intValue(), column);
+                return (day != NO_DAY) && days.isBusinessDay(day);
+            }
+        };
+    }
+
+    private void checkColumn(final int column) {
+        if (!isDateColumn(column)) {
+            throw new IllegalArgumentException("Column " + column + " is not a date column");
+        }
+    }
+
+    /**
+     * Orders the row keys of a date column by their days.
+     */
+    private final class DayOrder implements Comparator<Object> {
+        private final int column;
+
+        DayOrder(final int column) {
+            this.column = column;
+        }
+
+        @Override
+        public int compare(final Object o1, final Object o2) {
+            final long[] days = values[column];
+            return Long.compare(days[((Integer) o1).intValue()], days[((Integer) o2).intValue()]);
+        }
+    }
+
+    /**
+     * Gives, for the date columns, the key of the row to the comparators,
+     * or null if the cell has no date.
+     * @param <M> type of the model
+     */
+    private static final class DayWrapper<M extends TableModel> extends DefaultRowSorter.ModelWrapper<M, Integer> {
+        private final DateRowSorter<M> sorter;
+        private final DefaultRowSorter.ModelWrapper<M, Integer> wrapped;
+
+        DayWrapper(final DateRowSorter<M> sorter, final DefaultRowSorter.ModelWrapper<M, Integer> wrapped) {
+            this.sorter = sorter;
+            this.wrapped = wrapped;
+        }
+
+
+        @Override
+        public M getModel() {
+            return wrapped.getModel();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return wrapped.getColumnCount();
+        }
+
+        @Override
+        public int getRowCount() {
+            return wrapped.getRowCount();
+        }
+
+        @Override
+        public Object getValueAt(final int row, final int column) {
+            if (sorter.isDateColumn(column) && (row < sorter.size)) {
+                return sorter.values[column][row] == NO_DAY ? null : sorter.rows[row];
+            }
+            return wrapped.getValueAt(row, column);
+        }
+
+        @Override
+        public String getStringValueAt(final int row, final int column) {
+            return wrapped.getStringValueAt(row, column);
+        }
+
+        @Override
+        public Integer getIdentifier(final int row) {
+            return wrapped.getIdentifier(row);
+        }
+    }
+
+    /**
+     * Gives to a filter the values of the model instead of the row keys.
+     * @param <M> type of the model
+     */
+    private static final class ModelValueFilter<M extends TableModel> extends RowFilter<M, Integer> {
+        private final RowFilter<? super M, ? super Integer> filter;
+        private final ModelEntry<M> entry = new ModelEntry<M>();
+
+        ModelValueFilter(final RowFilter<? super M, ? super Integer> filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean include(final Entry<? extends M, ? extends Integer> e) {
+            entry.wrapped = e;
+            try {
+                return filter.include(entry);
+            } finally {
+                entry.wrapped = null;
+            }
+        }
+    }
+
+    /**
+     * Entry reading the values from the model.
+     * @param <M> type of the model
+     */
+    private static final class ModelEntry<M extends TableModel> extends RowFilter.Entry<M, Integer> {
+        private RowFilter.Entry<? extends M, ? extends Integer> wrapped;
+
+        @Override
+        public M getModel() {
+            return wrapped.getModel();
+        }
+
+        @Override
+        public int getValueCount() {
+            return wrapped.getValueCount();
+        }
+
+        @Override
+        public Object getValue(final int index) {
+            return wrapped.getModel().getValueAt(wrapped.getIdentifier().intValue(), index);
+        }
+
+        @Override
+        public String getStringValue(final int index) {
+            return wrapped.getStringValue(index);
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return wrapped.getIdentifier();
+        }
+    }
+}
@@ -65,7 +65,24 @@ public final class JTableCustomizer {
      */
     public static void setDefaultEditor(final JTable table, final DateFormat format) {
         table.setDefaultEditor(Date.class, new DateFieldTableEditor());
-        table.setDefaultRenderer(Date.class, new DateRendererDecorator(table.getDefaultRenderer(Date.class), format));
+        table.setDefaultRenderer(Date.class, new DateCellRenderer(format));
+    }
+
+    /** Sets the light editor and the renderer for Date objects to provided JTable.
+     * The editor is a text field accepting increments, see {@link DateCellEditor}.
+     * @param table JTable to set up
+     */
+    public static void setLightEditor(final JTable table) {
+        setLightEditor(table, DateFormat.getDateInstance(DateFormat.SHORT));
+    }
+
+    /** Sets the light editor and the renderer for Date objects to provided JTable.
+     * @param table JTable to set up
+     * @param format Format to use
+     */
+    public static void setLightEditor(final JTable table, final DateFormat format) {
+        table.setDefaultEditor(Date.class, new DateCellEditor(format));
+        table.setDefaultRenderer(Date.class, new DateCellRenderer(format));
     }
 
     /** Sets the editor/renderer for Date objects to provided JTable, for the specified column.
@@ -85,6 +102,10 @@ public final class JTableCustomizer {
     public static void setEditorForRow(final JTable table, final int row, final DateFormat format) {
         final TableColumn column = table.getColumnModel().getColumn(row);
         column.setCellEditor(new DateFieldTableEditor());
-        column.setCellRenderer(new DateRendererDecorator(column.getCellRenderer(), format));
+        if (column.getCellRenderer() == null) {
+            column.setCellRenderer(new DateCellRenderer(format));
+        } else {
+            column.setCellRenderer(new DateRendererDecorator(column.getCellRenderer(), format));
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * AgendaRenderer.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.tasks;
+
+import java.awt.Component;
+import java.util.Date;
+
+/**
+ * Interface that must be implemented by classes used to render the rows
+ * of a {@link TaskAgenda}.
+ * @author Ignacio Merani
+ */
+public interface AgendaRenderer {
+
+    /**
+     * Returns a component configured to render a row.
+     * @return component to be used
+     * @param agenda the agenda being painted
+     * @param day the day of the row
+     * @param task the task of the row, null for the header of the day
+     * @param selected true if it's selected
+     */
+    Component getAgendaRenderer(TaskAgenda agenda, Date day, Task task, boolean selected);
+}
@@ -0,0 +1,104 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DefaultAgendaRenderer.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.tasks;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.border.Border;
+
+/**
+ * Default renderer of a {@link TaskAgenda}: the date of each day in bold
+ * over a gray background, followed by the names of its tasks.
+ * @author Ignacio Merani
+ */
+public class DefaultAgendaRenderer extends JLabel implements AgendaRenderer {
+    private static final long serialVersionUID = 1L;
+
+    private final Color selectedbg, selectedfg, unselectedbg, unselectedfg, headerbg;
+    private final Border headerBorder, taskBorder;
+    private Font plain, bold;
+    private DateFormat format;
+    private Locale locale;
+
+    /** Creates a new instance of DefaultAgendaRenderer. */
+    public DefaultAgendaRenderer() {
+        // colors of a JList, as the other renderers
+        final JList jl = new JList();
+        unselectedbg = jl.getBackground();
+        unselectedfg = jl.getForeground();
+        selectedbg = jl.getSelectionBackground();
+        selectedfg = jl.getSelectionForeground();
+        headerbg = new Color(235, 235, 240);
+        headerBorder = BorderFactory.createEmptyBorder(1, 4, 1, 4);
+        taskBorder = BorderFactory.createEmptyBorder(1, 20, 1, 4);
+        setOpaque(true);
+    }
+
+    /**
+     * Returns a component configured to render a row.
+     * @return component to be used
+     * @param agenda the agenda being painted
+     * @param day the day of the row
+     * @param task the task of the row, null for the header of the day
+     * @param selected true if it's selected
+     */
+    @Override
+    public Component getAgendaRenderer(final TaskAgenda agenda, final Date day, final Task task, final boolean selected) {
+        if ((plain == null) || !plain.equals(agenda.getFont())) {
+            plain = agenda.getFont();
+            bold = plain.deriveFont(Font.BOLD);
+        }
+        setBackground(selected ? selectedbg : task == null ? headerbg : unselectedbg);
+        setForeground(selected ? selectedfg : unselectedfg);
+        if (task == null) {
+            if ((format == null) || !agenda.getLocale().equals(locale)) {
+                locale = agenda.getLocale();
+                format = DateFormat.getDateInstance(DateFormat.FULL, locale);
+            }
+            setFont(bold);
+            setBorder(headerBorder);
+            setText(format.format(day));
+        } else {
+            setFont(plain);
+            setBorder(taskBorder);
+            setText(task.getName());
+        }
+        return this;
+    }
+}
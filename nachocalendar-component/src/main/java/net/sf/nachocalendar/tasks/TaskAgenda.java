@@ -0,0 +1,522 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * TaskAgenda.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.tasks;
+
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Calendar;
+import java.util.Date;
+
+import javax.swing.CellRendererPane;
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+
+import net.sf.nachocalendar.components.CalendarPanel;
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.DateSelectionEvent;
+import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.model.DateSelectionModel;
+import net.sf.nachocalendar.model.DefaultDateSelectionModel;
+
+/**
+ * Scrolling agenda of the tasks of a TaskDataModel: the days with tasks in
+ * order, each one followed by its tasks. Rows come from a
+ * {@link TaskIndex} and only the visible ones are rendered, so there is no
+ * list model of every task and hundreds of thousands of them scroll as
+ * fast as a few.
+ * <p>
+ * When tasks are added or removed above the visible rows the view is
+ * moved with them, so the rows being read stay in place. Sharing the
+ * DateSelectionModel of a CalendarPanel, or calling {@link #attach}, keeps
+ * both in sync: selecting a day in the calendar scrolls the agenda to it,
+ * and clicking a row of the agenda selects its day.
+ *
+ * @author Ignacio Merani
+ */
+public class TaskAgenda extends JComponent implements Scrollable, DataModelListener {
+    private static final long serialVersionUID = 1L;
+
+    private TaskDataModel model;
+    private TaskIndex index;
+    private AgendaRenderer renderer;
+    private final CellRendererPane rendererPane = new CellRendererPane();
+    private DateSelectionModel dateSelectionModel;
+    private final DateSelectionListener listlistener;
+    private final PropertyChangeListener panelListener;
+    private CalendarPanel calendarPanel;
+    private Task selectedTask;
+    private int rowHeight;
+    private int visibleRows = 12;
+    private boolean selecting;
+
+    /**
+     * Creates an agenda of a model.
+     * @param model the model
+     */
+    public TaskAgenda(final TaskDataModel model) {
+        setOpaque(true);
+        setBackground(UIManager.getColor("List.background"));
+        setFont(UIManager.getFont("List.font"));
+        add(rendererPane);
+        renderer = new DefaultAgendaRenderer();
+        listlistener = new DateSelectionListener() {
+            @Override
+            public void valueChanged(final DateSelectionEvent e) {
+                selectionChanged();
+            }
+        };
+        dateSelectionModel = new DefaultDateSelectionModel();
+        dateSelectionModel.addDateSelectionListener(listlistener);
+        panelListener = new PropertyChangeListener() {
+            @Override
+            public void propertyChange(final PropertyChangeEvent evt) {
+                setDateSelectionModel((DateSelectionModel) evt.getNewValue());
+            }
+        };
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(final MouseEvent e) {
+                if (isEnabled() && SwingUtilities.isLeftMouseButton(e)) {
+                    selectRow(rowAt(e.getY()));
+                }
+            }
+        });
+        setModel(model);
+    }
+
+    /**
+     * Getter for property model.
+     * @return Value of property model.
+     */
+    public TaskDataModel getModel() {
+        return model;
+    }
+
+    /**
+     * Setter for property model.
+     * @param model New value of property model.
+     */
+    public void setModel(final TaskDataModel model) {
+        if (this.model != null) {
+            this.model.removeDataModelListener(this);
+        }
+        this.model = model;
+        model.addDataModelListener(this);
+        index = new TaskIndex(model);
+        selectedTask = null;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Returns the index of the tasks shown.
+     * @return the index
+     */
+    public TaskIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter for property renderer.
+     * @return Value of property renderer.
+     */
+    public AgendaRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Setter for property renderer.
+     * @param renderer New value of property renderer.
+     */
+    public void setRenderer(final AgendaRenderer renderer) {
+        this.renderer = renderer;
+        rowHeight = 0;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Returns the height of the rows, taken from the renderer.
+     * @return the height of the rows
+     */
+    public int getRowHeight() {
+        if (rowHeight <= 0) {
+            final Component c = renderer.getAgendaRenderer(this, new Date(), null, false);
+            rowHeight = Math.max(1, c.getPreferredSize().height);
+        }
+        return rowHeight;
+    }
+
+    /**
+     * Setter for property rowHeight, 0 to take it from the renderer.
+     * @param rowHeight New value of property rowHeight.
+     */
+    public void setRowHeight(final int rowHeight) {
+        this.rowHeight = rowHeight;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Getter for property visibleRows.
+     * @return Value of property visibleRows.
+     */
+    public int getVisibleRows() {
+        return visibleRows;
+    }
+
+    /**
+     * Setter for property visibleRows, the rows of the preferred viewport.
+     * @param visibleRows New value of property visibleRows.
+     */
+    public void setVisibleRows(final int visibleRows) {
+        this.visibleRows = visibleRows;
+        revalidate();
+    }
+
+    /**
+     * Getter for property dateSelectionModel.
+     * @return Value of property dateSelectionModel.
+     */
+    public DateSelectionModel getDateSelectionModel() {
+        return dateSelectionModel;
+    }
+
+    /**
+     * Setter for property dateSelectionModel. Share the model of a
+     * CalendarPanel to keep both selections in sync.
+     * @param dateSelectionModel New value of property dateSelectionModel.
+     */
+    public void setDateSelectionModel(final DateSelectionModel dateSelectionModel) {
+        this.dateSelectionModel.removeDateSelectionListener(listlistener);
+        this.dateSelectionModel = dateSelectionModel;
+        dateSelectionModel.addDateSelectionListener(listlistener);
+        repaint();
+    }
+
+    /**
+     * Keeps the agenda in sync with a CalendarPanel: both share the
+     * selection, also after the panel is given another selection model,
+     * and clicking a row also moves the panel to its day.
+     * @param panel the panel, null to stop following it
+     */
+    public void attach(final CalendarPanel panel) {
+        if (calendarPanel != null) {
+            calendarPanel.removePropertyChangeListener("dateSelectionModel", panelListener);
+        }
+        calendarPanel = panel;
+        if (panel != null) {
+            panel.addPropertyChangeListener("dateSelectionModel", panelListener);
+            setDateSelectionModel(panel.getDateSelectionModel());
+        }
+    }
+
+    /**
+     * Returns the task selected with the mouse.
+     * @return the task or null
+     */
+    public Task getSelectedTask() {
+        return selectedTask;
+    }
+
+    /**
+     * Selects a task, and its day in the DateSelectionModel.
+     * @param task the task or null
+     */
+    public void setSelectedTask(final Task task) {
+        final Task old = selectedTask;
+        selectedTask = task;
+        if ((task != null) && (task.getDate() != null)) {
+            selectDay(task.getDate());
+        }
+        repaint();
+        firePropertyChange("selectedTask", old, task);
+    }
+
+    /**
+     * Returns the row at a vertical coordinate.
+     * @param y the coordinate
+     * @return the row, -1 if there is none
+     */
+    public int rowAt(final int y) {
+        final int row = y / getRowHeight();
+        return (y < 0) || (row >= index.getRowCount()) ? -1 : row;
+    }
+
+    /**
+     * Returns the bounds of a row.
+     * @param row the row
+     * @return the bounds
+     */
+    public Rectangle getRowBounds(final int row) {
+        return new Rectangle(0, row * getRowHeight(), getWidth(), getRowHeight());
+    }
+
+    private void selectRow(final int row) {
+        if (row < 0) {
+            return;
+        }
+        final Task task = index.getTask(row);
+        if (task != null) {
+            setSelectedTask(task);
+        } else {
+            setSelectedTask(null);
+            selectDay(CalendarUtils.fromEpochDay(index.getDayOfRow(row)));
+        }
+    }
+
+    private void selectDay(final Date date) {
+        selecting = true;
+        try {
+            dateSelectionModel.setValueIsAdjusting(true);
+            dateSelectionModel.clearSelection();
+            dateSelectionModel.addSelectionInterval(date, date);
+            dateSelectionModel.setLeadSelectionDate(date);
+            dateSelectionModel.setValueIsAdjusting(false);
+            if (calendarPanel != null) {
+                calendarPanel.setDate(date);
+            }
+        } finally {
+            selecting = false;
+        }
+    }
+
+    /**
+     * Scrolls to the selected day, unless the agenda selected it.
+     */
+    private void selectionChanged() {
+        repaint();
+        if (selecting || dateSelectionModel.getValueIsAdjusting()) {
+            return;
+        }
+        Date date = dateSelectionModel.getLeadSelectionDate();
+        if ((date == null) || !dateSelectionModel.isSelectedDate(date)) {
+            final Object selected = dateSelectionModel.getSelectedDate();
+            date = selected instanceof Date ? (Date) selected : null;
+        }
+        if (date != null) {
+            scrollToDate(date);
+        }
+    }
+
+    /**
+     * Scrolls to put the first day with tasks on or after a date at the
+     * top of the view.
+     * @param date the date
+     */
+    public void scrollToDate(final Date date) {
+        final int row = index.rowOfDay(CalendarUtils.toEpochDay(date));
+        if (getParent() instanceof JViewport) {
+            final JViewport viewport = (JViewport) getParent();
+            final int max = Math.max(0, getPreferredSize().height - viewport.getExtentSize().height);
+            viewport.setViewPosition(new Point(viewport.getViewPosition().x, Math.min(max, row * getRowHeight())));
+        } else {
+            scrollRectToVisible(getRowBounds(row));
+        }
+    }
+
+    /**
+     * Called by the model when a day changes. The index is updated and,
+     * if rows were added or removed above the view, the view moves with
+     * the row at its top.
+     * @param evt the event
+     */
+    @Override
+    public void dataChanged(final DataChangeEvent evt) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> dataChanged(evt));
+            return;
+        }
+        final Date date = evt.getDate();
+        if (date == null) {
+            index.rebuild();
+            revalidate();
+            repaint();
+            return;
+        }
+        final JViewport viewport = getParent() instanceof JViewport ? (JViewport) getParent() : null;
+        final int height = getRowHeight();
+
+        // the row at the top of the view, as a day and an offset in it
+        final int y = viewport == null ? 0 : viewport.getViewPosition().y;
+        final int top = y / height;
+        final int topIndex = index.indexOfRow(top);
+        final long topDay = topIndex < 0 ? Long.MIN_VALUE : index.getDay(topIndex);
+        final int topOffset = topIndex < 0 ? 0 : top - index.getHeaderRow(topIndex);
+
+        index.update(date);
+        if ((selectedTask != null) && (CalendarUtils.toEpochDay(date) == CalendarUtils.toEpochDay(selectedTask.getDate()))
+                && !contains(index, selectedTask)) {
+            setSelectedTask(null);
+        }
+        revalidate();
+        if ((viewport != null) && (topIndex >= 0)) {
+            final int i = index.indexOfDay(topDay);
+            int row;
+            if ((i < index.getDayCount()) && (index.getDay(i) == topDay)) {
+                row = index.getHeaderRow(i) + Math.min(topOffset, index.getTasks(i).length);
+            } else {
+                row = index.rowOfDay(topDay);
+            }
+            if (row != top) {
+                final Dimension size = new Dimension(viewport.getViewSize().width, index.getRowCount() * height);
+                viewport.setViewSize(size);
+                viewport.setViewPosition(new Point(viewport.getViewPosition().x, row * height + y % height));
+            }
+        }
+        repaint();
+    }
+
+    private static boolean contains(final TaskIndex index, final Task task) {
+        final int i = index.indexOfDay(CalendarUtils.toEpochDay(task.getDate()));
+        if (i >= index.getDayCount()) {
+            return false;
+        }
+        final Task[] tasks = index.getTasks(i);
+        for (int j = 0; j < tasks.length; j++) {
+            if (tasks[j] == task) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#paintComponent(java.awt.Graphics)
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        final Rectangle clip = g.getClipBounds() != null ? g.getClipBounds() : new Rectangle(0, 0, getWidth(), getHeight());
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        }
+        final int height = getRowHeight();
+        final int first = Math.max(0, clip.y / height);
+        final int last = Math.min(index.getRowCount() - 1, (clip.y + clip.height - 1) / height);
+        if (first > last) {
+            return;
+        }
+        int day = index.indexOfRow(first);
+        Date date = CalendarUtils.fromEpochDay(index.getDay(day));
+        for (int row = first; row <= last; row++) {
+            if ((day + 1 < index.getDayCount()) && (index.getHeaderRow(day + 1) == row)) {
+                day++;
+                date = CalendarUtils.fromEpochDay(index.getDay(day));
+            }
+            final int offset = row - index.getHeaderRow(day);
+            final Task task = offset == 0 ? null : index.getTasks(day)[offset - 1];
+            final boolean selected = task == null ? dateSelectionModel.isSelectedDate(date) : task == selectedTask;
+            final Component c = renderer.getAgendaRenderer(this, date, task, selected);
+            rendererPane.paintComponent(g, c, this, 0, row * height, getWidth(), height, true);
+        }
+        rendererPane.removeAll();
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.JComponent#getPreferredSize()
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        final Calendar cal = Calendar.getInstance();
+        cal.set(2000, Calendar.SEPTEMBER, 30);
+        final int width = renderer.getAgendaRenderer(this, cal.getTime(), null, false).getPreferredSize().width;
+        return new Dimension(width + 20, index.getRowCount() * getRowHeight());
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.Scrollable#getPreferredScrollableViewportSize()
+     */
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(getPreferredSize().width, visibleRows * getRowHeight());
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.Scrollable#getScrollableUnitIncrement(java.awt.Rectangle, int, int)
+     */
+    @Override
+    public int getScrollableUnitIncrement(final Rectangle visibleRect, final int orientation, final int direction) {
+        if (orientation == SwingConstants.HORIZONTAL) {
+            return 10;
+        }
+        // align to the rows
+        final int height = getRowHeight();
+        final int remainder = visibleRect.y % height;
+        if (direction < 0) {
+            return remainder == 0 ? height : remainder;
+        }
+        return height - remainder;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.Scrollable#getScrollableBlockIncrement(java.awt.Rectangle, int, int)
+     */
+    @Override
+    public int getScrollableBlockIncrement(final Rectangle visibleRect, final int orientation, final int direction) {
+        if (orientation == SwingConstants.HORIZONTAL) {
+            return visibleRect.width;
+        }
+        return Math.max(getRowHeight(), visibleRect.height - getRowHeight());
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.Scrollable#getScrollableTracksViewportWidth()
+     */
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    /* (non-Javadoc)
+     * @see javax.swing.Scrollable#getScrollableTracksViewportHeight()
+     */
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && (getParent().getHeight() > getPreferredSize().height);
+    }
+}
@@ -44,7 +44,6 @@ import net.sf.nachocalendar.components.DateField;
 import net.sf.nachocalendar.components.DatePanel;
 import net.sf.nachocalendar.components.DefaultDayRenderer;
 import net.sf.nachocalendar.components.DefaultHeaderRenderer;
-import net.sf.nachocalendar.components.FormatSymbols;
 
 /**
  * Factory class used to obtain objects customized to show Tasks.
@@ -73,8 +72,8 @@ public final class TaskCalendarFactory {
     public static DateField createDateField(final String formatter, final Locale userLocale) {
         requiredLocale = userLocale;
         requiredFormatter = new DateFormatter(new java.text.SimpleDateFormat(formatter, userLocale));
-        FormatSymbols.getDefaultInstance().setRequiredLocale(requiredLocale);
         final DateField retorno = new DateField(requiredFormatter);
+        retorno.setLocale(requiredLocale);
         configureDateField(retorno);
         return retorno;
     }
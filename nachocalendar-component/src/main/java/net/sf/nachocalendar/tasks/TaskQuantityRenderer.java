@@ -46,13 +46,17 @@ import java.util.Date;
 import javax.swing.JLabel;
 import javax.swing.JList;
 
+import net.sf.nachocalendar.components.CalendarUtils;
 import net.sf.nachocalendar.components.DayPanel;
 import net.sf.nachocalendar.components.DayRenderer;
+import net.sf.nachocalendar.model.IntDataModel;
 
 /**
  * Renderer customized to show dates with tasks assigned in
  * yellow background. It also creates a tooltip with the quantity
- * of tasks related to the Date
+ * of tasks related to the Date. The quantity is the size of the data
+ * Collection, the data itself if it's a Number, or the value of the
+ * counts model when one is set.
  * @author Ignacio Merani
  */
 public class TaskQuantityRenderer extends JLabel implements DayRenderer {
@@ -65,6 +69,7 @@ public class TaskQuantityRenderer extends JLabel implements DayRenderer {
     private Color taskBg;
     final Color taskColor;
     private int taskq;
+    private IntDataModel counts;
 
     /** Creates a new instance of TaskRenderer. */
     public TaskQuantityRenderer() {
@@ -126,22 +131,44 @@ public class TaskQuantityRenderer extends JLabel implements DayRenderer {
         cal.setTime(day);
         setText(Integer.toString(cal.get(Calendar.DAY_OF_MONTH)));
         daypanel.setToolTipText(null);
-        if ((data != null) && (data instanceof Collection)) {
+        boolean tasks = false;
+        if (counts != null) {
+            taskq = counts.getInt(daypanel.getDate() == day ? daypanel.getEpochDay() : CalendarUtils.toEpochDay(day));
+        } else if (data instanceof Collection) {
+            taskq = ((Collection) data).size();
+            tasks = true;
+        } else if (data instanceof Number) {
+            taskq = ((Number) data).intValue();
+        }
+        if (tasks || (taskq > 0)) {
             if (selected) {
                 setBackground(Color.magenta);
             } else {
                 setBackground(taskBg);
             }
-            final Collection col = (Collection) data;
-            taskq = col.size();
             daypanel.setToolTipText(Integer.toString(taskq) + " tasks");
-        } else {
-            daypanel.setToolTipText(null);
         }
 
         return this;
     }
 
+    /**
+     * Getter for property counts.
+     * @return Value of property counts.
+     */
+    public IntDataModel getCounts() {
+        return counts;
+    }
+
+    /**
+     * Setter for property counts, a model with the quantity of tasks of
+     * each day read instead of the data.
+     * @param counts New value of property counts.
+     */
+    public void setCounts(final IntDataModel counts) {
+        this.counts = counts;
+    }
+
     /**
      * @return Returns the taskBg.
      */
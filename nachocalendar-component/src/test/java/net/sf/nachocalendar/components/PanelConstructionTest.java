@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * PanelConstructionTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class PanelConstructionTest extends TestCase {
+
+    /** Checks that every month of the panels has its 42 day cells. */
+    private void assertCells(final MonthPanel[] months) {
+        assertTrue(months.length > 0);
+        for (int i = 0; i < months.length; i++) {
+            assertEquals(42, months[i].getDaypanels().length);
+        }
+    }
+
+    public void testDefaultDatePanel() {
+        assertCells(new DatePanel().getMonthPanels());
+    }
+
+    public void testDatePanelWithWeekNumbers() {
+        assertCells(new DatePanel(true).getMonthPanels());
+    }
+
+    public void testDefaultCalendarPanel() {
+        assertCells(new CalendarPanel().getMonthPanels());
+    }
+
+    public void testCalendarPanelWithWeekNumbers() {
+        assertCells(new CalendarPanel(3, CalendarPanel.HORIZONTAL, true).getMonthPanels());
+    }
+
+    public void testLazyCalendarPanel() {
+        final CalendarPanel panel = new CalendarPanel(3, CalendarPanel.HORIZONTAL, false, true, true);
+        panel.addNotify();
+        assertCells(panel.getMonthPanels());
+    }
+}
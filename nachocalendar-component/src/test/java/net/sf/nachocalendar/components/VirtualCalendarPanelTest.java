@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * VirtualCalendarPanelTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class VirtualCalendarPanelTest extends TestCase {
+    private VirtualCalendarPanel panel;
+    private Dimension cell;
+    private int bar;
+
+    protected void setUp() throws Exception {
+        panel = new VirtualCalendarPanel(new GregorianCalendar(2024, Calendar.JANUARY, 1).getTime(), 24);
+        cell = panel.getMonthPanels()[0].getPreferredSize();
+        bar = panel.getComponent(1).getPreferredSize().width;
+    }
+
+    /** Lays the panel out as if it had the room of some months. */
+    private void fit(final int columns, final int rows) {
+        panel.setSize(cell.width * columns + bar, cell.height * rows);
+        panel.doLayout();
+        ((Container) panel.getComponent(0)).doLayout();
+    }
+
+    public void testGrowsToFit() {
+        assertEquals(1, panel.getPoolSize());
+        fit(2, 2);
+        assertEquals(4, panel.getPoolSize());
+        assertEquals(4, panel.getMonthPanels().length);
+        fit(3, 2);
+        assertEquals(6, panel.getPoolSize());
+    }
+
+    public void testCappedByMonthCount() {
+        fit(10, 10);
+        assertEquals(24, panel.getPoolSize());
+        panel.setMonthCount(5);
+        assertEquals(5, panel.getPoolSize());
+    }
+
+    public void testShrinkReleasesPanels() {
+        fit(3, 2);
+        final MonthPanel last = panel.getMonthPanels()[5];
+        final int listeners = last.getDaypanels()[0].getMouseListeners().length;
+        fit(1, 1);
+        assertEquals(1, panel.getPoolSize());
+        assertEquals(1, panel.getMonthPanels().length);
+        assertEquals(1, ((Container) panel.getComponent(0)).getComponentCount());
+
+        // the released panel no longer listens to the clicks
+        assertEquals(listeners - 1, last.getDaypanels()[0].getMouseListeners().length);
+        final Component[] in = ((Container) panel.getComponent(0)).getComponents();
+        for (int i = 0; i < in.length; i++) {
+            assertNotSame(last, in[i]);
+        }
+    }
+
+    public void testGrowBindsNewPanels() {
+        fit(2, 2);
+        final MonthPanel[] months = panel.getMonthPanels();
+        final Calendar cal = new GregorianCalendar();
+        for (int i = 0; i < months.length; i++) {
+            cal.setTime(months[i].getMonth());
+            assertEquals(Calendar.JANUARY + i, cal.get(Calendar.MONTH));
+        }
+    }
+
+    public void testNewPanelsFollowEnabled() {
+        panel.setEnabled(false);
+        fit(2, 2);
+        final MonthPanel[] months = panel.getMonthPanels();
+        for (int i = 0; i < months.length; i++) {
+            assertFalse(months[i].isEnabled());
+        }
+    }
+
+    public void testScrollKeepsRange() {
+        fit(2, 2);
+        panel.showMonth(new GregorianCalendar(2025, Calendar.DECEMBER, 1).getTime());
+        final MonthPanel[] months = panel.getMonthPanels();
+        final Calendar cal = new GregorianCalendar();
+        cal.setTime(months[months.length - 1].getMonth());
+        assertEquals(2025, cal.get(Calendar.YEAR));
+        assertEquals(Calendar.DECEMBER, cal.get(Calendar.MONTH));
+    }
+}
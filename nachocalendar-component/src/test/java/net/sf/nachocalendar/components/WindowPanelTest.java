@@ -0,0 +1,163 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * WindowPanelTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.model.DataModel;
+import net.sf.nachocalendar.model.DefaultDataModel;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class WindowPanelTest extends TestCase {
+    private CountingPanel datepanel;
+    private DataModel defaultModel;
+    private int defaultFirstDayOfWeek;
+
+    protected void setUp() throws Exception {
+        datepanel = new CountingPanel();
+        defaultModel = datepanel.getModel();
+        defaultFirstDayOfWeek = datepanel.getFirstDayOfWeek();
+        datepanel.calls.clear();
+    }
+
+    protected void tearDown() throws Exception {
+        datepanel = null;
+        defaultModel = null;
+    }
+
+    public void testBindSkipsUnchangedSettings() {
+        final DateField plain = new DateField();
+        WindowPanel.bind(datepanel, plain, defaultModel, defaultFirstDayOfWeek);
+        datepanel.calls.clear();
+        WindowPanel.bind(datepanel, new DateField(), defaultModel, defaultFirstDayOfWeek);
+        assertTrue(datepanel.calls.toString(), datepanel.calls.isEmpty());
+    }
+
+    public void testBindAppliesChangedSettings() {
+        WindowPanel.bind(datepanel, new DateField(), defaultModel, defaultFirstDayOfWeek);
+        datepanel.calls.clear();
+
+        final DateField field = new DateField();
+        final DataModel model = new DefaultDataModel();
+        final DayRenderer renderer = new DefaultDayRenderer();
+        field.setModel(model);
+        field.setRenderer(renderer);
+        field.setAntiAliased(!datepanel.isAntiAliased());
+        WindowPanel.bind(datepanel, field, defaultModel, defaultFirstDayOfWeek);
+        assertSame(model, datepanel.getModel());
+        assertSame(renderer, datepanel.getRenderer());
+        assertTrue(datepanel.calls.contains("model"));
+        assertTrue(datepanel.calls.contains("renderer"));
+        assertTrue(datepanel.calls.contains("antiAliased"));
+
+        // the same field again changes nothing
+        datepanel.calls.clear();
+        WindowPanel.bind(datepanel, field, defaultModel, defaultFirstDayOfWeek);
+        assertTrue(datepanel.calls.toString(), datepanel.calls.isEmpty());
+    }
+
+    public void testReleaseDropsFieldModelAndRenderer() {
+        final DateField field = new DateField();
+        field.setModel(new DefaultDataModel());
+        field.setRenderer(new DefaultDayRenderer());
+        WindowPanel.bind(datepanel, field, defaultModel, defaultFirstDayOfWeek);
+        WindowPanel.release(datepanel, defaultModel);
+        assertSame(defaultModel, datepanel.getModel());
+        assertSame(DefaultDayRenderer.getSharedInstance(), datepanel.getRenderer());
+        assertSame(DefaultHeaderRenderer.getSharedInstance(), datepanel.getHeaderRenderer());
+
+        // nothing to put back
+        datepanel.calls.clear();
+        WindowPanel.release(datepanel, defaultModel);
+        assertTrue(datepanel.calls.toString(), datepanel.calls.isEmpty());
+    }
+
+    public void testRegistryKeysByWindowAndLayout() {
+        final WindowPanel.Registry<Object, Object> registry = new WindowPanel.Registry<Object, Object>();
+        final Object window1 = new Object();
+        final Object window2 = new Object();
+        final Object plain = new Object();
+        final Object weeks = new Object();
+        final Object other = new Object();
+        registry.put(window1, WindowPanel.Registry.layout(false, false), plain);
+        registry.put(window1, WindowPanel.Registry.layout(true, false), weeks);
+        registry.put(window2, WindowPanel.Registry.layout(false, false), other);
+
+        assertSame(plain, registry.get(window1, WindowPanel.Registry.layout(false, false)));
+        assertSame(weeks, registry.get(window1, WindowPanel.Registry.layout(true, false)));
+        assertNull(registry.get(window1, WindowPanel.Registry.layout(true, true)));
+        assertNull(registry.get(window1, WindowPanel.Registry.layout(false, true)));
+        assertSame(other, registry.get(window2, WindowPanel.Registry.layout(false, false)));
+        assertNull(registry.get(new Object(), WindowPanel.Registry.layout(false, false)));
+    }
+
+    public void testLayoutsAreDistinct() {
+        final List<Integer> layouts = new ArrayList<Integer>();
+        for (int i = 0; i < 4; i++) {
+            final int layout = WindowPanel.Registry.layout((i & 1) != 0, (i & 2) != 0);
+            assertTrue(layout >= 0 && layout < WindowPanel.Registry.LAYOUTS);
+            assertFalse(layouts.contains(Integer.valueOf(layout)));
+            layouts.add(Integer.valueOf(layout));
+        }
+    }
+
+    /** DatePanel that records the setters called. */
+    private static final class CountingPanel extends DatePanel {
+        private static final long serialVersionUID = 1L;
+        final List<String> calls = new ArrayList<String>();
+
+        public void setModel(final DataModel model) {
+            record("model");
+            super.setModel(model);
+        }
+
+        public void setRenderer(final DayRenderer renderer) {
+            record("renderer");
+            super.setRenderer(renderer);
+        }
+
+        public void setHeaderRenderer(final HeaderRenderer headerRenderer) {
+            record("headerRenderer");
+            super.setHeaderRenderer(headerRenderer);
+        }
+
+        public void setWorkingDays(final boolean[] workingDays) {
+            record("workingDays");
+            super.setWorkingDays(workingDays);
+        }
+
+        public void setAntiAliased(final boolean antiAliased) {
+            record("antiAliased");
+            super.setAntiAliased(antiAliased);
+        }
+
+        public void setPrintMoon(final boolean printMoon) {
+            record("printMoon");
+            super.setPrintMoon(printMoon);
+        }
+
+        public void setLocale(final Locale l) {
+            record("locale");
+            super.setLocale(l);
+        }
+
+        private void record(final String name) {
+            // setters also run from the DatePanel constructor
+            if (calls != null) {
+                calls.add(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * YearHeatMapTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.model.DateSelectionModel;
+import net.sf.nachocalendar.model.IntDataModel;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class YearHeatMapTest extends TestCase {
+    private YearHeatMap map;
+    private long jan1;
+
+    protected void setUp() throws Exception {
+        map = new YearHeatMap(2024, 2);
+        map.setFirstDayOfWeek(Calendar.MONDAY);
+        jan1 = MonthLayout.epochDay(2024, Calendar.JANUARY, 1);
+    }
+
+    protected void tearDown() throws Exception {
+        map = null;
+    }
+
+    public void testDayAtCellBounds() {
+        final long end = MonthLayout.epochDay(2026, Calendar.JANUARY, 1);
+        for (long day = jan1; day < end; day++) {
+            final Rectangle r = map.cellBounds(day);
+            assertEquals(map.getCellSize(), r.width);
+            assertEquals(day, map.dayAt(r.x, r.y));
+            assertEquals(day, map.dayAt(r.x + r.width - 1, r.y + r.height - 1));
+            // the gap after a cell belongs to no day
+            assertEquals(YearHeatMap.NO_DAY, map.dayAt(r.x + r.width, r.y));
+        }
+    }
+
+    public void testWeekLayout() {
+        // 2024-01-01 is a monday, first row of the first column
+        final Rectangle monday = map.cellBounds(jan1);
+        final Rectangle sunday = map.cellBounds(jan1 + 6);
+        final Rectangle next = map.cellBounds(jan1 + 7);
+        assertEquals(monday.x, sunday.x);
+        assertTrue(sunday.y > monday.y);
+        assertEquals(monday.y, next.y);
+        assertTrue(next.x > monday.x);
+        // the second year is a block below
+        final Rectangle second = map.cellBounds(MonthLayout.epochDay(2025, Calendar.JANUARY, 1));
+        assertTrue(second.y > sunday.y);
+    }
+
+    public void testOutside() {
+        assertTrue(map.cellBounds(jan1 - 1).isEmpty());
+        assertTrue(map.cellBounds(MonthLayout.epochDay(2026, Calendar.JANUARY, 1)).isEmpty());
+        assertEquals(YearHeatMap.NO_DAY, map.dayAt(-1, -1));
+        assertEquals(YearHeatMap.NO_DAY, map.dayAt(0, 0));
+        final Rectangle first = map.cellBounds(jan1);
+        // the cell before 2024-01-01 in the first column of 2025 is 2024-12-30
+        assertEquals(YearHeatMap.NO_DAY, map.dayAt(first.x, first.y - 1));
+    }
+
+    public void testMeasureFollowsFont() {
+        final Rectangle before = map.cellBounds(jan1);
+        map.setFont(map.getFont().deriveFont(map.getFont().getSize2D() * 3));
+        final Rectangle after = map.cellBounds(jan1);
+        assertTrue(after.x > before.x);
+        assertEquals(jan1, map.dayAt(after.x, after.y));
+    }
+
+    public void testBuckets() {
+        final IntDataModel model = new IntDataModel();
+        model.setInt(jan1, 0);
+        model.setInt(jan1 + 1, 10);
+        model.setInt(jan1 + 2, 25);
+        model.setInt(jan1 + 3, 74);
+        model.setInt(jan1 + 4, 100);
+        map.setModel(model);
+        assertEquals(0.0, map.getMinimum(), 0);
+        assertEquals(100.0, map.getMaximum(), 0);
+        assertEquals(1, map.getBucket(jan1));
+        assertEquals(1, map.getBucket(jan1 + 1));
+        assertEquals(2, map.getBucket(jan1 + 2));
+        assertEquals(3, map.getBucket(jan1 + 3));
+        assertEquals(4, map.getBucket(jan1 + 4));
+        assertEquals(0, map.getBucket(jan1 + 5));
+        assertEquals(0, map.getBucket(jan1 - 1));
+
+        // a new maximum rescales every day
+        model.setInt(jan1 + 5, 200);
+        map.daysChanged(new long[] { jan1 + 5 }, 1, false);
+        assertEquals(200.0, map.getMaximum(), 0);
+        assertEquals(4, map.getBucket(jan1 + 5));
+        assertEquals(3, map.getBucket(jan1 + 4));
+        assertEquals(1, map.getBucket(jan1 + 2));
+
+        map.setColors(map.getBackground(), map.getForeground(), map.getForeground(), 2);
+        assertEquals(2, map.getBucket(jan1 + 5));
+        assertEquals(2, map.getBucket(jan1 + 4));
+        assertEquals(1, map.getBucket(jan1 + 3));
+    }
+
+    public void testSameValuesTakeTheTopBucket() {
+        final IntDataModel model = new IntDataModel();
+        model.setInt(jan1, 5);
+        model.setInt(jan1 + 1, 5);
+        map.setModel(model);
+        assertEquals(map.getLevels(), map.getBucket(jan1));
+        assertEquals(map.getLevels(), map.getBucket(jan1 + 1));
+    }
+
+    public void testSelectionDiff() {
+        final DateSelectionModel selection = map.getDateSelectionModel();
+        selection.setSelectionMode(DateSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        selection.addSelectionInterval(CalendarUtils.fromEpochDay(jan1 + 3), CalendarUtils.fromEpochDay(jan1 + 5));
+        assertTrue(Arrays.equals(new long[] { jan1 + 3, jan1 + 4, jan1 + 5 }, map.getSelectedDays()));
+        selection.removeSelectionInterval(CalendarUtils.fromEpochDay(jan1 + 4), CalendarUtils.fromEpochDay(jan1 + 4));
+        selection.addSelectionInterval(CalendarUtils.fromEpochDay(jan1 + 400), CalendarUtils.fromEpochDay(jan1 + 400));
+        assertTrue(Arrays.equals(new long[] { jan1 + 3, jan1 + 5, jan1 + 400 }, map.getSelectedDays()));
+        // days outside the years are ignored
+        selection.addSelectionInterval(CalendarUtils.fromEpochDay(jan1 - 1), CalendarUtils.fromEpochDay(jan1 - 1));
+        assertEquals(3, map.getSelectedDays().length);
+        selection.clearSelection();
+        assertEquals(0, map.getSelectedDays().length);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * ConfigurationSourceTest.java
+ */
+package net.sf.nachocalendar.customizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class ConfigurationSourceTest extends TestCase {
+
+    private static Customizer properties(final String text) throws IOException {
+        return new PropertiesCustomizer(new ByteArrayInputStream(text.getBytes("ISO-8859-1")));
+    }
+
+    private static Set<String> set(final String... keys) {
+        return new HashSet<String>(Arrays.asList(keys));
+    }
+
+    public void testNoChanges() throws IOException {
+        final Customizer before = properties("antiAliased=true\nprintMoon=false\n");
+        final Customizer after = properties("printMoon = false \nantiAliased=true\n");
+        assertTrue(ConfigurationSource.changes(before, after).isEmpty());
+    }
+
+    public void testChangedAndAdded() throws IOException {
+        final Customizer before = properties("antiAliased=true\nprintMoon=false\n");
+        final Customizer after = properties("antiAliased=false\nprintMoon=false\nfirstDayOfWeek=MONDAY\n");
+        assertEquals(set("antiAliased", "firstDayOfWeek"), ConfigurationSource.changes(before, after));
+    }
+
+    public void testRemovedKeysKeepTheirValue() throws IOException {
+        final Customizer before = properties("antiAliased=true\nprintMoon=true\n");
+        final Customizer after = properties("printMoon=false\n");
+        assertEquals(set("printMoon"), ConfigurationSource.changes(before, after));
+    }
+
+    public void testReloadOnlyReadsChanges() throws IOException {
+        final Path file = Files.createTempFile("nachocalendar", ".properties");
+        try {
+            final FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+            Files.write(file, "antiAliased=true\n".getBytes("ISO-8859-1"));
+            Files.setLastModifiedTime(file, old);
+            final ConfigurationSource source = new ConfigurationSource(file);
+            assertFalse(source.reload());
+
+            // same size and time: the file is not read
+            Files.write(file, "antiAliased=TRUE\n".getBytes("ISO-8859-1"));
+            Files.setLastModifiedTime(file, old);
+            assertFalse(source.reload());
+
+            // saved again with the same content: read, not parsed
+            Files.write(file, "antiAliased=true\n".getBytes("ISO-8859-1"));
+            assertFalse(source.reload());
+
+            // a quick save of the same size is still seen
+            Files.write(file, "antiAliased=TRUE\n".getBytes("ISO-8859-1"));
+            assertTrue(source.reload());
+            assertFalse(source.reload());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    public void testSharedRenderersRecreatesRenderers() throws IOException {
+        final Customizer before = properties("sharedRenderers=false\n");
+        final Customizer after = properties("sharedRenderers=true\n");
+        assertEquals(set("sharedRenderers", "renderer", "headerRenderer"), ConfigurationSource.changes(before, after));
+    }
+}
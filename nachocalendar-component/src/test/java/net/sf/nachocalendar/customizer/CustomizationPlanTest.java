@@ -0,0 +1,150 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * CustomizationPlanTest.java
+ */
+package net.sf.nachocalendar.customizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class CustomizationPlanTest extends TestCase {
+    private CustomizationPlan<List<String>> plan;
+
+    protected void setUp() throws Exception {
+        plan = CustomizationPlan.<List<String>>builder()
+                .key("a").set(List::add, "a1")
+                .key("b").set(List::add, "b1")
+                .key(null).set(List::add, "none")
+                .key("a").set(List::add, "a2")
+                .key("c").set(List::add, "c1")
+                .build();
+    }
+
+    protected void tearDown() throws Exception {
+        plan = null;
+    }
+
+    public void testApplyAll() {
+        final List<String> target = new ArrayList<String>();
+        plan.apply(target);
+        assertEquals(Arrays.asList("a1", "b1", "none", "a2", "c1"), target);
+        assertEquals(5, plan.size());
+    }
+
+    public void testApplySelectedKeysInOrder() {
+        final List<String> target = new ArrayList<String>();
+        plan.apply(target, new HashSet<String>(Arrays.asList("c", "a")));
+        assertEquals(Arrays.asList("a1", "a2", "c1"), target);
+    }
+
+    public void testApplyNoKeys() {
+        final List<String> target = new ArrayList<String>();
+        plan.apply(target, new HashSet<String>());
+        assertTrue(target.isEmpty());
+    }
+
+    public void testSwingBatch() throws Exception {
+        final JPanel parent = new JPanel();
+        final JPanel root = new JPanel();
+        final JPanel child = new JPanel();
+        final JPanel other = new JPanel();
+        parent.add(root);
+        root.add(child);
+        parent.add(other);
+        final CustomizationPlan<JPanel> swing = CustomizationPlan.<JPanel>builder()
+                .set((p, v) -> {
+                    child.repaint();
+                    child.revalidate();
+                    p.repaint();
+                }, 1)
+                .set((p, v) -> {
+                    child.repaint();
+                    other.repaint();
+                }, 2)
+                .build();
+        final Recorder recorder = new Recorder();
+        SwingUtilities.invokeAndWait(() -> {
+            final RepaintManager current = RepaintManager.currentManager(root);
+            RepaintManager.setCurrentManager(recorder);
+            try {
+                swing.apply(root);
+            } finally {
+                RepaintManager.setCurrentManager(current);
+            }
+        });
+        // one repaint and one revalidation of the root, the rest passes on
+        assertEquals(Arrays.asList(other, root), recorder.dirty);
+        assertEquals(Arrays.asList(root), recorder.invalid);
+    }
+
+    public void testSwingBatchSkipsUnusedKeys() throws Exception {
+        final JPanel parent = new JPanel();
+        final JPanel root = new JPanel();
+        parent.add(root);
+        final CustomizationPlan<JPanel> swing = CustomizationPlan.<JPanel>builder()
+                .key("a").set(JPanel::setOpaque, false)
+                .build();
+        final Recorder recorder = new Recorder();
+        SwingUtilities.invokeAndWait(() -> {
+            final RepaintManager current = RepaintManager.currentManager(root);
+            RepaintManager.setCurrentManager(recorder);
+            try {
+                swing.apply(root, new HashSet<String>(Arrays.asList("b")));
+            } finally {
+                RepaintManager.setCurrentManager(current);
+            }
+        });
+        assertTrue(swing.uses(new HashSet<String>(Arrays.asList("a", "b"))));
+        assertTrue(root.isOpaque());
+        assertTrue(recorder.dirty.isEmpty());
+        assertTrue(recorder.invalid.isEmpty());
+    }
+
+    public void testSetIfChanged() {
+        final List<String> calls = new ArrayList<String>();
+        final StringBuilder value = new StringBuilder("x");
+        final CustomizationPlan<StringBuilder> text = CustomizationPlan.<StringBuilder>builder()
+                .setIfChanged(StringBuilder::toString, (b, v) -> {
+                    calls.add(v);
+                    b.setLength(0);
+                    b.append(v);
+                }, "x")
+                .build();
+        text.apply(value);
+        assertTrue(calls.isEmpty());
+        value.setLength(0);
+        text.apply(value);
+        assertEquals(Arrays.asList("x"), calls);
+    }
+
+    /** Records the requests that reach the repaint manager. */
+    private static final class Recorder extends RepaintManager {
+        private final List<JComponent> dirty = new ArrayList<JComponent>();
+        private final List<JComponent> invalid = new ArrayList<JComponent>();
+
+        public void addDirtyRegion(final JComponent c, final int x, final int y, final int w, final int h) {
+            dirty.add(c);
+        }
+
+        public void addInvalidComponent(final JComponent invalidComponent) {
+            invalid.add(invalidComponent);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * XMLCustomizerTest.java
+ */
+package net.sf.nachocalendar.customizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class XMLCustomizerTest extends TestCase {
+    private static final String DOCTYPE = "<!DOCTYPE nachocalendar [<!ELEMENT property (#PCDATA)>\n"
+            + "<!ATTLIST property\n    name CDATA #IMPLIED>\n<!ELEMENT nachocalendar (property)*>]>\n";
+
+    private static XMLCustomizer read(final String xml) throws IOException {
+        return new XMLCustomizer(new ByteArrayInputStream(xml.getBytes("UTF-8")));
+    }
+
+    public void testProperties() throws IOException {
+        final XMLCustomizer customizer = read("<?xml version=\"1.0\"?>\n<!-- header -->\n" + DOCTYPE
+                + "<nachocalendar>\n"
+                + "  <!-- a comment -->\n"
+                + "  <property name=\"firstDayOfWeek\">MONDAY</property>\n"
+                + "  <property name=\"antiAliased\">true</property>\n"
+                + "  <property name=\"daysToShow\">42</property>\n"
+                + "  <property name=\"dateFormat\"><![CDATA[dd/MM]]>/yyyy</property>\n"
+                + "  <property>ignored</property>\n"
+                + "</nachocalendar>\n");
+        assertEquals(4, customizer.keySet().size());
+        assertEquals("MONDAY", customizer.getString("firstDayOfWeek"));
+        assertTrue(customizer.getBoolean("antiAliased"));
+        assertEquals(42, customizer.getInteger("daysToShow"));
+        assertEquals("dd/MM/yyyy", customizer.getString("dateFormat"));
+        assertNull(customizer.getString("printMoon"));
+    }
+
+    public void testExternalEntitiesAreNotRead() throws IOException {
+        try {
+            final XMLCustomizer customizer = read("<?xml version=\"1.0\"?>\n"
+                    + "<!DOCTYPE nachocalendar [<!ENTITY secret SYSTEM \"file:///etc/hostname\">]>\n"
+                    + "<nachocalendar><property name=\"dateFormat\">&secret;</property></nachocalendar>");
+            final String value = customizer.getString("dateFormat");
+            assertTrue(value == null || value.isEmpty());
+        } catch (final IOException e) {
+            // rejected, also fine
+        }
+    }
+
+    public void testInvalid() {
+        try {
+            read("<nachocalendar><property name=\"a\">1</nachocalendar>");
+            fail("malformed xml accepted");
+        } catch (final IOException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * ConcurrentDataModelTest.java
+ */
+package net.sf.nachocalendar.model;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class ConcurrentDataModelTest extends TestCase {
+    private ConcurrentDataModel model;
+
+    protected void setUp() throws Exception {
+        model = new ConcurrentDataModel();
+    }
+
+    protected void tearDown() throws Exception {
+        model = null;
+    }
+
+    public void testSameDay() {
+        Calendar cal = new GregorianCalendar(2005, Calendar.JANUARY, 8, 1, 0);
+        Date d1 = cal.getTime();
+        cal.set(Calendar.HOUR_OF_DAY, 23);
+        Date d2 = cal.getTime();
+        model.addData(d1, "Dia 1");
+        assertEquals("Dia 1", model.getData(d2));
+        model.addData(d2, "Dia 2");
+        assertEquals(model.getSize(), 1);
+        model.removeData(d1);
+        assertNull(model.getData(d2));
+    }
+
+    public void testConcurrentProducers() throws Exception {
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final int offset = i * 100;
+            threads[i] = new Thread() {
+                public void run() {
+                    Calendar cal = new GregorianCalendar(2005, Calendar.JANUARY, 1);
+                    cal.add(Calendar.DAY_OF_YEAR, offset);
+                    for (int j = 0; j < 100; j++) {
+                        model.addData(cal.getTime(), Integer.valueOf(offset + j));
+                        cal.add(Calendar.DAY_OF_YEAR, 1);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+        assertEquals(model.getSize(), 400);
+        Calendar cal = new GregorianCalendar(2005, Calendar.JANUARY, 1);
+        cal.add(Calendar.DAY_OF_YEAR, 250);
+        assertEquals(Integer.valueOf(250), model.getData(cal.getTime()));
+    }
+
+    public void testCoalescedEvents() throws Exception {
+        final List events = new ArrayList();
+        final boolean[] edt = {true};
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                edt[0] &= SwingUtilities.isEventDispatchThread();
+                events.add(evt.getDate());
+            }
+        });
+        // produce while the EDT is busy, so the batch can not be flushed in between
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                Calendar cal = new GregorianCalendar(2005, Calendar.JANUARY, 8);
+                for (int i = 0; i < 10; i++) {
+                    model.addData(cal.getTime(), Integer.valueOf(i));
+                }
+                cal.add(Calendar.DAY_OF_YEAR, 1);
+                model.addData(cal.getTime(), "other");
+                assertEquals(events.size(), 0);
+            }
+        });
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+            }
+        });
+        assertEquals(events.size(), 2);
+        assertTrue(edt[0]);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DateCellEditorTest.java
+ */
+package net.sf.nachocalendar.table;
+
+import java.text.DateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import javax.swing.JTextField;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.DateField;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DateCellEditorTest extends TestCase {
+    private DateCellEditor editor;
+    private Date cell;
+
+    protected void setUp() throws Exception {
+        editor = new DateCellEditor(DateFormat.getDateInstance(DateFormat.SHORT, Locale.US));
+        cell = new GregorianCalendar(2026, Calendar.JANUARY, 31).getTime();
+        editor.getTableCellEditorComponent(null, cell, false, 0, 0);
+    }
+
+    protected void tearDown() throws Exception {
+        editor = null;
+        cell = null;
+    }
+
+    private static Date day(final int year, final int month, final int day) {
+        return new GregorianCalendar(year, month, day).getTime();
+    }
+
+    public void testToday() {
+        final Calendar today = Calendar.getInstance();
+        final Calendar parsed = Calendar.getInstance();
+        parsed.setTime(editor.parse("t"));
+        assertEquals(today.get(Calendar.YEAR), parsed.get(Calendar.YEAR));
+        assertEquals(today.get(Calendar.DAY_OF_YEAR), parsed.get(Calendar.DAY_OF_YEAR));
+        assertEquals(0, parsed.get(Calendar.HOUR_OF_DAY));
+        assertEquals(parsed.getTime(), editor.parse("T"));
+    }
+
+    public void testFormat() {
+        assertEquals(day(2026, Calendar.MARCH, 5), editor.parse("3/5/26"));
+        assertNull(editor.parse("3/5/26x"));
+        assertNull(editor.parse("13/45/26"));
+        assertNull(editor.parse(""));
+    }
+
+    public void testMove() {
+        assertEquals(day(2026, Calendar.FEBRUARY, 1), editor.parse("+1d"));
+        assertEquals(day(2026, Calendar.FEBRUARY, 1), editor.parse("+1"));
+        assertEquals(day(2026, Calendar.JANUARY, 17), editor.parse("-2w"));
+        assertEquals(day(2026, Calendar.FEBRUARY, 28), editor.parse("+1m"));
+        assertEquals(day(2023, Calendar.JANUARY, 31), editor.parse("-3Y"));
+        assertEquals(cell, editor.parse("+0d"));
+    }
+
+    public void testMoveFromNoDate() {
+        editor.getTableCellEditorComponent(null, null, false, 0, 0);
+        final Calendar expected = Calendar.getInstance();
+        expected.setTime(editor.parse("t"));
+        expected.add(Calendar.DAY_OF_MONTH, 1);
+        assertEquals(expected.getTime(), editor.parse("+1d"));
+    }
+
+    public void testMoveUnitErrors() {
+        assertNull(editor.parse("+"));
+        assertNull(editor.parse("-d"));
+        assertNull(editor.parse("+1x"));
+        assertNull(editor.parse("+1dd"));
+        assertNull(editor.parse("+1 d"));
+        assertNull(editor.parse("+1d2"));
+    }
+
+    public void testMoveOverflowGuard() {
+        assertNotNull(editor.parse("+100000d"));
+        assertNull(editor.parse("+100001d"));
+        assertNull(editor.parse("-99999999999999999999y"));
+    }
+
+    public void testStopKeepsEditingOnError() {
+        final JTextField field = (JTextField) editor.getTableCellEditorComponent(null, cell, false, 0, 0);
+        field.setText("+1q");
+        assertFalse(editor.stopCellEditing());
+        assertEquals(cell, editor.getCellEditorValue());
+    }
+
+    public void testSettingsFromDateField() {
+        final DateField settings = new DateField();
+        final Object shown = settings.getValue();
+        final DateCellEditor own = new DateCellEditor(settings, DateFormat.getDateInstance(DateFormat.SHORT, Locale.US));
+        assertSame(settings, own.getDateField());
+        own.getTableCellEditorComponent(null, cell, false, 0, 0);
+        // nothing is shown, stopping only hides a popup of this field
+        assertTrue(own.stopCellEditing());
+        assertEquals(cell, own.getCellEditorValue());
+        assertEquals(shown, settings.getValue());
+    }
+
+    public void testCalendarSelectedKeepsCentury() {
+        final Date picked = day(1920, Calendar.JUNE, 15);
+        editor.calendarSelected(picked);
+        assertEquals(picked, editor.getCellEditorValue());
+    }
+}
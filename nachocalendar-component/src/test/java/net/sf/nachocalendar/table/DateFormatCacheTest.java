@@ -0,0 +1,114 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DateFormatCacheTest.java
+ */
+package net.sf.nachocalendar.table;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import javax.swing.JLabel;
+import javax.swing.JTable;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DateFormatCacheTest extends TestCase {
+    private static final long DAY = 86400000L;
+
+    private static SimpleDateFormat format(final String pattern) {
+        final SimpleDateFormat retorno = new SimpleDateFormat(pattern, Locale.US);
+        retorno.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return retorno;
+    }
+
+    public void testIsDateOnly() {
+        assertTrue(DateFormatCache.isDateOnly(format("dd/MM/yyyy")));
+        assertTrue(DateFormatCache.isDateOnly(format("EEE, d MMM yy")));
+        assertTrue(DateFormatCache.isDateOnly(format("yyyy-MM-dd'T'")));
+        assertTrue(DateFormatCache.isDateOnly(format("'at' d 'of' MMMM")));
+        assertTrue(DateFormatCache.isDateOnly(format("d 'o''clock' MMM")));
+        assertFalse(DateFormatCache.isDateOnly(format("dd/MM/yyyy HH:mm")));
+        assertFalse(DateFormatCache.isDateOnly(format("d MMM h a")));
+        assertFalse(DateFormatCache.isDateOnly(format("yyyy-MM-dd'T'HH")));
+        assertFalse(DateFormatCache.isDateOnly(format("d MMM z")));
+        assertFalse(DateFormatCache.isDateOnly(format("yyyy-MM-ddX")));
+    }
+
+    public void testTimeFormatsAreNotCached() {
+        final DateFormatCache cache = new DateFormatCache(format("d MMM HH:mm"));
+        assertFalse(cache.isCached());
+        assertEquals("1 Jan 00:00", cache.format(0L));
+        assertEquals("1 Jan 06:00", cache.format(DAY / 4));
+    }
+
+    public void testSameDaySameText() {
+        final DateFormatCache cache = new DateFormatCache(format("yyyy-MM-dd"), 4);
+        final String text = cache.format(new Date(10 * DAY));
+        assertEquals("1970-01-11", text);
+        assertSame(text, cache.format(new Date(10 * DAY + DAY - 1)));
+        assertEquals("1970-01-12", cache.format(new Date(11 * DAY)));
+    }
+
+    public void testDirectMappedEviction() {
+        final DateFormatCache cache = new DateFormatCache(format("yyyy-MM-dd"), 4);
+        final String first = cache.format(8 * DAY);
+        // 4 entries, so day 12 takes the slot of day 8
+        assertEquals("1970-01-13", cache.format(12 * DAY));
+        final String again = cache.format(8 * DAY);
+        assertEquals(first, again);
+        assertNotSame(first, again);
+        // other slots were not touched
+        final String ninth = cache.format(9 * DAY);
+        assertSame(ninth, cache.format(9 * DAY));
+        assertSame(again, cache.format(8 * DAY));
+    }
+
+    public void testCapacityIsRoundedUp() {
+        final DateFormatCache cache = new DateFormatCache(format("yyyy-MM-dd"), 5);
+        final String first = cache.format(0L);
+        // 8 entries, day 4 does not evict day 0
+        cache.format(4 * DAY);
+        assertSame(first, cache.format(0L));
+        cache.format(8 * DAY);
+        assertNotSame(first, cache.format(0L));
+    }
+
+    public void testNegativeDays() {
+        final DateFormatCache cache = new DateFormatCache(format("yyyy-MM-dd"), 4);
+        assertEquals("1969-12-31", cache.format(-1L));
+        assertEquals("1969-12-31", cache.format(-DAY));
+        assertEquals("1969-12-30", cache.format(-DAY - 1));
+    }
+
+    public void testClear() {
+        final DateFormatCache cache = new DateFormatCache(format("yyyy-MM-dd"), 4);
+        final String first = cache.format(0L);
+        cache.clear();
+        assertNotSame(first, cache.format(0L));
+    }
+
+    public void testRendererSurvivesSerialization() throws Exception {
+        final DateCellRenderer renderer = new DateCellRenderer(format("yyyy-MM-dd"));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(renderer);
+        out.close();
+        final DateCellRenderer copy = (DateCellRenderer) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        final JLabel label = (JLabel) copy.getTableCellRendererComponent(new JTable(), new Date(0L), false, false, 0, 0);
+        assertEquals("1970-01-01", label.getText());
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * Changes
+ * -------
+ * 
+ * 2005-01-09   Cleanups
+ * 2004-12-28   convertToDate: Added null support.
+ * 2004-12-21   Added isToday() funcion
+ * 
+ * -------
+ *
+ * CalendarUtils.java
+ *
+ * Created on October 22, 2004, 10:01 PM
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Collection of utilities.
+ * @author  Ignacio Merani
+ */
+public final class CalendarUtils {
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final int LOCAL_DATES = 1024;
+    private static final LocalDate[] localDates = new LocalDate[LOCAL_DATES];
+
+    /** Nanoseconds the default time zone is used before reading it again. */
+    private static final long ZONE_CHECK = 1000000000L;
+    private static volatile TimeZone defaultZone;
+    private static volatile long defaultZoneRead;
+    private static Calendar calendar1, calendar2;
+    static {
+        calendar1 = new GregorianCalendar();
+        calendar2 = new GregorianCalendar();
+    }
+
+    /** Creates a new instance of CalendarUtils */
+    private CalendarUtils() {
+    }
+
+    /**
+     * Converts Object to Date with the converter registered in
+     * {@link DateConverters} for its type.
+     * @param o Object to convert
+     * @throws ParseException if something goes wrong
+     * @return a Date
+     */
+    public static Date convertToDate(final Object o) throws ParseException {
+        return DateConverters.convert(o);
+    }
+
+    private static synchronized boolean isSameDay() {
+        if (calendar1.get(Calendar.DAY_OF_YEAR) != calendar2.get(Calendar.DAY_OF_YEAR)) {
+            return false;
+        }
+        if (calendar1.get(Calendar.YEAR) != calendar2.get(Calendar.YEAR)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compares two dates.
+     * @param d1 first date
+     * @param d2 second date
+     * @return true if both dates are the same day
+     */
+    public static synchronized boolean isSameDay(final Date d1, final Date d2) {
+        calendar1.setTime(d1);
+        calendar2.setTime(d2);
+        return isSameDay();
+    }
+
+    /**
+     * Compares provided date with the current Date.
+     * @param date date to compare
+     * @return true if is current day
+     */
+    public static synchronized boolean isToday(final Date date) {
+        calendar1.setTimeInMillis(System.currentTimeMillis());
+        calendar2.setTime(date);
+        return isSameDay();
+    }
+
+    /**
+     * Returns the default time zone. TimeZone.getDefault() clones the zone
+     * on every call, so it is kept and read again at most once a second,
+     * or after {@link #defaultZoneChanged()}. The instance is shared and
+     * must not be modified.
+     * @return the default time zone
+     */
+    public static TimeZone getDefaultZone() {
+        final long now = System.nanoTime();
+        TimeZone retorno = defaultZone;
+        if ((retorno == null) || (now - defaultZoneRead > ZONE_CHECK)) {
+            retorno = TimeZone.getDefault();
+            defaultZoneRead = now;
+            defaultZone = retorno;
+        }
+        return retorno;
+    }
+
+    /**
+     * Forgets the default time zone kept by {@link #getDefaultZone()}, to
+     * be called after TimeZone.setDefault for it to be used at once.
+     */
+    public static void defaultZoneChanged() {
+        defaultZone = null;
+    }
+
+    /**
+     * Converts a Date to the number of days since 1970-01-01 in the default
+     * time zone. Every instant of the same local day gets the same value, so
+     * it can be used as a key without a shared Calendar.
+     * @param date date to convert
+     * @return the local epoch day
+     */
+    public static long toEpochDay(final Date date) {
+        return toEpochDay(date.getTime(), getDefaultZone());
+    }
+
+    /**
+     * Converts an instant to the number of days since 1970-01-01 in a time
+     * zone. Callers converting many values should get the zone once.
+     * @param millis milliseconds since the epoch
+     * @param zone the time zone
+     * @return the local epoch day
+     */
+    public static long toEpochDay(final long millis, final TimeZone zone) {
+        return Math.floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the current epoch day in the default time zone.
+     * @return the local epoch day of today
+     */
+    public static long today() {
+        return toEpochDay(System.currentTimeMillis(), getDefaultZone());
+    }
+
+    /**
+     * Returns the LocalDate of an epoch day. The last days asked are kept,
+     * they are immutable so the same instance is returned to every caller.
+     * @param epochDay days since 1970-01-01
+     * @return the LocalDate
+     */
+    public static LocalDate toLocalDate(final long epochDay) {
+        final int slot = (int) (epochDay & (LOCAL_DATES - 1));
+        final LocalDate cached = localDates[slot];
+        if ((cached != null) && (cached.toEpochDay() == epochDay)) {
+            return cached;
+        }
+        final LocalDate retorno = LocalDate.ofEpochDay(epochDay);
+        localDates[slot] = retorno;
+        return retorno;
+    }
+
+    /**
+     * Returns the LocalDate of a Date in the default time zone.
+     * @param date the date
+     * @return the LocalDate
+     */
+    public static LocalDate toLocalDate(final Date date) {
+        return toLocalDate(toEpochDay(date));
+    }
+
+    /**
+     * Returns the local midnight of an epoch day in the default time zone.
+     * @param epochDay days since 1970-01-01
+     * @return the Date at the start of that day
+     */
+    public static Date fromEpochDay(final long epochDay) {
+        return toDate(epochDay, 0);
+    }
+
+    /**
+     * Returns the Date of a local day and time in the default time zone.
+     * Daylight saving changes are resolved as a lenient Calendar does.
+     * @param epochDay days since 1970-01-01
+     * @param millisOfDay local time of day
+     * @return the Date
+     */
+    public static Date toDate(final long epochDay, final int millisOfDay) {
+        final long local = epochDay * MILLIS_PER_DAY + millisOfDay;
+        final TimeZone tz = getDefaultZone();
+        final int before = tz.getOffset(local - MILLIS_PER_DAY);
+        final int after = tz.getOffset(local + MILLIS_PER_DAY);
+        if (before == after) {
+            return new Date(local - before);
+        }
+        // a repeated time takes the later instant, as standard time, and a
+        // skipped time keeps the offset before the change
+        final boolean first = tz.getOffset(local - before) == before;
+        final boolean second = tz.getOffset(local - after) == after;
+        if (first && second) {
+            return new Date(local - Math.min(before, after));
+        }
+        if (second) {
+            return new Date(local - after);
+        }
+        if (first) {
+            return new Date(local - before);
+        }
+        return new Date(local - Math.min(before, after));
+    }
+
+    /**
+     * Returns the local time of day of a Date in the default time zone.
+     * @param date the date
+     * @return milliseconds since local midnight
+     */
+    public static int millisOfDay(final Date date) {
+        final long millis = date.getTime();
+        return (int) Math.floorMod(millis + getDefaultZone().getOffset(millis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns a localized message of the default locale.
+     * @param key message key
+     * @return the message
+     */
+    public static String getMessage(final String key) {
+        return LocaleNames.getDefault().getCaption(key);
+    }
+}
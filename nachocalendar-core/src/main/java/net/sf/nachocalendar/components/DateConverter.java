@@ -0,0 +1,52 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateConverter.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Converts values of one type to Date. Converters are registered in
+ * {@link DateConverters} and used by {@link CalendarUtils#convertToDate}.
+ * They are called from any thread, so they must not keep mutable state.
+ *
+ * @author Ignacio Merani
+ */
+public interface DateConverter {
+
+    /**
+     * Converts a value.
+     * @param value the value, never null
+     * @return the Date
+     * @throws ParseException if the value can not be converted
+     */
+    Date convert(Object value) throws ParseException;
+}
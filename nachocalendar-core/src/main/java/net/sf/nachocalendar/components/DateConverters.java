@@ -0,0 +1,225 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DateConverters.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.sql.Timestamp;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link DateConverter}s used by
+ * {@link CalendarUtils#convertToDate}. The converter of a class is looked
+ * up once, walking its superclasses and interfaces, and then read without
+ * locking. Dates, SQL types, Calendar, Long millis and the java.time types
+ * are registered by default; any other value is converted as its text.
+ * <p>
+ * Texts are read with a compiled {@link DatePattern} of the default date
+ * format, then as ISO yyyy-MM-dd, then with a per thread copy of the
+ * lenient DateFormat. The last texts read are remembered, so the same
+ * values set again are not parsed again.
+ *
+ * @author Ignacio Merani
+ */
+public final class DateConverters {
+    /** Texts remembered, a power of two. */
+    private static final int MEMO_SIZE = 64;
+
+    private static final DatePattern PATTERN;
+    private static final DatePattern ISO = DatePattern.of("yyyy-MM-dd", Locale.ROOT);
+    private static final DateFormat FORMAT;
+    private static final ThreadLocal<DateFormat> FORMATS;
+    private static final Memo[] MEMO = new Memo[MEMO_SIZE];
+
+    /** Converts texts. */
+    public static final DateConverter TEXT = o -> parse(o.toString());
+
+    private static volatile Table table;
+
+    static {
+        FORMAT = DateFormat.getDateInstance();
+        PATTERN = DatePattern.of(FORMAT);
+        FORMATS = ThreadLocal.withInitial(() -> (DateFormat) FORMAT.clone());
+
+        final Map<Class<?>, DateConverter> defaults = new HashMap<Class<?>, DateConverter>();
+        defaults.put(Date.class, o -> (Date) o);
+        defaults.put(Timestamp.class, o -> new Date(((Timestamp) o).getTime()));
+        defaults.put(java.sql.Date.class, o -> new Date(((java.sql.Date) o).getTime()));
+        defaults.put(Calendar.class, o -> ((Calendar) o).getTime());
+        defaults.put(Long.class, o -> new Date(((Long) o).longValue()));
+        defaults.put(LocalDate.class, o -> CalendarUtils.fromEpochDay(((LocalDate) o).toEpochDay()));
+        defaults.put(LocalDateTime.class, o -> {
+            final LocalDateTime t = (LocalDateTime) o;
+            return CalendarUtils.toDate(t.toLocalDate().toEpochDay(), (int) (t.toLocalTime().toNanoOfDay() / 1000000L));
+        });
+        defaults.put(Instant.class, o -> new Date(((Instant) o).toEpochMilli()));
+        defaults.put(ZonedDateTime.class, o -> new Date(((ZonedDateTime) o).toInstant().toEpochMilli()));
+        defaults.put(OffsetDateTime.class, o -> new Date(((OffsetDateTime) o).toInstant().toEpochMilli()));
+        defaults.put(CharSequence.class, TEXT);
+        table = new Table(defaults);
+    }
+
+    private DateConverters() {
+    }
+
+    /**
+     * Registers the converter of a type, it is also used for its subclasses
+     * without a converter of their own.
+     * @param type the type
+     * @param converter the converter, null to remove it
+     */
+    public static synchronized void register(final Class<?> type, final DateConverter converter) {
+        final Map<Class<?>, DateConverter> map = new HashMap<Class<?>, DateConverter>(table.registered);
+        if (converter == null) {
+            map.remove(type);
+        } else {
+            map.put(type, converter);
+        }
+        table = new Table(map);
+    }
+
+    /**
+     * Returns the converter used for a type.
+     * @param type the type
+     * @return the converter, {@link #TEXT} if none is registered
+     */
+    public static DateConverter getConverter(final Class<?> type) {
+        return table.find(type);
+    }
+
+    /**
+     * Converts a value to Date.
+     * @param value the value
+     * @return the Date, null if value is null
+     * @throws ParseException if the value can not be converted
+     */
+    public static Date convert(final Object value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        return table.find(value.getClass()).convert(value);
+    }
+
+    private static Date parse(final String text) throws ParseException {
+        final int slot = text.hashCode() & (MEMO_SIZE - 1);
+        final Memo memo = MEMO[slot];
+        if ((memo != null) && memo.text.equals(text)) {
+            return memo.toDate();
+        }
+        long day = PATTERN != null ? PATTERN.parse(text) : DatePattern.NO_DATE;
+        if (day == DatePattern.NO_DATE) {
+            day = ISO.parse(text);
+        }
+        final Memo read;
+        if (day != DatePattern.NO_DATE) {
+            read = new Memo(text, day, 0);
+        } else {
+            read = new Memo(text, DatePattern.NO_DATE, FORMATS.get().parse(text).getTime());
+        }
+        MEMO[slot] = read;
+        return read.toDate();
+    }
+
+    /**
+     * A text already read. Epoch days are kept instead of the instant, so
+     * they follow changes of the default time zone. It is immutable, so it
+     * can be published through the array without locking.
+     */
+    private static final class Memo {
+        final String text;
+        final long day, millis;
+
+        Memo(final String text, final long day, final long millis) {
+            this.text = text;
+            this.day = day;
+            this.millis = millis;
+        }
+
+        Date toDate() {
+            return day != DatePattern.NO_DATE ? CalendarUtils.fromEpochDay(day) : new Date(millis);
+        }
+    }
+
+    /** The registered converters and the ones resolved from them. */
+    private static final class Table {
+        final Map<Class<?>, DateConverter> registered;
+        final ConcurrentHashMap<Class<?>, DateConverter> resolved = new ConcurrentHashMap<Class<?>, DateConverter>();
+
+        Table(final Map<Class<?>, DateConverter> registered) {
+            this.registered = Collections.unmodifiableMap(registered);
+        }
+
+        DateConverter find(final Class<?> type) {
+            final DateConverter c = resolved.get(type);
+            if (c != null) {
+                return c;
+            }
+            final DateConverter found = resolve(type);
+            resolved.put(type, found);
+            return found;
+        }
+
+        private DateConverter resolve(final Class<?> type) {
+            for (Class<?> k = type; k != null; k = k.getSuperclass()) {
+                final DateConverter c = registered.get(k);
+                if (c != null) {
+                    return c;
+                }
+            }
+            final Deque<Class<?>> pending = new ArrayDeque<Class<?>>();
+            for (Class<?> k = type; k != null; k = k.getSuperclass()) {
+                Collections.addAll(pending, k.getInterfaces());
+            }
+            while (!pending.isEmpty()) {
+                final Class<?> k = pending.poll();
+                final DateConverter c = registered.get(k);
+                if (c != null) {
+                    return c;
+                }
+                Collections.addAll(pending, k.getInterfaces());
+            }
+            return TEXT;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DatePattern.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.text.DateFormat;
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A SimpleDateFormat pattern compiled to parse and format epoch days
+ * directly. Parsing reads a CharSequence without creating any object, and
+ * formatting appends to a StringBuilder. Patterns are compiled once per
+ * pattern and symbols and shared, instances are immutable and thread
+ * safe.
+ *
+ * <p>Only date patterns are compiled: years, months, days of month, day
+ * names and literals. Parsing is strict, a text that is not exactly in the
+ * pattern or a day that does not exist is rejected, so callers can fall
+ * back to a lenient DateFormat. Days before 1583 are left to DateFormat
+ * too, as it switches to the Julian calendar.</p>
+ *
+ * @author Ignacio Merani
+ */
+public final class DatePattern {
+    /** Returned by parse when the text is not a date of the pattern. */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    /** First day handled, 1583-01-01. */
+    public static final long FIRST_DAY = MonthLayout.epochDay(1583, Calendar.JANUARY, 1);
+
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int MONTH_NAME = 3;
+    private static final int DAY = 4;
+    private static final int WEEKDAY_NAME = 5;
+
+    /** Start of the two digit years, computed once a day. */
+    private static volatile long centuryStart, centuryToday = Long.MIN_VALUE;
+
+    private static final ConcurrentHashMap<Key, DatePattern> CACHE = new ConcurrentHashMap<Key, DatePattern>();
+
+    /** Patterns that can not be compiled. */
+    private static final DatePattern NONE = new DatePattern(null, new int[0], new int[0], new boolean[0], new String[0], null);
+
+    private final String pattern;
+    private final int[] kinds;
+    private final int[] widths;
+    private final boolean[] fixed;
+    private final String[] literals;
+    private final String[] months, shortMonths, weekdays, shortWeekdays;
+
+    private DatePattern(final String pattern, final int[] kinds, final int[] widths, final boolean[] fixed, final String[] literals,
+            final DateFormatSymbols symbols) {
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.widths = widths;
+        this.fixed = fixed;
+        this.literals = literals;
+        months = symbols == null ? null : symbols.getMonths();
+        shortMonths = symbols == null ? null : symbols.getShortMonths();
+        weekdays = symbols == null ? null : symbols.getWeekdays();
+        shortWeekdays = symbols == null ? null : symbols.getShortWeekdays();
+    }
+
+    /**
+     * Returns the compiled pattern of a DateFormat.
+     * @param format the format
+     * @return the pattern, or null if the format can not be compiled
+     */
+    public static DatePattern of(final DateFormat format) {
+        if (!(format instanceof SimpleDateFormat) || (format.getCalendar().getClass() != GregorianCalendar.class)) {
+            return null;
+        }
+        final SimpleDateFormat simple = (SimpleDateFormat) format;
+        if (!(simple.getNumberFormat() instanceof DecimalFormat)
+                || (((DecimalFormat) simple.getNumberFormat()).getDecimalFormatSymbols().getZeroDigit() != '0')) {
+            return null;
+        }
+        return of(simple.toPattern(), simple.getDateFormatSymbols());
+    }
+
+    /**
+     * Returns the compiled pattern for a locale.
+     * @param pattern a SimpleDateFormat pattern
+     * @param locale locale of the names
+     * @return the pattern, or null if it can not be compiled
+     */
+    public static DatePattern of(final String pattern, final Locale locale) {
+        return of(pattern, DateFormatSymbols.getInstance(locale));
+    }
+
+    /**
+     * Returns the compiled pattern of a date style of DateFormat.
+     * @param style DateFormat.SHORT to DateFormat.FULL
+     * @param locale the locale
+     * @return the pattern, or null if it can not be compiled
+     */
+    public static DatePattern forStyle(final int style, final Locale locale) {
+        return of(DateFormat.getDateInstance(style, locale));
+    }
+
+    private static DatePattern of(final String pattern, final DateFormatSymbols symbols) {
+        final Key key = new Key(pattern, symbols);
+        DatePattern retorno = CACHE.get(key);
+        if (retorno == null) {
+            retorno = compile(pattern, symbols);
+            CACHE.putIfAbsent(key, retorno);
+        }
+        return retorno == NONE ? null : retorno;
+    }
+
+    private static DatePattern compile(final String pattern, final DateFormatSymbols symbols) {
+        final List<int[]> fields = new ArrayList<int[]>();
+        final List<String> texts = new ArrayList<String>();
+        final StringBuilder literal = new StringBuilder();
+        final int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                // quoted text, two quotes are one quote
+                i++;
+                if ((i < length) && (pattern.charAt(i) == '\'')) {
+                    literal.append('\'');
+                    i++;
+                    continue;
+                }
+                while (i < length) {
+                    if (pattern.charAt(i) == '\'') {
+                        if ((i + 1 < length) && (pattern.charAt(i + 1) == '\'')) {
+                            literal.append('\'');
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(i++));
+                }
+                i++;
+                continue;
+            }
+            if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'))) {
+                int count = 1;
+                while ((i + count < length) && (pattern.charAt(i + count) == c)) {
+                    count++;
+                }
+                final int kind;
+                switch (c) {
+                case 'y':
+                    kind = YEAR;
+                    break;
+                case 'M':
+                    kind = count >= 3 ? MONTH_NAME : MONTH;
+                    break;
+                case 'L':
+                    // stand alone names are not in DateFormatSymbols
+                    if (count >= 3) {
+                        return NONE;
+                    }
+                    kind = MONTH;
+                    break;
+                case 'd':
+                    kind = DAY;
+                    break;
+                case 'E':
+                    kind = WEEKDAY_NAME;
+                    break;
+                default:
+                    return NONE;
+                }
+                if (literal.length() > 0) {
+                    fields.add(new int[] {LITERAL, texts.size()});
+                    texts.add(literal.toString());
+                    literal.setLength(0);
+                }
+                fields.add(new int[] {kind, count});
+                i += count;
+                continue;
+            }
+            literal.append(c);
+            i++;
+        }
+        if (literal.length() > 0) {
+            fields.add(new int[] {LITERAL, texts.size()});
+            texts.add(literal.toString());
+        }
+
+        final int size = fields.size();
+        final int[] kinds = new int[size];
+        final int[] widths = new int[size];
+        final boolean[] fixed = new boolean[size];
+        for (int j = 0; j < size; j++) {
+            kinds[j] = fields.get(j)[0];
+            widths[j] = fields.get(j)[1];
+        }
+        // a number followed by another number is read with its width
+        for (int j = 0; j + 1 < size; j++) {
+            fixed[j] = isNumber(kinds[j]) && isNumber(kinds[j + 1]);
+        }
+        boolean year = false, month = false, day = false;
+        for (int j = 0; j < size; j++) {
+            year |= kinds[j] == YEAR;
+            month |= (kinds[j] == MONTH) || (kinds[j] == MONTH_NAME);
+            day |= kinds[j] == DAY;
+        }
+        if (!year || !month || !day) {
+            return NONE;
+        }
+        return new DatePattern(pattern, kinds, widths, fixed, texts.toArray(new String[texts.size()]), symbols);
+    }
+
+    private static boolean isNumber(final int kind) {
+        return (kind == YEAR) || (kind == MONTH) || (kind == DAY);
+    }
+
+    /**
+     * Getter for property pattern.
+     * @return the SimpleDateFormat pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Parses a whole text, spaces around it are ignored.
+     * @param text the text
+     * @return the epoch day, or NO_DATE
+     */
+    public long parse(final CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a part of a text, spaces around it are ignored.
+     * @param text the text
+     * @param start first char
+     * @param end end of the part, exclusive
+     * @return the epoch day, or NO_DATE
+     */
+    public long parse(final CharSequence text, final int start, final int end) {
+        int pos = start;
+        int last = end;
+        while ((pos < last) && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        while ((last > pos) && Character.isWhitespace(text.charAt(last - 1))) {
+            last--;
+        }
+        int year = -1, month = -1, day = -1;
+        boolean twoDigits = false;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+            case LITERAL:
+                final String literal = literals[widths[i]];
+                if (!matches(text, pos, last, literal)) {
+                    return NO_DATE;
+                }
+                pos += literal.length();
+                break;
+            case MONTH_NAME:
+                final int name = match(text, pos, last, months, shortMonths, 0, 12);
+                if (name < 0) {
+                    return NO_DATE;
+                }
+                month = name & 15;
+                pos += name >>> 4;
+                break;
+            case WEEKDAY_NAME:
+                // the day name is only checked to be one
+                final int weekday = match(text, pos, last, weekdays, shortWeekdays, 1, 8);
+                if (weekday < 0) {
+                    return NO_DATE;
+                }
+                pos += weekday >>> 4;
+                break;
+            default:
+                final int max = fixed[i] ? widths[i] : (kinds[i] == YEAR ? 9 : 2);
+                int value = 0;
+                int digits = 0;
+                while ((pos < last) && (digits < max)) {
+                    final char c = text.charAt(pos);
+                    if ((c < '0') || (c > '9')) {
+                        break;
+                    }
+                    value = value * 10 + (c - '0');
+                    digits++;
+                    pos++;
+                }
+                if ((digits == 0) || (fixed[i] && (digits != widths[i]))) {
+                    return NO_DATE;
+                }
+                if (kinds[i] == YEAR) {
+                    twoDigits = (widths[i] <= 2) && (digits == 2);
+                    year = value;
+                } else if (kinds[i] == MONTH) {
+                    month = value - 1;
+                } else {
+                    day = value;
+                }
+            }
+        }
+        if ((pos != last) || (month < 0) || (month > 11) || (day < 1) || (day > 31)) {
+            return NO_DATE;
+        }
+        if (twoDigits) {
+            year = twoDigitYear(year, month, day);
+        }
+        if (day > MonthLayout.lengthOfMonth(year, month)) {
+            return NO_DATE;
+        }
+        final long retorno = MonthLayout.epochDay(year, month, day);
+        return retorno < FIRST_DAY ? NO_DATE : retorno;
+    }
+
+    /**
+     * Finds the longest name at pos, full or short.
+     * @return the length of the name shifted 4 bits, plus its index, or -1
+     */
+    private static int match(final CharSequence text, final int pos, final int end, final String[] names, final String[] shortNames, final int from,
+            final int to) {
+        int index = -1;
+        int best = 0;
+        for (int i = from; i < to; i++) {
+            final String full = names[i];
+            if ((full.length() > best) && matchesIgnoreCase(text, pos, end, full)) {
+                index = i;
+                best = full.length();
+            }
+            final String abbreviation = shortNames[i];
+            if ((abbreviation.length() > best) && matchesIgnoreCase(text, pos, end, abbreviation)) {
+                index = i;
+                best = abbreviation.length();
+            }
+        }
+        return index < 0 ? -1 : (best << 4) | index;
+    }
+
+    private static boolean matches(final CharSequence text, final int pos, final int end, final String literal) {
+        final int length = literal.length();
+        if (pos + length > end) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(pos + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(final CharSequence text, final int pos, final int end, final String name) {
+        final int length = name.length();
+        if ((length == 0) || (pos + length > end)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char a = text.charAt(pos + i);
+            final char b = name.charAt(i);
+            if ((a != b) && (Character.toUpperCase(a) != Character.toUpperCase(b)) && (Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves a two digit year as SimpleDateFormat does: the date falls
+     * within 80 years before and 20 years after today.
+     */
+    private static int twoDigitYear(final int value, final int month, final int day) {
+        final long now = System.currentTimeMillis();
+        final long utcDay = Math.floorDiv(now, 86400000L);
+        long start = centuryStart;
+        if (utcDay != centuryToday) {
+            final long today = CalendarUtils.toEpochDay(now, CalendarUtils.getDefaultZone());
+            final int year = MonthLayout.yearOf(today);
+            final int dayOfMonth = Math.min(MonthLayout.dayOfMonth(today), MonthLayout.lengthOfMonth(year - 80, MonthLayout.monthOf(today)));
+            start = MonthLayout.epochDay(year - 80, MonthLayout.monthOf(today), dayOfMonth);
+            centuryStart = start;
+            centuryToday = utcDay;
+        }
+        final int startYear = MonthLayout.yearOf(start);
+        int year = startYear / 100 * 100 + value;
+        // the start is now, 80 years ago, so its midnight is already before
+        if (MonthLayout.epochDay(year, month, day) <= start) {
+            year += 100;
+        }
+        return year;
+    }
+
+    /**
+     * Formats an epoch day.
+     * @param epochDay days since 1970-01-01
+     * @return the text, or null before FIRST_DAY
+     */
+    public String format(final long epochDay) {
+        final StringBuilder retorno = new StringBuilder(24);
+        return format(epochDay, retorno) ? retorno.toString() : null;
+    }
+
+    /**
+     * Appends an epoch day to a StringBuilder.
+     * @param epochDay days since 1970-01-01
+     * @param out where to append
+     * @return false if the day is before FIRST_DAY, nothing is appended
+     */
+    public boolean format(final long epochDay, final StringBuilder out) {
+        if (epochDay < FIRST_DAY) {
+            return false;
+        }
+        final int year = MonthLayout.yearOf(epochDay);
+        final int month = MonthLayout.monthOf(epochDay);
+        final int day = MonthLayout.dayOfMonth(epochDay);
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+            case LITERAL:
+                out.append(literals[widths[i]]);
+                break;
+            case YEAR:
+                if (widths[i] == 2) {
+                    pad(out, year % 100, 2);
+                } else {
+                    pad(out, year, widths[i]);
+                }
+                break;
+            case MONTH:
+                pad(out, month + 1, widths[i]);
+                break;
+            case MONTH_NAME:
+                out.append(widths[i] >= 4 ? months[month] : shortMonths[month]);
+                break;
+            case DAY:
+                pad(out, day, widths[i]);
+                break;
+            default:
+                final int weekday = MonthLayout.dayOfWeek(epochDay);
+                out.append(widths[i] >= 4 ? weekdays[weekday] : shortWeekdays[weekday]);
+            }
+        }
+        return true;
+    }
+
+    private static void pad(final StringBuilder out, final int value, final int width) {
+        for (int limit = 10, i = 1; i < width; i++, limit *= 10) {
+            if (value < limit) {
+                out.append('0');
+            }
+        }
+        out.append(value);
+    }
+
+    /**
+     * Key of the cache.
+     */
+    private static final class Key {
+        private final String pattern;
+        private final DateFormatSymbols symbols;
+
+        Key(final String pattern, final DateFormatSymbols symbols) {
+            this.pattern = pattern;
+            this.symbols = symbols;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return pattern.equals(other.pattern) && symbols.equals(other.symbols);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, symbols);
+        }
+    }
+}
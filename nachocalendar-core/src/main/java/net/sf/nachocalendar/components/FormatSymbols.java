@@ -17,13 +17,21 @@ import java.util.Locale;
 //this was needed to get the correct "dateformatsymbols"
 //it was either a re-write of most of the classes, or this minor botch.
 
+/**
+ * Global holder of the DateFormatSymbols of one locale.
+ * @deprecated the components use {@link LocaleNames}, which keeps one
+ * shared instance per locale, and take their locale from setLocale. The
+ * required locale is still passed to LocaleNames, where it replaces the
+ * default locale of components that were not given their own.
+ */
+@Deprecated
 public final class FormatSymbols extends DateFormatSymbols {
     private static final long serialVersionUID = 1L;
 
     private static final FormatSymbols INSTANCE = new FormatSymbols();
 
-    private DateFormatSymbols ref;
-    private Locale requiredLocale;
+    private volatile DateFormatSymbols ref;
+    private volatile Locale requiredLocale;
 
     private FormatSymbols() {
         setRequiredLocale(Locale.getDefault());
@@ -57,5 +65,9 @@ public final class FormatSymbols extends DateFormatSymbols {
     public void setRequiredLocale(final Locale requiredLocale) {
         this.requiredLocale = requiredLocale;
         ref = new DateFormatSymbols(requiredLocale);
+        // not from the constructor, the default locale must stay unpinned
+        if (INSTANCE == this) {
+            LocaleNames.setRequired(requiredLocale);
+        }
     }
 }
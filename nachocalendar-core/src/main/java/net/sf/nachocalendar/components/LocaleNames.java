@@ -0,0 +1,196 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * LocaleNames.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.text.DateFormatSymbols;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Month and day names and captions of a Locale, already capitalized the way
+ * the components show them. Instances are immutable and cached by Locale, so
+ * they are shared by every component and can be read from any thread.
+ *
+ * @author Ignacio Merani
+ */
+public final class LocaleNames {
+    private static final String BUNDLE = "net.sf.nachocalendar.language";
+    private static final ConcurrentHashMap<Locale, LocaleNames> CACHE = new ConcurrentHashMap<Locale, LocaleNames>();
+
+    /** Locale used instead of the default one, set through FormatSymbols. */
+    private static volatile Locale required;
+
+    private final Locale locale;
+    private final String[] months, shortMonths;
+    private final String[] weekdays, shortWeekdays;
+    private final Map<String, String> captions;
+
+    private LocaleNames(final Locale locale) {
+        this.locale = locale;
+        final DateFormatSymbols symbols = new DateFormatSymbols(locale);
+        months = capitalize(symbols.getMonths(), 0, 12);
+        shortMonths = capitalize(symbols.getShortMonths(), 0, 12);
+        weekdays = capitalize(symbols.getWeekdays(), 1, 8);
+        shortWeekdays = capitalize(symbols.getShortWeekdays(), 1, 8);
+
+        final Map<String, String> map = new HashMap<String, String>();
+        try {
+            final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale);
+            final Enumeration<String> keys = bundle.getKeys();
+            while (keys.hasMoreElements()) {
+                final String key = keys.nextElement();
+                map.put(key, bundle.getString(key));
+            }
+        } catch (final MissingResourceException e) {
+            // no captions, the keys are shown
+        }
+        captions = Collections.unmodifiableMap(map);
+    }
+
+    private String[] capitalize(final String[] names, final int from, final int to) {
+        final String[] retorno = new String[to];
+        for (int i = 0; i < to; i++) {
+            final String name = i < names.length ? names[i] : null;
+            if ((i < from) || (name == null) || name.isEmpty()) {
+                retorno[i] = "";
+            } else {
+                retorno[i] = name.substring(0, 1).toUpperCase(locale) + name.substring(1).toLowerCase(locale);
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the names of a Locale. While a required locale is set it is
+     * used for null and for the default locale, so components that were not
+     * given their own locale keep following it.
+     * @param locale the locale, null for the default one
+     * @return the shared instance
+     */
+    public static LocaleNames get(final Locale locale) {
+        final Locale override = required;
+        Locale key = locale == null ? Locale.getDefault() : locale;
+        if ((override != null) && key.equals(Locale.getDefault())) {
+            key = override;
+        }
+        final LocaleNames retorno = CACHE.get(key);
+        if (retorno != null) {
+            return retorno;
+        }
+        return CACHE.computeIfAbsent(key, LocaleNames::new);
+    }
+
+    /**
+     * Returns the names of the default Locale.
+     * @return the shared instance
+     */
+    public static LocaleNames getDefault() {
+        return get(Locale.getDefault());
+    }
+
+    /**
+     * Sets the locale used instead of the default one, this is what
+     * {@link FormatSymbols#setRequiredLocale(Locale)} changes. Components
+     * already shown pick it up when their locale or UI is updated.
+     * @param locale the locale, null to follow the default one again
+     */
+    static void setRequired(final Locale locale) {
+        required = locale;
+    }
+
+    /**
+     * Getter for property locale.
+     * @return Value of property locale.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the name of a month.
+     * @param month the month, 0 is january
+     * @return the capitalized name
+     */
+    public String getMonth(final int month) {
+        return months[month];
+    }
+
+    /**
+     * Returns the short name of a month.
+     * @param month the month, 0 is january
+     * @return the capitalized name
+     */
+    public String getShortMonth(final int month) {
+        return shortMonths[month];
+    }
+
+    /**
+     * Returns the name of a day of week.
+     * @param day Calendar.SUNDAY to Calendar.SATURDAY
+     * @return the capitalized name
+     */
+    public String getWeekday(final int day) {
+        return weekdays[day];
+    }
+
+    /**
+     * Returns the short name of a day of week.
+     * @param day Calendar.SUNDAY to Calendar.SATURDAY, 0 gives an empty string
+     * @return the capitalized name
+     */
+    public String getShortWeekday(final int day) {
+        return shortWeekdays[day];
+    }
+
+    /**
+     * Returns a copy of the twelve month names.
+     * @return the capitalized names
+     */
+    public String[] getMonths() {
+        return months.clone();
+    }
+
+    /**
+     * Returns a localized caption.
+     * @param key caption key
+     * @return the caption, or the key if it is not defined
+     */
+    public String getCaption(final String key) {
+        final String retorno = captions.get(key);
+        return retorno == null ? key : retorno;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * MonthLayout.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.components;
+
+import java.util.Calendar;
+
+/**
+ * Arithmetic layout of the 42 cells of a month, on the proleptic Gregorian
+ * calendar. Days are epoch days (days since 1970-01-01), months are zero
+ * based and days of week use the Calendar constants, so values can be mixed
+ * with java.util.Calendar. Nothing is allocated and no Calendar is used.
+ *
+ * @author Ignacio Merani
+ */
+public final class MonthLayout {
+    /** Cells in a month grid. */
+    public static final int CELLS = 42;
+
+    /** Rows in a month grid. */
+    public static final int WEEKS = 6;
+
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final int DAYS_0000_TO_1970 = 719468;
+
+    private MonthLayout() {
+    }
+
+    /**
+     * Returns the epoch day of a date.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @param day the day of month
+     * @return days since 1970-01-01
+     */
+    public static long epochDay(final int year, final int month, final int day) {
+        final int m = month + 1;
+        final long y = m <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yoe = y - era * 400;
+        final long doy = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + day - 1;
+        final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * DAYS_PER_CYCLE + doe - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the year of an epoch day.
+     * @param epochDay days since 1970-01-01
+     * @return the year
+     */
+    public static int yearOf(final long epochDay) {
+        final long z = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        final long doe = z - era * DAYS_PER_CYCLE;
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final long mp = (5 * doy + 2) / 153;
+        return (int) (yoe + era * 400 + (mp >= 10 ? 1 : 0));
+    }
+
+    /**
+     * Returns the month of an epoch day.
+     * @param epochDay days since 1970-01-01
+     * @return the month, 0 is january
+     */
+    public static int monthOf(final long epochDay) {
+        final long doy = marchDayOfYear(epochDay);
+        final long mp = (5 * doy + 2) / 153;
+        return (int) (mp < 10 ? mp + 2 : mp - 10);
+    }
+
+    /**
+     * Returns the day of month of an epoch day.
+     * @param epochDay days since 1970-01-01
+     * @return the day of month, from 1
+     */
+    public static int dayOfMonth(final long epochDay) {
+        final long doy = marchDayOfYear(epochDay);
+        final long mp = (5 * doy + 2) / 153;
+        return (int) (doy - (153 * mp + 2) / 5 + 1);
+    }
+
+    /** Day of the year starting on march 1st, as the civil algorithms use. */
+    private static long marchDayOfYear(final long epochDay) {
+        final long z = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        final long doe = z - era * DAYS_PER_CYCLE;
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        return doe - (365 * yoe + yoe / 4 - yoe / 100);
+    }
+
+    /**
+     * Returns the day of week of an epoch day.
+     * @param epochDay days since 1970-01-01
+     * @return Calendar.SUNDAY to Calendar.SATURDAY
+     */
+    public static int dayOfWeek(final long epochDay) {
+        // 1970-01-01 was a thursday
+        return (int) Math.floorMod(epochDay + 4, 7L) + Calendar.SUNDAY;
+    }
+
+    /**
+     * Returns the number of days of a month.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @return the length of the month
+     */
+    public static int lengthOfMonth(final int year, final int month) {
+        if (month == Calendar.FEBRUARY) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        if ((month == Calendar.APRIL) || (month == Calendar.JUNE) || (month == Calendar.SEPTEMBER) || (month == Calendar.NOVEMBER)) {
+            return 30;
+        }
+        return 31;
+    }
+
+    /**
+     * Checks for a leap year.
+     * @param year the year
+     * @return true if leap
+     */
+    public static boolean isLeapYear(final int year) {
+        return ((year & 3) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+    }
+
+    /**
+     * Returns the first day shown in the grid of a month: the month starts
+     * in the first row, on the column of its day of week.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @param firstDayOfWeek day of the first column, Calendar.SUNDAY to
+     * Calendar.SATURDAY
+     * @return the epoch day of the first cell
+     */
+    public static long gridStart(final int year, final int month, final int firstDayOfWeek) {
+        final long first = epochDay(year, month, 1);
+        return first - Math.floorMod(dayOfWeek(first) - firstDayOfWeek, 7);
+    }
+
+    /**
+     * Returns the week of year of a day, as Calendar.WEEK_OF_YEAR does: week
+     * one is the first week starting on firstDayOfWeek with at least
+     * minimalDaysInFirstWeek days in the year.
+     * @param epochDay days since 1970-01-01
+     * @param firstDayOfWeek first day of the week
+     * @param minimalDaysInFirstWeek 1 to 7
+     * @return the week of year
+     */
+    public static int weekOfYear(final long epochDay, final int firstDayOfWeek, final int minimalDaysInFirstWeek) {
+        final int year = yearOf(epochDay);
+        final long start = epochDay - Math.floorMod(dayOfWeek(epochDay) - firstDayOfWeek, 7);
+        long week1 = firstWeekStart(year, firstDayOfWeek, minimalDaysInFirstWeek);
+        if (start < week1) {
+            week1 = firstWeekStart(year - 1, firstDayOfWeek, minimalDaysInFirstWeek);
+        } else if (start >= firstWeekStart(year + 1, firstDayOfWeek, minimalDaysInFirstWeek)) {
+            return 1;
+        }
+        return (int) ((start - week1) / 7) + 1;
+    }
+
+    /**
+     * Returns the ISO 8601 week number of a day.
+     * @param epochDay days since 1970-01-01
+     * @return the week number
+     */
+    public static int isoWeek(final long epochDay) {
+        return weekOfYear(epochDay, Calendar.MONDAY, 4);
+    }
+
+    private static long firstWeekStart(final int year, final int firstDayOfWeek, final int minimalDaysInFirstWeek) {
+        final long jan1 = epochDay(year, Calendar.JANUARY, 1);
+        final long start = jan1 - Math.floorMod(dayOfWeek(jan1) - firstDayOfWeek, 7);
+        if (start + 7 - jan1 >= minimalDaysInFirstWeek) {
+            return start;
+        }
+        return start + 7;
+    }
+
+    /**
+     * Computes the grid of a month in one pass.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @param firstDayOfWeek day of the first column, Calendar.SUNDAY to
+     * Calendar.SATURDAY
+     * @param minimalDaysInFirstWeek 1 to 7, 4 with monday gives ISO weeks
+     * @param days receives the 42 epoch days, can be null
+     * @param inMonth receives true for the days of the month, can be null
+     * @param weeks receives the 6 week numbers, can be null
+     */
+    public static void layout(final int year, final int month, final int firstDayOfWeek, final int minimalDaysInFirstWeek, final long[] days,
+            final boolean[] inMonth, final int[] weeks) {
+        final long start = gridStart(year, month, firstDayOfWeek);
+        final long first = epochDay(year, month, 1);
+        final long end = first + lengthOfMonth(year, month);
+        for (int i = 0; i < CELLS; i++) {
+            final long day = start + i;
+            if (days != null) {
+                days[i] = day;
+            }
+            if (inMonth != null) {
+                inMonth[i] = (day >= first) && (day < end);
+            }
+        }
+        if (weeks != null) {
+            for (int i = 0; i < WEEKS; i++) {
+                weeks[i] = weekOfYear(start + i * 7, firstDayOfWeek, minimalDaysInFirstWeek);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * ListenerRegistry.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.event;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.EventListener;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+
+/**
+ * Copy-on-write list of listeners shared by models and components.
+ * Registration replaces the backing array with a CAS, so firing an event
+ * only reads a volatile snapshot: it takes no lock and allocates nothing.
+ * Listeners can be registered weakly, the registry then drops them once
+ * they have been garbage collected.
+ * <p>
+ * Listeners are not serialized, as with the transient lists this class
+ * replaces: a deserialized registry is empty and ready to use.
+ *
+ * @author Ignacio Merani
+ * @param <L> listener type
+ */
+public final class ListenerRegistry<L extends EventListener> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Object[] EMPTY = new Object[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ListenerRegistry, Object[]> UPDATER = AtomicReferenceFieldUpdater.newUpdater(ListenerRegistry.class,
+            Object[].class, "entries");
+
+    /** Either listeners or WeakEntry instances. */
+    private transient volatile Object[] entries = EMPTY;
+
+    /**
+     * Registers a listener. The registry keeps a strong reference to it.
+     * @param listener the listener to register, null is ignored
+     */
+    public void add(final L listener) {
+        if (listener != null) {
+            append(listener);
+        }
+    }
+
+    /**
+     * Registers a listener through a weak reference, so the registry does not
+     * keep it alive. The caller must keep a strong reference to the listener
+     * for as long as it wants to receive events.
+     * @param listener the listener to register, null is ignored
+     */
+    public void addWeak(final L listener) {
+        if (listener != null) {
+            append(new WeakEntry<L>(listener));
+        }
+    }
+
+    /**
+     * Removes the first registration of the listener, strong or weak. The
+     * listener is compared with equals, as ArrayList.remove does.
+     * @param listener the listener to remove
+     */
+    public void remove(final L listener) {
+        if (listener == null) {
+            return;
+        }
+        Object[] current;
+        Object[] updated;
+        do {
+            current = entries;
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (listener.equals(resolve(current[i]))) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            updated = without(current, index);
+        } while (!UPDATER.compareAndSet(this, current, updated));
+    }
+
+    /**
+     * Removes every listener.
+     */
+    public void clear() {
+        entries = EMPTY;
+    }
+
+    /**
+     * Returns true if no listener is registered.
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Returns the number of registrations, including weak ones that may
+     * already have been collected.
+     * @return the number of registrations
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Notifies every live listener. Use a method reference such as
+     * <code>DataModelListener::dataChanged</code> so no object is allocated
+     * for the dispatch.
+     * @param dispatcher calls the listener method
+     * @param event the event to deliver
+     * @param <E> event type
+     */
+    public <E> void fire(final BiConsumer<? super L, ? super E> dispatcher, final E event) {
+        final Object[] snapshot = entries;
+        boolean stale = false;
+        for (int i = 0; i < snapshot.length; i++) {
+            final L listener = resolve(snapshot[i]);
+            if (listener == null) {
+                stale = true;
+            } else {
+                dispatcher.accept(listener, event);
+            }
+        }
+        if (stale) {
+            purge();
+        }
+    }
+
+    /**
+     * Notifies every live listener, the last registered first, as the
+     * classes based on EventListenerList do.
+     * @param dispatcher calls the listener method
+     * @param event the event to deliver
+     * @param <E> event type
+     */
+    public <E> void fireReverse(final BiConsumer<? super L, ? super E> dispatcher, final E event) {
+        final Object[] snapshot = entries;
+        boolean stale = false;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            final L listener = resolve(snapshot[i]);
+            if (listener == null) {
+                stale = true;
+            } else {
+                dispatcher.accept(listener, event);
+            }
+        }
+        if (stale) {
+            purge();
+        }
+    }
+
+    /**
+     * Removes the weak registrations whose listeners have been collected.
+     */
+    public void purge() {
+        Object[] current;
+        Object[] updated;
+        do {
+            current = entries;
+            int live = 0;
+            for (int i = 0; i < current.length; i++) {
+                if (resolve(current[i]) != null) {
+                    live++;
+                }
+            }
+            if (live == current.length) {
+                return;
+            }
+            updated = live == 0 ? EMPTY : new Object[live];
+            int j = 0;
+            for (int i = 0; i < current.length && j < live; i++) {
+                if (resolve(current[i]) != null) {
+                    updated[j++] = current[i];
+                }
+            }
+        } while (!UPDATER.compareAndSet(this, current, updated));
+    }
+
+    private void append(final Object entry) {
+        Object[] current;
+        Object[] updated;
+        do {
+            current = entries;
+            updated = new Object[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = entry;
+        } while (!UPDATER.compareAndSet(this, current, updated));
+    }
+
+    private static Object[] without(final Object[] array, final int index) {
+        if (array.length == 1) {
+            return EMPTY;
+        }
+        final Object[] retorno = new Object[array.length - 1];
+        System.arraycopy(array, 0, retorno, 0, index);
+        System.arraycopy(array, index + 1, retorno, index, array.length - index - 1);
+        return retorno;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        entries = EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private L resolve(final Object entry) {
+        if (entry instanceof WeakEntry) {
+            return ((WeakEntry<L>) entry).get();
+        }
+        return (L) entry;
+    }
+
+    /**
+     * Marker for weak registrations.
+     */
+    private static final class WeakEntry<T> extends WeakReference<T> {
+        WeakEntry(final T referent) {
+            super(referent);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * BusinessDays.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.holidays;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.components.MonthLayout;
+
+/**
+ * Immutable business day calendar: the working days of the week less the
+ * holidays. Days are epoch days and lookups are binary searches, so one
+ * instance can be shared by any number of threads, for example to compute
+ * settlement dates.
+ *
+ * @author Ignacio Merani
+ */
+public final class BusinessDays {
+    private final boolean[] working;
+    private final long[] holidays;
+
+    /** Recurrent holidays as month * 32 + day, sorted. */
+    private final int[] recurrent;
+
+    private BusinessDays(final boolean[] working, final long[] holidays, final int[] recurrent) {
+        this.working = working;
+        this.holidays = holidays;
+        this.recurrent = recurrent;
+    }
+
+    /**
+     * Creates a new instance.
+     * @param workingDays seven flags, the first one is sunday
+     * @param holidays epoch days of the holidays, can be null
+     * @return the calendar
+     */
+    public static BusinessDays of(final boolean[] workingDays, final long[] holidays) {
+        final long[] sorted = holidays == null ? new long[0] : holidays.clone();
+        Arrays.sort(sorted);
+        return new BusinessDays(check(workingDays), sorted, new int[0]);
+    }
+
+    /**
+     * Creates a new instance with the holidays of a model. Recurrent
+     * holidays apply to every year.
+     * @param workingDays seven flags, the first one is sunday
+     * @param model the holidays, can be null
+     * @return the calendar
+     */
+    public static BusinessDays of(final boolean[] workingDays, final HoliDayModel model) {
+        if (model == null) {
+            return of(workingDays, (long[]) null);
+        }
+        long[] fixed = new long[model.getSize()];
+        int[] yearly = new int[model.getSize()];
+        int nfixed = 0, nyearly = 0;
+        final Iterator it = model.getAll().iterator();
+        while (it.hasNext()) {
+            final HoliDay h = (HoliDay) it.next();
+            final long day = CalendarUtils.toEpochDay(h.getDate());
+            if (h.isRecurrent()) {
+                yearly[nyearly++] = MonthLayout.monthOf(day) * 32 + MonthLayout.dayOfMonth(day);
+            } else {
+                fixed[nfixed++] = day;
+            }
+        }
+        fixed = Arrays.copyOf(fixed, nfixed);
+        yearly = Arrays.copyOf(yearly, nyearly);
+        Arrays.sort(fixed);
+        Arrays.sort(yearly);
+        return new BusinessDays(check(workingDays), fixed, yearly);
+    }
+
+    private static boolean[] check(final boolean[] workingDays) {
+        if ((workingDays == null) || (workingDays.length != 7)) {
+            throw new IllegalArgumentException("Seven working day flags are needed");
+        }
+        for (int i = 0; i < 7; i++) {
+            if (workingDays[i]) {
+                return workingDays.clone();
+            }
+        }
+        throw new IllegalArgumentException("At least one working day is needed");
+    }
+
+    /**
+     * Checks if a day is a business day.
+     * @param epochDay local days since 1970-01-01
+     * @return true if it's a working day and not a holiday
+     */
+    public boolean isBusinessDay(final long epochDay) {
+        if (!working[MonthLayout.dayOfWeek(epochDay) - 1]) {
+            return false;
+        }
+        if (Arrays.binarySearch(holidays, epochDay) >= 0) {
+            return false;
+        }
+        return (recurrent.length == 0)
+                || (Arrays.binarySearch(recurrent, MonthLayout.monthOf(epochDay) * 32 + MonthLayout.dayOfMonth(epochDay)) < 0);
+    }
+
+    /**
+     * Checks if a date is a business day.
+     * @param date the date
+     * @return true if it's a working day and not a holiday
+     */
+    public boolean isBusinessDay(final Date date) {
+        return isBusinessDay(CalendarUtils.toEpochDay(date));
+    }
+
+    /**
+     * Returns the first business day on or after a day.
+     * @param epochDay local days since 1970-01-01
+     * @return the business day
+     */
+    public long next(final long epochDay) {
+        long day = epochDay;
+        while (!isBusinessDay(day)) {
+            day++;
+        }
+        return day;
+    }
+
+    /**
+     * Returns the last business day on or before a day.
+     * @param epochDay local days since 1970-01-01
+     * @return the business day
+     */
+    public long previous(final long epochDay) {
+        long day = epochDay;
+        while (!isBusinessDay(day)) {
+            day--;
+        }
+        return day;
+    }
+
+    /**
+     * Moves a day by a number of business days, as settlement dates are
+     * computed: add(trade, 2) is T+2. With 0 it returns the next business
+     * day.
+     * @param epochDay local days since 1970-01-01
+     * @param days business days to move, negative goes back
+     * @return the resulting business day
+     */
+    public long add(final long epochDay, final int days) {
+        if (days == 0) {
+            return next(epochDay);
+        }
+        final int step = days > 0 ? 1 : -1;
+        long day = epochDay;
+        for (int left = Math.abs(days); left > 0;) {
+            day += step;
+            if (isBusinessDay(day)) {
+                left--;
+            }
+        }
+        return day;
+    }
+
+    /**
+     * Counts the business days of a range.
+     * @param from first day, included
+     * @param to last day, excluded
+     * @return the quantity of business days
+     */
+    public int count(final long from, final long to) {
+        int retorno = 0;
+        for (long day = from; day < to; day++) {
+            if (isBusinessDay(day)) {
+                retorno++;
+            }
+        }
+        return retorno;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DataModels.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Date;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+
+/**
+ * Adapters between {@link DataModel} and {@link DayDataModel}.
+ *
+ * @author Ignacio Merani
+ */
+public final class DataModels {
+
+    private DataModels() {
+    }
+
+    /**
+     * Returns a view of a model keyed by epoch day.
+     * @param model the model
+     * @return the model itself if it already is a DayDataModel, null if
+     * model is null
+     */
+    public static DayDataModel asDayDataModel(final DataModel model) {
+        if ((model == null) || (model instanceof DayDataModel)) {
+            return (DayDataModel) model;
+        }
+        return new DayView(model);
+    }
+
+    /**
+     * Returns a view of a model keyed by Date. The view also implements
+     * DayDataModel, so the components keep reading it by epoch day.
+     * @param model the model
+     * @return the model itself if it already is a DataModel, null if model
+     * is null
+     */
+    public static DataModel asDataModel(final DayDataModel model) {
+        if ((model == null) || (model instanceof DataModel)) {
+            return (DataModel) model;
+        }
+        return new DateView(model);
+    }
+
+    /** Reads a DataModel by epoch day. */
+    private static final class DayView implements DayDataModel {
+        private final DataModel model;
+
+        DayView(final DataModel model) {
+            this.model = model;
+        }
+
+        /* (non-Javadoc)
+         * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+         */
+        @Override
+        public Object getData(final long epochDay) {
+            return model.getData(CalendarUtils.fromEpochDay(epochDay));
+        }
+    }
+
+    /** Reads a DayDataModel by Date. */
+    private static final class DateView implements DataModel, DayDataModel {
+        private final DayDataModel model;
+
+        DateView(final DayDataModel model) {
+            this.model = model;
+        }
+
+        /* (non-Javadoc)
+         * @see net.sf.nachocalendar.model.DataModel#getData(java.util.Date)
+         */
+        @Override
+        public Object getData(final Date date) {
+            if (date == null) {
+                return null;
+            }
+            return model.getData(CalendarUtils.toEpochDay(date));
+        }
+
+        /* (non-Javadoc)
+         * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+         */
+        @Override
+        public Object getData(final long epochDay) {
+            return model.getData(epochDay);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DataSnapshot.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+
+/**
+ * Immutable map from day to data. Days are grouped in chunks of 32
+ * consecutive epoch days, kept in a sorted array. An update copies the
+ * chunk index and the single chunk it touches, every other chunk is shared
+ * with the previous version. This makes updates cheap and lets
+ * {@link #diff(DataSnapshot, Object)} skip every shared chunk.
+ *
+ * @author Ignacio Merani
+ */
+public final class DataSnapshot implements DataModel, DayDataModel {
+    private static final int SHIFT = 5;
+    private static final int CHUNK = 1 << SHIFT;
+    private static final int MASK = CHUNK - 1;
+
+    /** Snapshot without data. */
+    public static final DataSnapshot EMPTY = new DataSnapshot(new long[0], new Object[0][], 0);
+
+    private final long[] keys;
+    private final Object[][] chunks;
+    private final int size;
+
+    private DataSnapshot(final long[] keys, final Object[][] chunks, final int size) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Returns the data of a day.
+     * @param epochDay local epoch day
+     * @return the data or null if it has not
+     */
+    public Object get(final long epochDay) {
+        final int i = Arrays.binarySearch(keys, epochDay >> SHIFT);
+        if (i < 0) {
+            return null;
+        }
+        return chunks[i][(int) (epochDay & MASK)];
+    }
+
+    /**
+     * Checks if the date provided has data.
+     * @param date Date to be checked
+     * @return the data or null if it has not
+     */
+    @Override
+    public Object getData(final Date date) {
+        if (date == null) {
+            return null;
+        }
+        return get(CalendarUtils.toEpochDay(date));
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+     */
+    @Override
+    public Object getData(final long epochDay) {
+        return get(epochDay);
+    }
+
+    /**
+     * Returns the quantity of days with data.
+     * @return the quantity of days
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the data, keyed by the start of each day.
+     * @return Map with the data
+     */
+    public Map toMap() {
+        final Map<Date, Object> retorno = new HashMap<Date, Object>();
+        for (int i = 0; i < keys.length; i++) {
+            for (int j = 0; j < CHUNK; j++) {
+                if (chunks[i][j] != null) {
+                    retorno.put(CalendarUtils.fromEpochDay((keys[i] << SHIFT) | j), chunks[i][j]);
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns a snapshot with the data of the date replaced.
+     * @param date the date
+     * @param value the new data, null removes the day
+     * @return the new snapshot, or this one if nothing changes
+     */
+    public DataSnapshot with(final Date date, final Object value) {
+        return with(CalendarUtils.toEpochDay(date), value);
+    }
+
+    /**
+     * Returns a snapshot without the data of the date.
+     * @param date the date
+     * @return the new snapshot, or this one if nothing changes
+     */
+    public DataSnapshot without(final Date date) {
+        return with(CalendarUtils.toEpochDay(date), null);
+    }
+
+    /**
+     * Returns a snapshot with the data of the day replaced.
+     * @param epochDay local epoch day
+     * @param value the new data, null removes the day
+     * @return the new snapshot, or this one if nothing changes
+     */
+    public DataSnapshot with(final long epochDay, final Object value) {
+        final long key = epochDay >> SHIFT;
+        final int slot = (int) (epochDay & MASK);
+        final int i = Arrays.binarySearch(keys, key);
+        if (i < 0) {
+            if (value == null) {
+                return this;
+            }
+            final int pos = -i - 1;
+            final long[] nkeys = new long[keys.length + 1];
+            final Object[][] nchunks = new Object[chunks.length + 1][];
+            System.arraycopy(keys, 0, nkeys, 0, pos);
+            System.arraycopy(chunks, 0, nchunks, 0, pos);
+            System.arraycopy(keys, pos, nkeys, pos + 1, keys.length - pos);
+            System.arraycopy(chunks, pos, nchunks, pos + 1, chunks.length - pos);
+            nkeys[pos] = key;
+            nchunks[pos] = new Object[CHUNK];
+            nchunks[pos][slot] = value;
+            return new DataSnapshot(nkeys, nchunks, size + 1);
+        }
+        final Object old = chunks[i][slot];
+        if (old == value) {
+            return this;
+        }
+        final int nsize = size + (old == null ? 1 : 0) - (value == null ? 1 : 0);
+        final Object[] chunk = chunks[i].clone();
+        chunk[slot] = value;
+        if (value == null && isEmpty(chunk)) {
+            final long[] nkeys = new long[keys.length - 1];
+            final Object[][] nchunks = new Object[chunks.length - 1][];
+            System.arraycopy(keys, 0, nkeys, 0, i);
+            System.arraycopy(chunks, 0, nchunks, 0, i);
+            System.arraycopy(keys, i + 1, nkeys, i, keys.length - i - 1);
+            System.arraycopy(chunks, i + 1, nchunks, i, chunks.length - i - 1);
+            return new DataSnapshot(nkeys, nchunks, nsize);
+        }
+        final Object[][] nchunks = chunks.clone();
+        nchunks[i] = chunk;
+        return new DataSnapshot(keys, nchunks, nsize);
+    }
+
+    /**
+     * Compares this snapshot with a newer one, returning an event for each
+     * day whose data is not equal in both. Chunks shared by both versions
+     * are skipped without looking at their content.
+     * @param newer the snapshot to compare with
+     * @param source source of the events
+     * @return the events, sorted by date
+     */
+    public List<DataChangeEvent> diff(final DataSnapshot newer, final Object source) {
+        final List<DataChangeEvent> retorno = new ArrayList<DataChangeEvent>();
+        if (newer == this) {
+            return retorno;
+        }
+        final long[] okeys = newer.keys;
+        final Object[][] ochunks = newer.chunks;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < okeys.length) {
+            if (j == okeys.length || (i < keys.length && keys[i] < okeys[j])) {
+                addChanges(retorno, source, keys[i], chunks[i], null);
+                i++;
+            } else if (i == keys.length || okeys[j] < keys[i]) {
+                addChanges(retorno, source, okeys[j], null, ochunks[j]);
+                j++;
+            } else {
+                if (chunks[i] != ochunks[j]) {
+                    addChanges(retorno, source, keys[i], chunks[i], ochunks[j]);
+                }
+                i++;
+                j++;
+            }
+        }
+        return retorno;
+    }
+
+    private static void addChanges(final List<DataChangeEvent> list, final Object source, final long key, final Object[] before,
+            final Object[] after) {
+        for (int k = 0; k < CHUNK; k++) {
+            final Object a = before == null ? null : before[k];
+            final Object b = after == null ? null : after[k];
+            if (a == null ? b != null : !a.equals(b)) {
+                list.add(new DataChangeEvent(source, CalendarUtils.fromEpochDay((key << SHIFT) | k)));
+            }
+        }
+    }
+
+    private static boolean isEmpty(final Object[] chunk) {
+        for (int k = 0; k < chunk.length; k++) {
+            if (chunk[k] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DayDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.time.LocalDate;
+
+/**
+ * Model of data asociated to days, keyed by epoch day instead of Date. The
+ * components read models implementing it without creating a Date per
+ * cell. Use {@link DataModels} to adapt it to a {@link DataModel} and back.
+ *
+ * @author Ignacio Merani
+ */
+public interface DayDataModel {
+
+    /**
+     * Checks if the day provided has data.
+     * @param epochDay local days since 1970-01-01
+     * @return the data or null if it has not
+     */
+    Object getData(long epochDay);
+
+    /**
+     * Checks if the day provided has data.
+     * @param day the day
+     * @return the data or null if it has not
+     */
+    default Object getData(final LocalDate day) {
+        return getData(day.toEpochDay());
+    }
+}
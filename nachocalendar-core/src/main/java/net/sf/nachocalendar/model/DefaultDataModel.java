@@ -0,0 +1,320 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * Changes
+ * -------
+ *
+ * 2004-10-01   Checked with checkstyle
+ *
+ * -------
+ *
+ * DefaultDataModel.java
+ *
+ * Created on August 12, 2004, 2:34 PM
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
+
+/**
+ * Default implementation for DataModel. It has a collection
+ * to contain the data and convenient accesor methods
+ *
+ * @author Ignacio Merani
+ */
+public class DefaultDataModel implements DataModel {
+    private final HashMap data, mindata;
+    private final Calendar cal, check;
+    private int currentmonth;
+
+    /**
+     * Utility field holding list of DataModelListeners.
+     */
+    private final ListenerRegistry<DataModelListener> dataModelListenerList = new ListenerRegistry<DataModelListener>();
+
+    /** Creates a new instance of DefaultDataModel. */
+    public DefaultDataModel() {
+        cal = Calendar.getInstance();
+        check = Calendar.getInstance();
+        data = new HashMap();
+        mindata = new HashMap();
+    }
+
+    private void changeMonth(final int month) {
+        currentmonth = month;
+        mindata.clear();
+        final Iterator it = data.keySet().iterator();
+        while (it.hasNext()) {
+            final Date d = (Date) it.next();
+            check.setTime(d);
+            if (check.get(Calendar.MONTH) == month) {
+                mindata.put(d, data.get(d));
+            }
+        }
+    }
+
+    /**
+     * Adds new data to the Collection.
+     * @param date the new date
+     * @param o the new data
+     */
+    public void addData(final Date date, final Object o) {
+        data.put(date, o);
+        currentmonth = -1;
+        fireDataModelListenerDataChanged(new DataChangeEvent(o, date));
+    }
+
+    /**
+     * Removes the provided data from the Collection.
+     * @param date date to be removed
+     */
+    public void removeData(final Date date) {
+        final Object o = data.remove(date);
+        currentmonth = -1;
+        if (o != null) {
+            fireDataModelListenerDataChanged(new DataChangeEvent(o, date));
+        }
+    }
+
+    /**
+     * Returns the quantity of data in the Collection.
+     * @return the size of the Collection
+     */
+    public int getSize() {
+        return data.size();
+    }
+
+    /**
+     * Returns a Collection with the data.
+     * @return Collection with the data
+     */
+    public Map getAll() {
+        return (Map) data.clone();
+    }
+
+    /**
+     * Removes all data from the Collection.
+     */
+    public void clear() {
+        replaceAll(Collections.EMPTY_MAP);
+    }
+
+    /**
+     * Replaces all the data in the Collection. Current and new dates are
+     * compared by day in a single sorted merge pass, and events are fired
+     * only for the days whose data actually changed, see
+     * {@link #isSameData}. Null values are ignored.
+     * @param values the new data, keyed by Date
+     */
+    public void replaceAll(final Map values) {
+        final Date[] before = sortedKeys(data);
+        final Date[] after = sortedKeys(values);
+        final long[] beforeDays = epochDays(before);
+        final long[] afterDays = epochDays(after);
+        final List events = new ArrayList();
+        int i = 0;
+        int j = 0;
+        while ((i < before.length) || (j < after.length)) {
+            final int cmp;
+            if (i == before.length) {
+                cmp = 1;
+            } else if (j == after.length) {
+                cmp = -1;
+            } else {
+                cmp = Long.compare(beforeDays[i], afterDays[j]);
+            }
+            if (cmp < 0) {
+                events.add(new DataChangeEvent(data.get(before[i]), before[i]));
+                i++;
+            } else if (cmp > 0) {
+                events.add(new DataChangeEvent(values.get(after[j]), after[j]));
+                j++;
+            } else {
+                final Object o = values.get(after[j]);
+                if (!isSameData(data.get(before[i]), o)) {
+                    events.add(new DataChangeEvent(o, after[j]));
+                }
+                i++;
+                j++;
+            }
+        }
+        data.clear();
+        for (int k = 0; k < after.length; k++) {
+            data.put(after[k], values.get(after[k]));
+        }
+        currentmonth = -1;
+        for (int k = 0; k < events.size(); k++) {
+            fireDataModelListenerDataChanged((DataChangeEvent) events.get(k));
+        }
+    }
+
+    private static Date[] sortedKeys(final Map map) {
+        final List keys = new ArrayList(map.size());
+        final Iterator it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry e = (Map.Entry) it.next();
+            if ((e.getKey() != null) && (e.getValue() != null)) {
+                keys.add(e.getKey());
+            }
+        }
+        final Date[] retorno = (Date[]) keys.toArray(new Date[keys.size()]);
+        Arrays.sort(retorno);
+        return retorno;
+    }
+
+    private static long[] epochDays(final Date[] dates) {
+        final long[] retorno = new long[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            retorno[i] = CalendarUtils.toEpochDay(dates[i]);
+        }
+        return retorno;
+    }
+
+    /**
+     * Tells replaceAll if the data of a day did not change, so no event is
+     * fired for it. Compares with equals.
+     * @param current the data in the model
+     * @param replacement the new data
+     * @return true if both are the same data
+     */
+    protected boolean isSameData(final Object current, final Object replacement) {
+        return replacement.equals(current);
+    }
+
+    /**
+     * Checks if the date provided has data.
+     * @param date Date to be checked
+     * @return the data or null if it has not
+     */
+    public Object getData(final Date date) {
+        cal.setTime(date);
+        final int month = cal.get(Calendar.MONTH);
+        if (month != currentmonth) {
+            changeMonth(month);
+        }
+        final int year = cal.get(Calendar.YEAR);
+        final int day = cal.get(Calendar.DAY_OF_MONTH);
+        final Iterator it = mindata.keySet().iterator();
+        while (it.hasNext()) {
+            final Date d = (Date) it.next();
+            if (compareDates(year, month, day, d)) {
+                return mindata.get(d);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data of every date on the day of the provided one. getData
+     * only returns the first date found, when several dates of the same day
+     * were added this returns them all, sorted by time.
+     * @param date Date to be checked
+     * @return the data, empty if the day has none
+     */
+    public List getAllData(final Date date) {
+        cal.setTime(date);
+        final int month = cal.get(Calendar.MONTH);
+        if (month != currentmonth) {
+            changeMonth(month);
+        }
+        final int year = cal.get(Calendar.YEAR);
+        final int day = cal.get(Calendar.DAY_OF_MONTH);
+        final List keys = new ArrayList();
+        final Iterator it = mindata.keySet().iterator();
+        while (it.hasNext()) {
+            final Date d = (Date) it.next();
+            if (compareDates(year, month, day, d)) {
+                keys.add(d);
+            }
+        }
+        Collections.sort(keys);
+        final List retorno = new ArrayList(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            retorno.add(mindata.get(keys.get(i)));
+        }
+        return retorno;
+    }
+
+    private boolean compareDates(final int year, final int month, final int day, final Date d) {
+        check.setTime(d);
+        if (day != check.get(Calendar.DAY_OF_MONTH)) {
+            return false;
+        }
+        if (month != check.get(Calendar.MONTH)) {
+            return false;
+        }
+        if (year != check.get(Calendar.YEAR)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Registers DataModelListener to receive events.
+     * @param listener The listener to register.
+     */
+    public void addDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.add(listener);
+    }
+
+    /**
+     * Registers DataModelListener to receive events, without preventing it
+     * from being garbage collected. Useful for short lived components
+     * listening to a long lived model.
+     * @param listener The listener to register.
+     */
+    public void addWeakDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.addWeak(listener);
+    }
+
+    /**
+     * Removes DataModelListener from the list of listeners.
+     * @param listener The listener to remove.
+     */
+    public void removeDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.remove(listener);
+    }
+
+    /**
+     * Notifies all registered listeners about the event.
+     *
+     * @param event The event to be fired
+     */
+    protected void fireDataModelListenerDataChanged(final DataChangeEvent event) {
+        dataModelListenerList.fire(DataModelListener::dataChanged, event);
+    }
+}
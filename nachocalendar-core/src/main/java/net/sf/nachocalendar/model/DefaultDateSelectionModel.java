@@ -49,6 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.sf.nachocalendar.components.CalendarUtils;
 import net.sf.nachocalendar.event.DateSelectionEvent;
 import net.sf.nachocalendar.event.DateSelectionListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
 
 /**
  * 
@@ -72,7 +73,7 @@ public class DefaultDateSelectionModel implements DateSelectionModel {
     /**
      * Utility field used by event firing mechanism.
      */
-    private javax.swing.event.EventListenerList listenerList = null;
+    private final ListenerRegistry<DateSelectionListener> listenerList = new ListenerRegistry<DateSelectionListener>();
 
     /**
      * @see net.sf.nachocalendar.model.DateSelectionModel#addSelectionInterval(java.util.Date,
@@ -126,11 +127,20 @@ public class DefaultDateSelectionModel implements DateSelectionModel {
      *            The listener to register.
      */
     @Override
-    public synchronized void addDateSelectionListener(final net.sf.nachocalendar.event.DateSelectionListener listener) {
-        if (listenerList == null) {
-            listenerList = new javax.swing.event.EventListenerList();
-        }
-        listenerList.add(net.sf.nachocalendar.event.DateSelectionListener.class, listener);
+    public void addDateSelectionListener(final DateSelectionListener listener) {
+        listenerList.add(listener);
+    }
+
+    /**
+     * Registers DateSelectionListener to receive events, without preventing
+     * it from being garbage collected. The caller must keep a reference to
+     * the listener.
+     * 
+     * @param listener
+     *            The listener to register.
+     */
+    public void addWeakDateSelectionListener(final DateSelectionListener listener) {
+        listenerList.addWeak(listener);
     }
 
     /**
@@ -140,8 +150,8 @@ public class DefaultDateSelectionModel implements DateSelectionModel {
      *            The listener to remove.
      */
     @Override
-    public synchronized void removeDateSelectionListener(final net.sf.nachocalendar.event.DateSelectionListener listener) {
-        listenerList.remove(net.sf.nachocalendar.event.DateSelectionListener.class, listener);
+    public void removeDateSelectionListener(final DateSelectionListener listener) {
+        listenerList.remove(listener);
     }
 
     /**
@@ -150,20 +160,12 @@ public class DefaultDateSelectionModel implements DateSelectionModel {
      * @param event
      *            The event to be fired
      */
-    private void fireDateSelectionListenerValueChanged(final net.sf.nachocalendar.event.DateSelectionEvent event) {
+    private void fireDateSelectionListenerValueChanged(final DateSelectionEvent event) {
         if (isAdjusting) {
             pendingEvent = true;
             return;
         }
-        if (listenerList == null) {
-            return;
-        }
-        final Object[] listeners = listenerList.getListenerList();
-        for (int i = listeners.length - 2; i >= 0; i -= 2) {
-            if (listeners[i] == net.sf.nachocalendar.event.DateSelectionListener.class) {
-                ((net.sf.nachocalendar.event.DateSelectionListener) listeners[i + 1]).valueChanged(event);
-            }
-        }
+        listenerList.fireReverse(DateSelectionListener::valueChanged, event);
     }
 
     /**
@@ -0,0 +1,255 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * DoubleDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Date;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.components.MonthLayout;
+
+/**
+ * DataModel keeping one double per day, such as profit and loss. Values
+ * are stored in a double array per year, so they are read and aggregated
+ * without boxing. {@link #getData(Date)} returns a Double for the
+ * components that expect objects, renderers can call {@link #getDouble(long)}
+ * instead.
+ *
+ * @author Ignacio Merani
+ */
+public class DoubleDataModel extends PrimitiveDataModel {
+
+    /** Creates a new instance of DoubleDataModel. */
+    public DoubleDataModel() {
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.PrimitiveDataModel#newColumn()
+     */
+    @Override
+    Object newColumn() {
+        return new double[DAYS];
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.PrimitiveDataModel#valueAt(java.lang.Object, int)
+     */
+    @Override
+    double valueAt(final Object column, final int index) {
+        return ((double[]) column)[index];
+    }
+
+    /**
+     * Sets the value of a day.
+     * @param epochDay local days since 1970-01-01
+     * @param value the value
+     */
+    public void setDouble(final long epochDay, final double value) {
+        final int slot = slot(epochDay, true);
+        final int index = index(slot, epochDay);
+        final double[] values = (double[]) column(slot);
+        final double old = values[index];
+        if ((old == value) && isPresent(slot, index)) {
+            return;
+        }
+        values[index] = value;
+        stored(slot, index, old, value);
+    }
+
+    /**
+     * Sets the value of a day.
+     * @param date the day
+     * @param value the value
+     */
+    public void setDouble(final Date date, final double value) {
+        setDouble(CalendarUtils.toEpochDay(date), value);
+    }
+
+    /**
+     * Adds to the value of a day, a day without value counts as 0.
+     * @param epochDay local days since 1970-01-01
+     * @param delta quantity to add
+     */
+    public void add(final long epochDay, final double delta) {
+        setDouble(epochDay, getDouble(epochDay) + delta);
+    }
+
+    /**
+     * Adds to the value of a day, a day without value counts as 0.
+     * @param date the day
+     * @param delta quantity to add
+     */
+    public void add(final Date date, final double delta) {
+        add(CalendarUtils.toEpochDay(date), delta);
+    }
+
+    /**
+     * Returns the value of a day.
+     * @param epochDay local days since 1970-01-01
+     * @return the value, 0 if the day has none
+     */
+    public double getDouble(final long epochDay) {
+        final int slot = slot(epochDay, false);
+        if (slot < 0) {
+            return 0;
+        }
+        final int index = index(slot, epochDay);
+        return isPresent(slot, index) ? ((double[]) column(slot))[index] : 0;
+    }
+
+    /**
+     * Returns the value of a day.
+     * @param date the day
+     * @return the value, 0 if the day has none
+     */
+    public double getDouble(final Date date) {
+        return getDouble(CalendarUtils.toEpochDay(date));
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+     */
+    @Override
+    public Object getData(final long epochDay) {
+        return hasValue(epochDay) ? Double.valueOf(getDouble(epochDay)) : null;
+    }
+
+    /**
+     * Sums the values of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the sum
+     */
+    public double sum(final long first, final long last) {
+        double retorno = 0;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final double[] values = (double[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i)) {
+                    retorno += values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the largest value of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the maximum, NaN if no day has a value
+     */
+    public double max(final long first, final long last) {
+        double retorno = Double.NaN;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final double[] values = (double[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i) && !(values[i] <= retorno)) {
+                    retorno = values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the smallest value of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the minimum, NaN if no day has a value
+     */
+    public double min(final long first, final long last) {
+        double retorno = Double.NaN;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final double[] values = (double[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i) && !(values[i] >= retorno)) {
+                    retorno = values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Sums the values of a month.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @return the sum
+     */
+    public double sumOfMonth(final int year, final int month) {
+        final long first = MonthLayout.epochDay(year, month, 1);
+        return sum(first, first + MonthLayout.lengthOfMonth(year, month) - 1);
+    }
+
+    /**
+     * Returns the largest value of a month.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @return the maximum, NaN if no day has a value
+     */
+    public double maxOfMonth(final int year, final int month) {
+        final long first = MonthLayout.epochDay(year, month, 1);
+        return max(first, first + MonthLayout.lengthOfMonth(year, month) - 1);
+    }
+
+    /**
+     * Sums the values of the selected days.
+     * @param selection the selection
+     * @return the sum
+     */
+    public double sum(final DateSelectionModel selection) {
+        final long[] days = selectedDays(selection);
+        double retorno = 0;
+        for (int i = 0; i < days.length; i++) {
+            retorno += getDouble(days[i]);
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the largest value of the selected days.
+     * @param selection the selection
+     * @return the maximum, NaN if no selected day has a value
+     */
+    public double max(final DateSelectionModel selection) {
+        final long[] days = selectedDays(selection);
+        double retorno = Double.NaN;
+        for (int i = 0; i < days.length; i++) {
+            if (hasValue(days[i]) && !(getDouble(days[i]) <= retorno)) {
+                retorno = getDouble(days[i]);
+            }
+        }
+        return retorno;
+    }
+}
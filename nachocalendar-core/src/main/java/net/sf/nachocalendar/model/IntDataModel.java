@@ -0,0 +1,273 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * IntDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Date;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.components.MonthLayout;
+
+/**
+ * DataModel keeping one int per day, such as trade or task counts. Values
+ * are stored in an int array per year, so they are read and aggregated
+ * without boxing. {@link #getData(Date)} returns an Integer for the
+ * components that expect objects, renderers can call {@link #getInt(long)}
+ * instead.
+ *
+ * @author Ignacio Merani
+ */
+public class IntDataModel extends PrimitiveDataModel {
+
+    /** Creates a new instance of IntDataModel. */
+    public IntDataModel() {
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.PrimitiveDataModel#newColumn()
+     */
+    @Override
+    Object newColumn() {
+        return new int[DAYS];
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.PrimitiveDataModel#valueAt(java.lang.Object, int)
+     */
+    @Override
+    double valueAt(final Object column, final int index) {
+        return ((int[]) column)[index];
+    }
+
+    /**
+     * Sets the value of a day.
+     * @param epochDay local days since 1970-01-01
+     * @param value the value
+     */
+    public void setInt(final long epochDay, final int value) {
+        final int slot = slot(epochDay, true);
+        final int index = index(slot, epochDay);
+        final int[] values = (int[]) column(slot);
+        final int old = values[index];
+        if ((old == value) && isPresent(slot, index)) {
+            return;
+        }
+        values[index] = value;
+        stored(slot, index, old, value);
+    }
+
+    /**
+     * Sets the value of a day.
+     * @param date the day
+     * @param value the value
+     */
+    public void setInt(final Date date, final int value) {
+        setInt(CalendarUtils.toEpochDay(date), value);
+    }
+
+    /**
+     * Adds to the value of a day, a day without value counts as 0.
+     * @param epochDay local days since 1970-01-01
+     * @param delta quantity to add
+     */
+    public void add(final long epochDay, final int delta) {
+        setInt(epochDay, getInt(epochDay) + delta);
+    }
+
+    /**
+     * Adds to the value of a day, a day without value counts as 0.
+     * @param date the day
+     * @param delta quantity to add
+     */
+    public void add(final Date date, final int delta) {
+        add(CalendarUtils.toEpochDay(date), delta);
+    }
+
+    /**
+     * Returns the value of a day.
+     * @param epochDay local days since 1970-01-01
+     * @return the value, 0 if the day has none
+     */
+    public int getInt(final long epochDay) {
+        final int slot = slot(epochDay, false);
+        if (slot < 0) {
+            return 0;
+        }
+        final int index = index(slot, epochDay);
+        return isPresent(slot, index) ? ((int[]) column(slot))[index] : 0;
+    }
+
+    /**
+     * Returns the value of a day.
+     * @param date the day
+     * @return the value, 0 if the day has none
+     */
+    public int getInt(final Date date) {
+        return getInt(CalendarUtils.toEpochDay(date));
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+     */
+    @Override
+    public Object getData(final long epochDay) {
+        return hasValue(epochDay) ? Integer.valueOf(getInt(epochDay)) : null;
+    }
+
+    /**
+     * Sums the values of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the sum
+     */
+    public long sum(final long first, final long last) {
+        long retorno = 0;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final int[] values = (int[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i)) {
+                    retorno += values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the largest value of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the maximum, Integer.MIN_VALUE if no day has a value
+     */
+    public int max(final long first, final long last) {
+        int retorno = Integer.MIN_VALUE;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final int[] values = (int[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i) && (values[i] > retorno)) {
+                    retorno = values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the smallest value of a range.
+     * @param first first day, included
+     * @param last last day, included
+     * @return the minimum, Integer.MAX_VALUE if no day has a value
+     */
+    public int min(final long first, final long last) {
+        int retorno = Integer.MAX_VALUE;
+        for (int s = lowerSlot(first); (s < slots()) && (start(s) <= last); s++) {
+            final int[] values = (int[]) column(s);
+            final int end = (int) Math.min(DAYS - 1, last - start(s));
+            for (int i = (int) Math.max(0, first - start(s)); i <= end; i++) {
+                if (isPresent(s, i) && (values[i] < retorno)) {
+                    retorno = values[i];
+                }
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Sums the values of a month.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @return the sum
+     */
+    public long sumOfMonth(final int year, final int month) {
+        final long first = MonthLayout.epochDay(year, month, 1);
+        return sum(first, first + MonthLayout.lengthOfMonth(year, month) - 1);
+    }
+
+    /**
+     * Returns the largest value of a month.
+     * @param year the year
+     * @param month the month, 0 is january
+     * @return the maximum, Integer.MIN_VALUE if no day has a value
+     */
+    public int maxOfMonth(final int year, final int month) {
+        final long first = MonthLayout.epochDay(year, month, 1);
+        return max(first, first + MonthLayout.lengthOfMonth(year, month) - 1);
+    }
+
+    /**
+     * Sums the values of the selected days.
+     * @param selection the selection
+     * @return the sum
+     */
+    public long sum(final DateSelectionModel selection) {
+        final long[] days = selectedDays(selection);
+        long retorno = 0;
+        for (int i = 0; i < days.length; i++) {
+            retorno += getInt(days[i]);
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the largest value of the selected days.
+     * @param selection the selection
+     * @return the maximum, Integer.MIN_VALUE if no selected day has a value
+     */
+    public int max(final DateSelectionModel selection) {
+        final long[] days = selectedDays(selection);
+        int retorno = Integer.MIN_VALUE;
+        for (int i = 0; i < days.length; i++) {
+            if (hasValue(days[i]) && (getInt(days[i]) > retorno)) {
+                retorno = getInt(days[i]);
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Returns the largest value of the model.
+     * @return the maximum, Integer.MIN_VALUE if the model is empty
+     */
+    public int getMaximum() {
+        final double retorno = getMaximumValue();
+        return Double.isNaN(retorno) ? Integer.MIN_VALUE : (int) retorno;
+    }
+
+    /**
+     * Returns the smallest value of the model.
+     * @return the minimum, Integer.MAX_VALUE if the model is empty
+     */
+    public int getMinimum() {
+        final double retorno = getMinimumValue();
+        return Double.isNaN(retorno) ? Integer.MAX_VALUE : (int) retorno;
+    }
+}
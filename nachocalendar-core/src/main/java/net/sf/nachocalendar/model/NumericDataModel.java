@@ -0,0 +1,66 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * NumericDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+/**
+ * Model with one number per day, read without boxing. Renderers use the
+ * minimum and maximum to scale colors.
+ *
+ * @author Ignacio Merani
+ */
+public interface NumericDataModel extends DayDataModel {
+
+    /**
+     * Checks if a day has a value.
+     * @param epochDay local days since 1970-01-01
+     * @return true if it has
+     */
+    boolean hasValue(long epochDay);
+
+    /**
+     * Returns the value of a day.
+     * @param epochDay local days since 1970-01-01
+     * @return the value, 0 if the day has none
+     */
+    double getValue(long epochDay);
+
+    /**
+     * Returns the smallest value of the model.
+     * @return the minimum, NaN if the model is empty
+     */
+    double getMinimumValue();
+
+    /**
+     * Returns the largest value of the model.
+     * @return the maximum, NaN if the model is empty
+     */
+    double getMaximumValue();
+}
@@ -0,0 +1,426 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * PrimitiveDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.components.MonthLayout;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
+
+/**
+ * Base of the models keeping one primitive per day. Every year with values
+ * has an array indexed by day of year, created by the subclass, and a
+ * bitmap of the days that have a value. The minimum and maximum are kept
+ * as values change and only recomputed after the extreme one is replaced.
+ * Like DefaultDataModel it is meant to be used on one thread.
+ *
+ * @author Ignacio Merani
+ */
+abstract class PrimitiveDataModel implements DataModel, NumericDataModel {
+    /** Days in the array of a year. */
+    static final int DAYS = 366;
+
+    private int[] years = new int[0];
+    private long[] starts = new long[0];
+    private long[][] present = new long[0][];
+    private Object[] columns = new Object[0];
+    private int last = -1;
+    private long lastStart, lastEnd;
+    private int size;
+    private double min = Double.NaN, max = Double.NaN;
+    private boolean stale;
+
+    /**
+     * Utility field holding list of DataModelListeners.
+     */
+    private final ListenerRegistry<DataModelListener> dataModelListenerList = new ListenerRegistry<DataModelListener>();
+
+    /**
+     * Creates the array of values of a year.
+     * @return the array
+     */
+    abstract Object newColumn();
+
+    /**
+     * Reads a value as double.
+     * @param column array of a year
+     * @param index day of year, from 0
+     * @return the value
+     */
+    abstract double valueAt(Object column, int index);
+
+    /**
+     * Returns the slot of the year of a day.
+     * @param epochDay local epoch day
+     * @param create true to add the year if it is missing
+     * @return the slot, -1 if missing
+     */
+    final int slot(final long epochDay, final boolean create) {
+        if ((last >= 0) && (epochDay >= lastStart) && (epochDay < lastEnd)) {
+            return last;
+        }
+        final int year = MonthLayout.yearOf(epochDay);
+        int i = Arrays.binarySearch(years, year);
+        if (i < 0) {
+            if (!create) {
+                return -1;
+            }
+            i = -i - 1;
+            years = insert(years, i, year);
+            starts = insert(starts, i, MonthLayout.epochDay(year, Calendar.JANUARY, 1));
+            present = insert(present, i, new long[(DAYS + 63) / 64]);
+            columns = insert(columns, i, newColumn());
+        }
+        last = i;
+        lastStart = starts[i];
+        lastEnd = lastStart + (MonthLayout.isLeapYear(year) ? 366 : 365);
+        return i;
+    }
+
+    /**
+     * Returns the array of values of a slot.
+     * @param slot the slot
+     * @return the array
+     */
+    final Object column(final int slot) {
+        return columns[slot];
+    }
+
+    /**
+     * Returns the quantity of years with values.
+     * @return the quantity of slots
+     */
+    final int slots() {
+        return years.length;
+    }
+
+    /**
+     * Returns the first day of the year of a slot.
+     * @param slot the slot
+     * @return the epoch day of january 1st
+     */
+    final long start(final int slot) {
+        return starts[slot];
+    }
+
+    /**
+     * Returns the first slot that can hold a day or a later one.
+     * @param epochDay local epoch day
+     * @return the slot, slots() if none
+     */
+    final int lowerSlot(final long epochDay) {
+        int i = Arrays.binarySearch(starts, epochDay);
+        if (i < 0) {
+            i = Math.max(0, -i - 2);
+        }
+        return i;
+    }
+
+    /**
+     * Returns the day of year of a day in its slot.
+     * @param slot the slot
+     * @param epochDay local epoch day
+     * @return the index, from 0
+     */
+    final int index(final int slot, final long epochDay) {
+        return (int) (epochDay - starts[slot]);
+    }
+
+    /**
+     * Checks if a day of a slot has a value.
+     * @param slot the slot
+     * @param index day of year
+     * @return true if it has
+     */
+    final boolean isPresent(final int slot, final int index) {
+        return (present[slot][index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Records that a value was stored, the subclass has written it.
+     * @param slot the slot
+     * @param index day of year
+     * @param old previous value, if there was one
+     * @param value the new value
+     */
+    final void stored(final int slot, final int index, final double old, final double value) {
+        if (isPresent(slot, index)) {
+            if ((old == min) || (old == max)) {
+                stale = true;
+            }
+        } else {
+            present[slot][index >> 6] |= 1L << index;
+            size++;
+        }
+        if (!stale) {
+            if ((size == 1) || (value < min)) {
+                min = value;
+            }
+            if ((size == 1) || (value > max)) {
+                max = value;
+            }
+        }
+        fire(starts[slot] + index);
+    }
+
+    /**
+     * Removes the value of a day.
+     * @param epochDay local epoch day
+     */
+    public void removeValue(final long epochDay) {
+        final int slot = slot(epochDay, false);
+        if (slot < 0) {
+            return;
+        }
+        final int index = index(slot, epochDay);
+        if (!isPresent(slot, index)) {
+            return;
+        }
+        final double old = valueAt(columns[slot], index);
+        present[slot][index >> 6] &= ~(1L << index);
+        size--;
+        if ((old == min) || (old == max)) {
+            stale = true;
+        }
+        fire(epochDay);
+    }
+
+    /**
+     * Removes the value of a day.
+     * @param date the day
+     */
+    public void removeValue(final Date date) {
+        removeValue(CalendarUtils.toEpochDay(date));
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        final long[] days = new long[size];
+        int n = 0;
+        for (int s = 0; s < years.length; s++) {
+            for (int i = 0; i < DAYS; i++) {
+                if (isPresent(s, i)) {
+                    days[n++] = starts[s] + i;
+                }
+            }
+        }
+        years = new int[0];
+        starts = new long[0];
+        present = new long[0][];
+        columns = new Object[0];
+        last = -1;
+        size = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+        stale = false;
+        for (int i = 0; i < n; i++) {
+            fire(days[i]);
+        }
+    }
+
+    /**
+     * Returns the quantity of days with a value.
+     * @return the quantity of days
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.NumericDataModel#hasValue(long)
+     */
+    @Override
+    public boolean hasValue(final long epochDay) {
+        final int slot = slot(epochDay, false);
+        return (slot >= 0) && isPresent(slot, index(slot, epochDay));
+    }
+
+    /**
+     * Checks if a day has a value.
+     * @param date the day
+     * @return true if it has
+     */
+    public boolean hasValue(final Date date) {
+        return hasValue(CalendarUtils.toEpochDay(date));
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.NumericDataModel#getValue(long)
+     */
+    @Override
+    public double getValue(final long epochDay) {
+        final int slot = slot(epochDay, false);
+        if (slot < 0) {
+            return 0;
+        }
+        final int index = index(slot, epochDay);
+        return isPresent(slot, index) ? valueAt(columns[slot], index) : 0;
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.NumericDataModel#getMinimumValue()
+     */
+    @Override
+    public double getMinimumValue() {
+        refresh();
+        return min;
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.NumericDataModel#getMaximumValue()
+     */
+    @Override
+    public double getMaximumValue() {
+        refresh();
+        return max;
+    }
+
+    private void refresh() {
+        if (!stale) {
+            return;
+        }
+        stale = false;
+        min = Double.NaN;
+        max = Double.NaN;
+        for (int s = 0; s < years.length; s++) {
+            for (int i = 0; i < DAYS; i++) {
+                if (isPresent(s, i)) {
+                    final double v = valueAt(columns[s], i);
+                    if (!(v >= min)) {
+                        min = v;
+                    }
+                    if (!(v <= max)) {
+                        max = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the epoch days of the dates selected in a model.
+     * @param selection the selection
+     * @return the days, sorted and without repetitions
+     */
+    static long[] selectedDays(final DateSelectionModel selection) {
+        final Object[] dates = selection.getSelectedDates();
+        if (dates == null) {
+            return new long[0];
+        }
+        final long[] days = new long[dates.length];
+        int n = 0;
+        for (int i = 0; i < dates.length; i++) {
+            if (dates[i] instanceof Date) {
+                days[n++] = CalendarUtils.toEpochDay((Date) dates[i]);
+            }
+        }
+        Arrays.sort(days, 0, n);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if ((m == 0) || (days[i] != days[m - 1])) {
+                days[m++] = days[i];
+            }
+        }
+        return Arrays.copyOf(days, m);
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DataModel#getData(java.util.Date)
+     */
+    @Override
+    public Object getData(final Date date) {
+        if (date == null) {
+            return null;
+        }
+        return getData(CalendarUtils.toEpochDay(date));
+    }
+
+    /**
+     * Registers DataModelListener to receive events.
+     * @param listener The listener to register.
+     */
+    public void addDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.add(listener);
+    }
+
+    /**
+     * Registers DataModelListener to receive events, without preventing it
+     * from being garbage collected.
+     * @param listener The listener to register.
+     */
+    public void addWeakDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.addWeak(listener);
+    }
+
+    /**
+     * Removes DataModelListener from the list of listeners.
+     * @param listener The listener to remove.
+     */
+    public void removeDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.remove(listener);
+    }
+
+    private void fire(final long epochDay) {
+        if (!dataModelListenerList.isEmpty()) {
+            dataModelListenerList.fire(DataModelListener::dataChanged, new DataChangeEvent(this, CalendarUtils.fromEpochDay(epochDay)));
+        }
+    }
+
+    private static int[] insert(final int[] a, final int i, final int v) {
+        final int[] r = new int[a.length + 1];
+        System.arraycopy(a, 0, r, 0, i);
+        r[i] = v;
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        return r;
+    }
+
+    private static long[] insert(final long[] a, final int i, final long v) {
+        final long[] r = new long[a.length + 1];
+        System.arraycopy(a, 0, r, 0, i);
+        r[i] = v;
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        return r;
+    }
+
+    private static <T> T[] insert(final T[] a, final int i, final T v) {
+        final T[] r = Arrays.copyOf(a, a.length + 1);
+        r[i] = v;
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        return r;
+    }
+}
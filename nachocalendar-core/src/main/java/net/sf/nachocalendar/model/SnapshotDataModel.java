@@ -0,0 +1,201 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * SnapshotDataModel.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.model;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.event.ListenerRegistry;
+
+/**
+ * DataModel publishing immutable {@link DataSnapshot}s through an atomic
+ * reference. Readers always see a complete version without locking, while
+ * a background job builds the next one and publishes it at once.
+ * <p>
+ * After every publication an event is fired for each day that changed
+ * between the two versions. Events are fired on the publishing thread, use
+ * a <code>net.sf.nachocalendar.components.DataChangeBridge</code> to move them to
+ * the event dispatch thread.
+ *
+ * @author Ignacio Merani
+ */
+public class SnapshotDataModel implements DataModel, DayDataModel {
+    private final AtomicReference<DataSnapshot> current;
+
+    /**
+     * Utility field holding list of DataModelListeners.
+     */
+    private final ListenerRegistry<DataModelListener> dataModelListenerList = new ListenerRegistry<DataModelListener>();
+
+    /** Creates a new empty instance. */
+    public SnapshotDataModel() {
+        this(DataSnapshot.EMPTY);
+    }
+
+    /**
+     * Creates a new instance.
+     * @param snapshot initial data
+     */
+    public SnapshotDataModel(final DataSnapshot snapshot) {
+        current = new AtomicReference<DataSnapshot>(snapshot == null ? DataSnapshot.EMPTY : snapshot);
+    }
+
+    /**
+     * Returns the current version of the data.
+     * @return the current snapshot
+     */
+    public DataSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    /**
+     * Replaces the data with a new version and fires the differences.
+     * @param snapshot the new version
+     */
+    public void publish(final DataSnapshot snapshot) {
+        final DataSnapshot next = snapshot == null ? DataSnapshot.EMPTY : snapshot;
+        fireChanges(current.getAndSet(next), next);
+    }
+
+    /**
+     * Applies an update to the current version. The function can be called
+     * more than once if other threads publish at the same time, so it must
+     * not have side effects.
+     * @param update function returning the new version
+     */
+    public void update(final UnaryOperator<DataSnapshot> update) {
+        DataSnapshot old;
+        DataSnapshot next;
+        do {
+            old = current.get();
+            next = update.apply(old);
+        } while (!current.compareAndSet(old, next));
+        fireChanges(old, next);
+    }
+
+    /**
+     * Adds new data, replacing the data of the same day if any.
+     * @param date the new date
+     * @param o the new data, null removes the day
+     */
+    public void addData(final Date date, final Object o) {
+        update(s -> s.with(date, o));
+    }
+
+    /**
+     * Removes the data of the provided day.
+     * @param date date to be removed
+     */
+    public void removeData(final Date date) {
+        update(s -> s.without(date));
+    }
+
+    /**
+     * Removes all data.
+     */
+    public void clear() {
+        publish(DataSnapshot.EMPTY);
+    }
+
+    /**
+     * Returns the quantity of days with data.
+     * @return the quantity of days
+     */
+    public int getSize() {
+        return current.get().size();
+    }
+
+    /**
+     * Returns a copy of the data, keyed by the start of each day.
+     * @return Map with the data
+     */
+    public Map getAll() {
+        return current.get().toMap();
+    }
+
+    /**
+     * Checks if the date provided has data.
+     * @param date Date to be checked
+     * @return the data or null if it has not
+     */
+    @Override
+    public Object getData(final Date date) {
+        return current.get().getData(date);
+    }
+
+    /* (non-Javadoc)
+     * @see net.sf.nachocalendar.model.DayDataModel#getData(long)
+     */
+    @Override
+    public Object getData(final long epochDay) {
+        return current.get().get(epochDay);
+    }
+
+    /**
+     * Registers DataModelListener to receive events.
+     * @param listener The listener to register.
+     */
+    public void addDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.add(listener);
+    }
+
+    /**
+     * Registers DataModelListener to receive events, without preventing it
+     * from being garbage collected.
+     * @param listener The listener to register.
+     */
+    public void addWeakDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.addWeak(listener);
+    }
+
+    /**
+     * Removes DataModelListener from the list of listeners.
+     * @param listener The listener to remove.
+     */
+    public void removeDataModelListener(final DataModelListener listener) {
+        dataModelListenerList.remove(listener);
+    }
+
+    private void fireChanges(final DataSnapshot old, final DataSnapshot next) {
+        if (old == next || dataModelListenerList.isEmpty()) {
+            return;
+        }
+        final List<DataChangeEvent> events = old.diff(next, this);
+        for (int i = 0; i < events.size(); i++) {
+            dataModelListenerList.fire(DataModelListener::dataChanged, events.get(i));
+        }
+    }
+}
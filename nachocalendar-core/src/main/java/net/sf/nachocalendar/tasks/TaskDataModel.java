@@ -0,0 +1,220 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * Changes
+ * -------
+ *
+ * 2004-10-01   Checked with checkstyle
+ *
+ * -------
+ *
+ * TaskDataModel.java
+ *
+ * Created on August 18, 2004, 9:39 PM
+ */
+
+package net.sf.nachocalendar.tasks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.model.DefaultDataModel;
+
+/**
+ * Implementation of the interface DataModel, created to manage
+ * tasks.
+ * @author Ignacio Merani
+ */
+public class TaskDataModel extends DefaultDataModel {
+
+    /** Creates a new instance of TaskDataModel. */
+    public TaskDataModel() {
+    }
+
+    /**
+     * Adds a new Task to the model. Listeners are notified even when the
+     * day already had tasks.
+     * @param task the task to be added
+     */
+    public void addTask(final Task task) {
+        final Date d = task.getDate();
+        if (d == null) {
+            return;
+        }
+        final Object o = getData(d);
+        Collection col = (Collection) o;
+        if (col == null) {
+            col = new ArrayList();
+            col.add(task);
+            addData(d, col);
+        } else {
+            col.add(task);
+            fireDataModelListenerDataChanged(new DataChangeEvent(col, d));
+        }
+    }
+
+    /**
+     * Returns a Collection with all the tasks related to a provided Date.
+     * @param date the Date requested
+     * @return Collection with values or null
+     */
+    public Collection getTasks(final Date date) {
+        final Object o = getData(date);
+        if (o == null) {
+            return null;
+        }
+        if (o instanceof Collection) {
+            return (Collection) o;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tasks of every date on the day of the provided one, in the
+     * order of their dates. getTasks only returns those of the first date
+     * found.
+     * @param date the Date requested
+     * @return Collection with the tasks, empty if the day has none
+     */
+    public Collection getAllTasks(final Date date) {
+        final List all = getAllData(date);
+        if (all.size() == 1) {
+            return all.get(0) instanceof Collection ? (Collection) all.get(0) : Collections.EMPTY_LIST;
+        }
+        final List retorno = new ArrayList();
+        for (int i = 0; i < all.size(); i++) {
+            if (all.get(i) instanceof Collection) {
+                retorno.addAll((Collection) all.get(i));
+            }
+        }
+        return retorno;
+    }
+
+    /**
+     * Replaces all the tasks in the model. Tasks are grouped by day, and
+     * events are fired only for the days whose tasks actually changed,
+     * compared by identity.
+     * @param tasks the new tasks
+     */
+    public void replaceTasks(final Collection tasks) {
+        final Map days = new HashMap();
+        final Iterator current = getAll().keySet().iterator();
+        while (current.hasNext()) {
+            final Date d = (Date) current.next();
+            days.put(Long.valueOf(CalendarUtils.toEpochDay(d)), d);
+        }
+        final Map values = new HashMap();
+        final Iterator it = tasks.iterator();
+        while (it.hasNext()) {
+            final Task task = (Task) it.next();
+            final Date d = task.getDate();
+            if (d == null) {
+                continue;
+            }
+            final Long day = Long.valueOf(CalendarUtils.toEpochDay(d));
+            Date key = (Date) days.get(day);
+            if (key == null) {
+                key = d;
+                days.put(day, key);
+            }
+            Collection col = (Collection) values.get(key);
+            if (col == null) {
+                col = new ArrayList();
+                values.put(key, col);
+            }
+            col.add(task);
+        }
+        replaceAll(values);
+    }
+
+    /**
+     * A day is the same if it has the same tasks, in the same order, as
+     * told by isSameTask. A reloaded list of new but equal tasks fires no
+     * event.
+     * @param current the data in the model
+     * @param replacement the new data
+     * @return true if both are the same tasks
+     */
+    protected boolean isSameData(final Object current, final Object replacement) {
+        if (!(current instanceof Collection) || !(replacement instanceof Collection)) {
+            return super.isSameData(current, replacement);
+        }
+        final Collection a = (Collection) current;
+        final Collection b = (Collection) replacement;
+        if (a.size() != b.size()) {
+            return false;
+        }
+        final Iterator ia = a.iterator();
+        final Iterator ib = b.iterator();
+        while (ia.hasNext()) {
+            final Object ta = ia.next();
+            final Object tb = ib.next();
+            if ((ta instanceof Task) && (tb instanceof Task)) {
+                if (!isSameTask((Task) ta, (Task) tb)) {
+                    return false;
+                }
+            } else if (!Objects.equals(ta, tb)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells replaceTasks if a task did not change. Compares the date, then
+     * the name; subclasses can compare other values of their tasks.
+     * @param current the task in the model
+     * @param replacement the new task
+     * @return true if both tasks have the same values
+     */
+    protected boolean isSameTask(final Task current, final Task replacement) {
+        return (current == replacement)
+            || (Objects.equals(current.getDate(), replacement.getDate())
+                && Objects.equals(current.getName(), replacement.getName()));
+    }
+
+    /**
+     * Removes a task from the model. Listeners are notified only if the
+     * task was in the model.
+     * @param task task to be removed
+     */
+    public void removeTask(final Task task) {
+        final Collection col = getTasks(task.getDate());
+        if ((col != null) && col.remove(task)) {
+            if (col.size() == 0) {
+                removeData(task.getDate());
+            } else {
+                fireDataModelListenerDataChanged(new DataChangeEvent(col, task.getDate()));
+            }
+        }
+    }
+}
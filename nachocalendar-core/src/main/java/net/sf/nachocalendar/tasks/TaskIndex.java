@@ -0,0 +1,318 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------
+ *
+ * TaskIndex.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.tasks;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+import net.sf.nachocalendar.components.CalendarUtils;
+
+/**
+ * Tasks of a TaskDataModel sorted by day, seen as rows: a header row for
+ * every day with tasks followed by a row for each of its tasks. Rows are
+ * found by binary search on the first row of each day, so the view of a
+ * few rows costs the same with one task or with a million, and a change
+ * of one day only copies primitive arrays.
+ * <p>
+ * The index is not synchronized, it is meant to be used on the thread
+ * that changes the model, usually the event dispatch thread.
+ *
+ * @author Ignacio Merani
+ */
+public final class TaskIndex {
+    private static final Task[] NO_TASKS = new Task[0];
+
+    private final TaskDataModel model;
+    private long[] days = new long[0];
+    private Task[][] tasks = new Task[0][];
+    /** First row of each day, the row of its header. */
+    private int[] rows = new int[0];
+    private int size, rowCount, taskCount;
+
+    /**
+     * Creates the index of a model.
+     * @param model the model
+     */
+    public TaskIndex(final TaskDataModel model) {
+        this.model = model;
+        rebuild();
+    }
+
+    /**
+     * Getter for property model.
+     * @return Value of property model.
+     */
+    public TaskDataModel getModel() {
+        return model;
+    }
+
+    /**
+     * Reads again every task of the model.
+     */
+    public void rebuild() {
+        final Map all = model.getAll();
+        final long[] keys = new long[all.size()];
+        final long[] times = new long[all.size()];
+        final Collection[] values = new Collection[all.size()];
+        int n = 0;
+        final Iterator it = all.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry e = (Map.Entry) it.next();
+            if ((e.getKey() instanceof Date) && (e.getValue() instanceof Collection)) {
+                times[n] = ((Date) e.getKey()).getTime();
+                keys[n] = CalendarUtils.toEpochDay((Date) e.getKey());
+                values[n++] = (Collection) e.getValue();
+            }
+        }
+        // sort the positions by day and time, as getAllTasks does; keys are
+        // usually few compared to tasks
+        final Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = Integer.valueOf(i);
+        }
+        Arrays.sort(boxed, (a, b) -> {
+            final int retorno = Long.compare(keys[a.intValue()], keys[b.intValue()]);
+            return retorno != 0 ? retorno : Long.compare(times[a.intValue()], times[b.intValue()]);
+        });
+
+        days = new long[n];
+        tasks = new Task[n][];
+        rows = new int[n];
+        size = 0;
+        for (int i = 0; i < n; i++) {
+            final int k = boxed[i].intValue();
+            final Task[] t = toArray(values[k]);
+            if ((size > 0) && (days[size - 1] == keys[k])) {
+                // two keys of the same day
+                final Task[] merged = Arrays.copyOf(tasks[size - 1], tasks[size - 1].length + t.length);
+                System.arraycopy(t, 0, merged, tasks[size - 1].length, t.length);
+                tasks[size - 1] = merged;
+            } else if (t.length > 0) {
+                days[size] = keys[k];
+                tasks[size++] = t;
+            }
+        }
+        renumber(0);
+    }
+
+    private static Task[] toArray(final Collection col) {
+        if ((col == null) || col.isEmpty()) {
+            return NO_TASKS;
+        }
+        final Task[] retorno = new Task[col.size()];
+        int i = 0;
+        final Iterator it = col.iterator();
+        while (it.hasNext() && (i < retorno.length)) {
+            final Object o = it.next();
+            if (o instanceof Task) {
+                retorno[i++] = (Task) o;
+            }
+        }
+        return i == retorno.length ? retorno : Arrays.copyOf(retorno, i);
+    }
+
+    /**
+     * Computes the rows from a day to the end.
+     * @param from index of the first day to compute
+     */
+    private void renumber(final int from) {
+        int row = from == 0 ? 0 : rows[from - 1] + 1 + tasks[from - 1].length;
+        for (int i = from; i < size; i++) {
+            rows[i] = row;
+            row += 1 + tasks[i].length;
+        }
+        rowCount = row;
+        taskCount = rowCount - size;
+    }
+
+    /**
+     * Reads again the tasks of a day.
+     * @param date the day changed
+     * @return the index of the day in the index after the change, or
+     * where it would be if it has no tasks
+     */
+    public int update(final Date date) {
+        final long day = CalendarUtils.toEpochDay(date);
+        // every key of the day, as rebuild reads them
+        final Task[] t = toArray(model.getAllTasks(date));
+        int index = Arrays.binarySearch(days, 0, size, day);
+        if (index >= 0) {
+            if (t.length == 0) {
+                System.arraycopy(days, index + 1, days, index, size - index - 1);
+                System.arraycopy(tasks, index + 1, tasks, index, size - index - 1);
+                System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+                tasks[--size] = null;
+            } else {
+                tasks[index] = t;
+            }
+        } else {
+            index = -index - 1;
+            if (t.length == 0) {
+                return index;
+            }
+            if (size == days.length) {
+                final int capacity = Math.max(16, size + (size >> 1));
+                days = Arrays.copyOf(days, capacity);
+                tasks = Arrays.copyOf(tasks, capacity);
+                rows = Arrays.copyOf(rows, capacity);
+            }
+            System.arraycopy(days, index, days, index + 1, size - index);
+            System.arraycopy(tasks, index, tasks, index + 1, size - index);
+            System.arraycopy(rows, index, rows, index + 1, size - index);
+            days[index] = day;
+            tasks[index] = t;
+            size++;
+        }
+        renumber(index);
+        return index;
+    }
+
+    /**
+     * Returns the quantity of rows, headers included.
+     * @return the quantity of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the quantity of days with tasks.
+     * @return the quantity of days
+     */
+    public int getDayCount() {
+        return size;
+    }
+
+    /**
+     * Returns the quantity of tasks.
+     * @return the quantity of tasks
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns a day of the index.
+     * @param index index of the day
+     * @return local epoch day
+     */
+    public long getDay(final int index) {
+        return days[index];
+    }
+
+    /**
+     * Returns the row of the header of a day.
+     * @param index index of the day
+     * @return the row
+     */
+    public int getHeaderRow(final int index) {
+        return rows[index];
+    }
+
+    /**
+     * Returns the tasks of a day.
+     * @param index index of the day
+     * @return the tasks, not to be modified
+     */
+    public Task[] getTasks(final int index) {
+        return tasks[index];
+    }
+
+    /**
+     * Returns the index of the day shown in a row.
+     * @param row the row
+     * @return index of the day, -1 if the row does not exist
+     */
+    public int indexOfRow(final int row) {
+        if ((row < 0) || (row >= rowCount)) {
+            return -1;
+        }
+        final int index = Arrays.binarySearch(rows, 0, size, row);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the day shown in a row.
+     * @param row the row
+     * @return local epoch day, Long.MIN_VALUE if the row does not exist
+     */
+    public long getDayOfRow(final int row) {
+        final int index = indexOfRow(row);
+        return index < 0 ? Long.MIN_VALUE : days[index];
+    }
+
+    /**
+     * Tells if a row is the header of a day.
+     * @param row the row
+     * @return true if it is a header
+     */
+    public boolean isHeader(final int row) {
+        final int index = indexOfRow(row);
+        return (index >= 0) && (rows[index] == row);
+    }
+
+    /**
+     * Returns the task shown in a row.
+     * @param row the row
+     * @return the task, null for headers and rows that do not exist
+     */
+    public Task getTask(final int row) {
+        final int index = indexOfRow(row);
+        if ((index < 0) || (rows[index] == row)) {
+            return null;
+        }
+        return tasks[index][row - rows[index] - 1];
+    }
+
+    /**
+     * Returns the index of the first day with tasks on or after a day.
+     * @param day local epoch day
+     * @return index of the day, getDayCount() if there is none
+     */
+    public int indexOfDay(final long day) {
+        final int index = Arrays.binarySearch(days, 0, size, day);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the header row of the first day with tasks on or after a
+     * day.
+     * @param day local epoch day
+     * @return the row, getRowCount() if there is none
+     */
+    public int rowOfDay(final long day) {
+        final int index = indexOfDay(day);
+        return index < size ? rows[index] : rowCount;
+    }
+}
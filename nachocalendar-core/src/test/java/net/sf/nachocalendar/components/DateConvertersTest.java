@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DateConvertersTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.sql.Timestamp;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DateConvertersTest extends TestCase {
+
+    public void testTypes() throws ParseException {
+        final Date date = new GregorianCalendar(2024, Calendar.MARCH, 5).getTime();
+        assertSame(date, CalendarUtils.convertToDate(date));
+        assertNull(CalendarUtils.convertToDate(null));
+        assertEquals(Date.class, CalendarUtils.convertToDate(new Timestamp(date.getTime())).getClass());
+        assertEquals(date, CalendarUtils.convertToDate(new java.sql.Date(date.getTime())));
+        assertEquals(date, CalendarUtils.convertToDate(Long.valueOf(date.getTime())));
+        assertEquals(date, CalendarUtils.convertToDate(LocalDate.of(2024, 3, 5)));
+        assertEquals(date, CalendarUtils.convertToDate(LocalDateTime.of(2024, 3, 5, 0, 0)));
+        assertEquals(date, CalendarUtils.convertToDate(date.toInstant()));
+        final GregorianCalendar calendar = new GregorianCalendar();
+        calendar.setTime(date);
+        assertEquals(date, CalendarUtils.convertToDate(calendar));
+    }
+
+    public void testTexts() throws ParseException {
+        final Date date = new GregorianCalendar(2024, Calendar.MARCH, 5).getTime();
+        final String text = DateFormat.getDateInstance().format(date);
+        assertEquals(date, CalendarUtils.convertToDate(text));
+        // remembered texts give a new Date each time
+        final Date again = CalendarUtils.convertToDate(text);
+        assertEquals(date, again);
+        assertNotSame(again, CalendarUtils.convertToDate(text));
+        assertEquals(date, CalendarUtils.convertToDate(new StringBuilder(text)));
+        assertEquals(date, CalendarUtils.convertToDate("2024-03-05"));
+        try {
+            CalendarUtils.convertToDate("not a date");
+            fail();
+        } catch (final ParseException e) {
+            // expected
+        }
+    }
+
+    public void testRegister() throws ParseException {
+        final Date date = new Date(0);
+        assertSame(DateConverters.TEXT, DateConverters.getConverter(StringBuffer.class));
+        DateConverters.register(Integer.class, o -> date);
+        try {
+            assertSame(date, CalendarUtils.convertToDate(Integer.valueOf(1)));
+        } finally {
+            DateConverters.register(Integer.class, null);
+        }
+        assertSame(DateConverters.TEXT, DateConverters.getConverter(Integer.class));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DatePatternTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DatePatternTest extends TestCase {
+
+    public void testSameAsSimpleDateFormat() {
+        final Locale[] locales = {Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, new Locale("es", "AR")};
+        for (int i = 0; i < locales.length; i++) {
+            for (int style = DateFormat.FULL; style <= DateFormat.SHORT; style++) {
+                final DateFormat format = DateFormat.getDateInstance(style, locales[i]);
+                final DatePattern pattern = DatePattern.of(format);
+                assertNotNull(pattern);
+                for (long day = MonthLayout.epochDay(2020, Calendar.JANUARY, 1); day < MonthLayout.epochDay(2021, Calendar.JANUARY, 1); day++) {
+                    final String text = format.format(CalendarUtils.fromEpochDay(day));
+                    assertEquals(text, pattern.format(day));
+                    assertEquals(day, pattern.parse(text));
+                }
+            }
+        }
+    }
+
+    public void testStrict() {
+        final DatePattern pattern = DatePattern.of(new SimpleDateFormat("dd/MM/yyyy", Locale.US));
+        assertEquals(MonthLayout.epochDay(2024, Calendar.FEBRUARY, 29), pattern.parse(" 29/02/2024 "));
+        assertEquals(DatePattern.NO_DATE, pattern.parse("29/02/2023"));
+        assertEquals(DatePattern.NO_DATE, pattern.parse("1/13/2023"));
+        assertEquals(DatePattern.NO_DATE, pattern.parse("01/01/2023x"));
+        assertEquals(DatePattern.NO_DATE, pattern.parse("01/01/1500"));
+        assertNull(DatePattern.of(new SimpleDateFormat("dd/MM/yyyy HH:mm")));
+    }
+
+    public void testFixedWidths() {
+        final DatePattern pattern = DatePattern.of("yyyyMMdd", Locale.US);
+        assertEquals(MonthLayout.epochDay(2024, Calendar.MARCH, 5), pattern.parse("20240305"));
+        assertEquals(DatePattern.NO_DATE, pattern.parse("202403"));
+        assertEquals("20240305", pattern.format(MonthLayout.epochDay(2024, Calendar.MARCH, 5)));
+    }
+}
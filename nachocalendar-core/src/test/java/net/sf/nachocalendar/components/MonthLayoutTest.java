@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * MonthLayoutTest.java
+ */
+package net.sf.nachocalendar.components;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class MonthLayoutTest extends TestCase {
+
+    public void testEpochDay() {
+        assertEquals(MonthLayout.epochDay(1970, Calendar.JANUARY, 1), 0);
+        assertEquals(MonthLayout.epochDay(2000, Calendar.MARCH, 1), 11017);
+        assertEquals(MonthLayout.epochDay(1969, Calendar.DECEMBER, 31), -1);
+        assertEquals(MonthLayout.yearOf(11016), 2000);
+        assertEquals(MonthLayout.yearOf(-1), 1969);
+        assertEquals(MonthLayout.dayOfWeek(0), Calendar.THURSDAY);
+        assertEquals(MonthLayout.lengthOfMonth(2000, Calendar.FEBRUARY), 29);
+        assertEquals(MonthLayout.lengthOfMonth(1900, Calendar.FEBRUARY), 28);
+    }
+
+    public void testIsoWeek() {
+        // 2021-01-03 is still week 53 of 2020, 2024-12-30 is week 1 of 2025
+        assertEquals(MonthLayout.isoWeek(MonthLayout.epochDay(2021, Calendar.JANUARY, 3)), 53);
+        assertEquals(MonthLayout.isoWeek(MonthLayout.epochDay(2021, Calendar.JANUARY, 4)), 1);
+        assertEquals(MonthLayout.isoWeek(MonthLayout.epochDay(2024, Calendar.DECEMBER, 30)), 1);
+    }
+
+    public void testLayout() {
+        final long[] days = new long[MonthLayout.CELLS];
+        final boolean[] inMonth = new boolean[MonthLayout.CELLS];
+        final int[] weeks = new int[MonthLayout.WEEKS];
+        final Calendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        for (int fdw = Calendar.SUNDAY; fdw <= Calendar.SATURDAY; fdw++) {
+            for (int minimal = 1; minimal <= 7; minimal++) {
+                cal.setFirstDayOfWeek(fdw);
+                cal.setMinimalDaysInFirstWeek(minimal);
+                for (int month = 2015 * 12; month < 2025 * 12; month++) {
+                    MonthLayout.layout(month / 12, month % 12, fdw, minimal, days, inMonth, weeks);
+                    cal.clear();
+                    cal.set(month / 12, month % 12, 1);
+                    cal.add(Calendar.DATE, -((cal.get(Calendar.DAY_OF_WEEK) - fdw + 7) % 7));
+                    for (int i = 0; i < MonthLayout.CELLS; i++) {
+                        assertEquals(days[i], cal.getTimeInMillis() / (24L * 60 * 60 * 1000));
+                        assertEquals(inMonth[i], cal.get(Calendar.MONTH) == month % 12);
+                        if (i % 7 == 0) {
+                            assertEquals(weeks[i / 7], cal.get(Calendar.WEEK_OF_YEAR));
+                        }
+                        cal.add(Calendar.DATE, 1);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * ListenerRegistryTest.java
+ */
+package net.sf.nachocalendar.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class ListenerRegistryTest extends TestCase {
+
+    /** Listener equal to any other with the same name. */
+    private static final class Named implements DataModelListener {
+        private final String name;
+        private final List<String> calls;
+
+        Named(final String name, final List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        public void dataChanged(final DataChangeEvent e) {
+            calls.add(name);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return (o instanceof Named) && ((Named) o).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    /** Holder as the components and models declare it. */
+    private static final class Holder implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final ListenerRegistry<DataModelListener> listeners = new ListenerRegistry<DataModelListener>();
+    }
+
+    public void testOrder() {
+        final List<String> calls = new ArrayList<String>();
+        final ListenerRegistry<DataModelListener> registry = new ListenerRegistry<DataModelListener>();
+        registry.add(new Named("a", calls));
+        registry.add(new Named("b", calls));
+        registry.fire(DataModelListener::dataChanged, null);
+        registry.fireReverse(DataModelListener::dataChanged, null);
+        assertEquals("[a, b, b, a]", calls.toString());
+    }
+
+    public void testRemoveByEquals() {
+        final List<String> calls = new ArrayList<String>();
+        final ListenerRegistry<DataModelListener> registry = new ListenerRegistry<DataModelListener>();
+        registry.add(new Named("a", calls));
+        registry.addWeak(new Named("b", calls));
+        registry.remove(new Named("a", calls));
+        assertEquals(1, registry.size());
+        registry.remove(null);
+        registry.remove(new Named("c", calls));
+        assertEquals(1, registry.size());
+    }
+
+    public void testWeak() throws Exception {
+        final List<String> calls = new ArrayList<String>();
+        final ListenerRegistry<DataModelListener> registry = new ListenerRegistry<DataModelListener>();
+        registry.addWeak(new Named("gone", calls));
+        for (int i = 0; (i < 50) && (registry.size() > 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+            registry.purge();
+        }
+        assertTrue(registry.isEmpty());
+    }
+
+    public void testSerialization() throws Exception {
+        final Holder holder = new Holder();
+        holder.listeners.add(new Named("a", new ArrayList<String>()));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(holder);
+        out.close();
+        final Holder copy = (Holder) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        // listeners are not serialized, the registry is usable
+        assertTrue(copy.listeners.isEmpty());
+        final List<String> calls = new ArrayList<String>();
+        copy.listeners.add(new Named("b", calls));
+        copy.listeners.fire(DataModelListener::dataChanged, null);
+        assertEquals("[b]", calls.toString());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * BusinessDaysTest.java
+ */
+package net.sf.nachocalendar.holidays;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.MonthLayout;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class BusinessDaysTest extends TestCase {
+    private static final boolean[] WEEK = { false, true, true, true, true, true, false };
+
+    public void testFixed() {
+        // friday 2024-03-29 is a holiday
+        final long friday = MonthLayout.epochDay(2024, Calendar.MARCH, 29);
+        final BusinessDays days = BusinessDays.of(WEEK, new long[] { friday });
+        final long thursday = friday - 1;
+        assertTrue(days.isBusinessDay(thursday));
+        assertFalse(days.isBusinessDay(friday));
+        assertFalse(days.isBusinessDay(friday + 1));
+        assertEquals(friday + 3, days.next(friday));
+        assertEquals(thursday, days.previous(friday + 2));
+        // T+2 from thursday skips the holiday and the weekend
+        assertEquals(friday + 4, days.add(thursday, 2));
+        assertEquals(thursday, days.add(friday + 3, -1));
+        assertEquals(4, days.count(friday - 3, friday + 4));
+    }
+
+    public void testRecurrent() {
+        final HoliDayModel model = new HoliDayModel();
+        final DefaultHoliDay christmas = new DefaultHoliDay();
+        christmas.setDate(new GregorianCalendar(2000, Calendar.DECEMBER, 25).getTime());
+        christmas.setRecurrent(true);
+        model.addHoliDay(christmas);
+        final BusinessDays days = BusinessDays.of(WEEK, model);
+        assertFalse(days.isBusinessDay(MonthLayout.epochDay(2024, Calendar.DECEMBER, 25)));
+        assertTrue(days.isBusinessDay(MonthLayout.epochDay(2024, Calendar.DECEMBER, 24)));
+        assertFalse(days.isBusinessDay(new GregorianCalendar(2025, Calendar.DECEMBER, 25, 15, 0).getTime()));
+    }
+
+    public void testNoWorkingDay() {
+        try {
+            BusinessDays.of(new boolean[7], (long[]) null);
+            fail();
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DataModelsTest.java
+ */
+package net.sf.nachocalendar.model;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.CalendarUtils;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DataModelsTest extends TestCase {
+
+    public void testDayView() {
+        final DefaultDataModel model = new DefaultDataModel();
+        final Date date = new GregorianCalendar(2024, Calendar.MARCH, 5, 10, 30).getTime();
+        model.addData(date, "a");
+        final DayDataModel days = DataModels.asDayDataModel(model);
+        assertEquals("a", days.getData(CalendarUtils.toEpochDay(date)));
+        assertEquals("a", days.getData(LocalDate.of(2024, 3, 5)));
+        assertNull(days.getData(LocalDate.of(2024, 3, 6)));
+        final DataSnapshot snapshot = DataSnapshot.EMPTY.with(date, "b");
+        assertSame(snapshot, DataModels.asDayDataModel(snapshot));
+    }
+
+    public void testDateView() {
+        final long day = LocalDate.of(2024, 3, 5).toEpochDay();
+        final DayDataModel days = d -> d == day ? "a" : null;
+        final DataModel model = DataModels.asDataModel(days);
+        assertEquals("a", model.getData(new GregorianCalendar(2024, Calendar.MARCH, 5, 23, 59).getTime()));
+        assertNull(model.getData(new GregorianCalendar(2024, Calendar.MARCH, 6).getTime()));
+        assertNull(model.getData((Date) null));
+        assertSame(model, DataModels.asDayDataModel(model));
+    }
+
+    public void testLocalDates() {
+        final LocalDate first = CalendarUtils.toLocalDate(19787);
+        assertEquals(LocalDate.ofEpochDay(19787), first);
+        assertSame(first, CalendarUtils.toLocalDate(19787));
+        assertEquals(LocalDate.of(2024, 3, 5), CalendarUtils.toLocalDate(new GregorianCalendar(2024, Calendar.MARCH, 5, 12, 0).getTime()));
+    }
+}
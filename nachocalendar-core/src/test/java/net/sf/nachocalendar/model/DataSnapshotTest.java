@@ -0,0 +1,51 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * DataSnapshotTest.java
+ */
+package net.sf.nachocalendar.model;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class DataSnapshotTest extends TestCase {
+
+    public void testWith() {
+        DataSnapshot s1 = DataSnapshot.EMPTY.with(12000, "a").with(12001, "b").with(-5, "c");
+        assertEquals(s1.size(), 3);
+        assertEquals("a", s1.get(12000));
+        assertEquals("c", s1.get(-5));
+        assertNull(s1.get(12002));
+        DataSnapshot s2 = s1.with(12000, null);
+        assertEquals(s2.size(), 2);
+        assertEquals("a", s1.get(12000));
+        assertNull(s2.get(12000));
+        assertSame(s2, s2.with(12000, null));
+        assertEquals(s2.with(12001, null).with(-5, null).size(), 0);
+    }
+
+    public void testDiff() {
+        DataSnapshot s1 = DataSnapshot.EMPTY;
+        for (int i = 0; i < 365; i++) {
+            s1 = s1.with(12000 + i, Integer.valueOf(i));
+        }
+        DataSnapshot s2 = s1.with(12010, "x").with(12400, "y").with(12100, null).with(12200, Integer.valueOf(200));
+        List events = s1.diff(s2, this);
+        assertEquals(events.size(), 3);
+        assertEquals(CalendarUtils.toEpochDay(((DataChangeEvent) events.get(0)).getDate()), 12010);
+        assertEquals(CalendarUtils.toEpochDay(((DataChangeEvent) events.get(1)).getDate()), 12100);
+        assertEquals(CalendarUtils.toEpochDay(((DataChangeEvent) events.get(2)).getDate()), 12400);
+        assertEquals(s2.diff(s1, this).size(), 3);
+        assertEquals(s1.diff(s1, this).size(), 0);
+    }
+}
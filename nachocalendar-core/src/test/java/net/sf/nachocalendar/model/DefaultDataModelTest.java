@@ -0,0 +1,293 @@
+/*
+ * Created on Jan 8, 2005
+ * 
+ * Project: NachoCalendar
+ * 
+ * DefaultDataModelTest.java
+ */
+package net.sf.nachocalendar.model;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+import net.sf.nachocalendar.tasks.DefaultTask;
+import net.sf.nachocalendar.tasks.TaskDataModel;
+
+/**
+ * @author Ignacio Merani
+ *
+ * 
+ */
+public class DefaultDataModelTest extends TestCase {
+    private DefaultDataModel model;
+    
+    protected void setUp() throws Exception {
+        model = new DefaultDataModel();
+    }
+    
+    protected void tearDown() throws Exception {
+        model = null;
+    }
+    
+    public void testRemoveData() {
+        Calendar cal = new GregorianCalendar();
+        Date d1 = cal.getTime();
+        cal.add(Calendar.MONTH, 1);
+        Date d2 = cal.getTime();
+        cal.add(Calendar.DAY_OF_YEAR, 1);
+        Date d3 = cal.getTime();
+        assertEquals(model.getSize(), 0);
+        model.addData(d1, this);
+        assertEquals(model.getSize(), 1);
+        model.addData(d2, this);
+        assertEquals(model.getSize(), 2);
+        model.addData(d3, this);
+        assertEquals(model.getSize(), 3);
+        model.removeData(d1);
+        assertEquals(model.getSize(), 2);
+        model.removeData(d2);
+        assertEquals(model.getSize(), 1);
+        model.removeData(d3);
+        assertEquals(model.getSize(), 0);
+    }
+
+    public void testClear() {
+        Calendar cal = new GregorianCalendar();
+        Date d1 = cal.getTime();
+        cal.add(Calendar.MONTH, 1);
+        Date d2 = cal.getTime();
+        cal.add(Calendar.DAY_OF_YEAR, 1);
+        Date d3 = cal.getTime();
+        assertEquals(model.getSize(), 0);
+        model.addData(d1, "1");
+        model.addData(d2, "2");
+        model.addData(d3, "3");
+        model.clear();
+        assertEquals(model.getSize(), 0);
+    }
+
+    public void testGetData() {
+        Calendar cal = new GregorianCalendar();
+        Date d1 = cal.getTime();
+        cal.add(Calendar.MONTH, 1);
+        Date d2 = cal.getTime();
+        cal.add(Calendar.DAY_OF_YEAR, 1);
+        Date d3 = cal.getTime();
+        assertEquals(model.getSize(), 0);
+        model.addData(d1, "Dia 1");
+        assertEquals(model.getSize(), 1);
+        model.addData(d2, "Dia 2");
+        assertEquals(model.getSize(), 2);
+        model.addData(d3, "Dia 3");
+        assertEquals(model.getSize(), 3);
+        String s1 = (String) model.getData(d1);
+        String s2 = (String) model.getData(d2);
+        String s3 = (String) model.getData(d3);
+        
+        assertEquals("Dia 1", s1);
+        assertEquals("Dia 2", s2);
+        assertEquals("Dia 3", s3);
+    }
+
+    public void testReplaceAll() {
+        Calendar cal = new GregorianCalendar();
+        Date d1 = cal.getTime();
+        cal.add(Calendar.MONTH, 1);
+        Date d2 = cal.getTime();
+        cal.add(Calendar.DAY_OF_YEAR, 1);
+        Date d3 = cal.getTime();
+        model.addData(d1, "1");
+        model.addData(d2, "2");
+        final List events = new ArrayList();
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                events.add(evt.getDate());
+            }
+        });
+        Map values = new HashMap();
+        values.put(d1, "1");
+        values.put(d2, "two");
+        values.put(d3, "3");
+        model.replaceAll(values);
+        assertEquals(events.size(), 2);
+        assertEquals(d2, events.get(0));
+        assertEquals(d3, events.get(1));
+        assertEquals("two", model.getData(d2));
+        assertEquals(model.getSize(), 3);
+        events.clear();
+        model.clear();
+        assertEquals(events.size(), 3);
+        assertNull(model.getData(d1));
+    }
+
+    public void testReplaceAllSameDay() {
+        final Date morning = new GregorianCalendar(2024, Calendar.MAY, 2, 9, 0).getTime();
+        final Date evening = new GregorianCalendar(2024, Calendar.MAY, 2, 18, 30).getTime();
+        model.addData(morning, "1");
+        final List events = new ArrayList();
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                events.add(evt.getDate());
+            }
+        });
+        Map values = new HashMap();
+        values.put(evening, "1");
+        model.replaceAll(values);
+        assertEquals(0, events.size());
+        assertEquals("1", model.getData(morning));
+        values.put(evening, "2");
+        model.replaceAll(values);
+        assertEquals(1, events.size());
+        assertEquals(evening, events.get(0));
+    }
+
+    public void testReplaceTasks() {
+        final TaskDataModel tasks = new TaskDataModel();
+        final DefaultTask a = task(2, 9, "a");
+        final DefaultTask b = task(2, 10, "b");
+        final DefaultTask c = task(5, 9, "c");
+        List list = new ArrayList();
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        tasks.replaceTasks(list);
+        final List events = new ArrayList();
+        tasks.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                events.add(evt.getDate());
+            }
+        });
+
+        // the same instances, reloaded: nothing changed
+        tasks.replaceTasks(list);
+        assertEquals(0, events.size());
+
+        // a renamed task changes its day only
+        list = new ArrayList();
+        list.add(a);
+        list.add(task(2, 10, "renamed"));
+        list.add(c);
+        tasks.replaceTasks(list);
+        assertEquals(1, events.size());
+        assertEquals(2, tasks.getTasks(a.getDate()).size());
+
+        // removing a day and a task
+        events.clear();
+        list = new ArrayList();
+        list.add(a);
+        tasks.replaceTasks(list);
+        assertEquals(2, events.size());
+        assertEquals(1, tasks.getTasks(a.getDate()).size());
+        assertNull(tasks.getTasks(c.getDate()));
+
+        // removeTask removes that instance, not an equal one
+        final DefaultTask twin = task(2, 9, "a");
+        tasks.addTask(twin);
+        tasks.removeTask(twin);
+        assertSame(a, tasks.getTasks(a.getDate()).iterator().next());
+    }
+
+    public void testListenersReadAddedData() {
+        final Date date = new GregorianCalendar(2024, Calendar.MAY, 2).getTime();
+        // the month is cached before the data is added
+        assertNull(model.getData(date));
+        final List seen = new ArrayList();
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                seen.add(model.getData(evt.getDate()));
+            }
+        });
+        model.addData(date, "x");
+        assertEquals(1, seen.size());
+        assertEquals("x", seen.get(0));
+    }
+
+    public void testAddTaskNotifies() {
+        final TaskDataModel tasks = new TaskDataModel();
+        final List sizes = new ArrayList();
+        tasks.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                sizes.add(Integer.valueOf(tasks.getTasks(evt.getDate()).size()));
+            }
+        });
+        tasks.addTask(task(2, 9, "a"));
+        tasks.addTask(task(2, 10, "b"));
+        assertEquals(2, sizes.size());
+        assertEquals(Integer.valueOf(1), sizes.get(0));
+        assertEquals(Integer.valueOf(2), sizes.get(1));
+    }
+
+    public void testRemoveTaskNotifies() {
+        final TaskDataModel tasks = new TaskDataModel();
+        final DefaultTask a = task(2, 9, "a");
+        final DefaultTask b = task(2, 10, "b");
+        tasks.addTask(a);
+        tasks.addTask(b);
+        final List events = new ArrayList();
+        tasks.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                events.add(evt.getDate());
+            }
+        });
+
+        // a task that is not in the model changes nothing
+        tasks.removeTask(task(2, 11, "c"));
+        assertEquals(0, events.size());
+
+        // the day keeps a task
+        tasks.removeTask(b);
+        assertEquals(1, events.size());
+        assertEquals(1, tasks.getTasks(a.getDate()).size());
+
+        // the day is emptied
+        tasks.removeTask(a);
+        assertEquals(2, events.size());
+        assertNull(tasks.getTasks(a.getDate()));
+    }
+
+    public void testReloadEqualTasks() {
+        final TaskDataModel tasks = new TaskDataModel();
+        tasks.replaceTasks(reload());
+        final List events = new ArrayList();
+        tasks.addDataModelListener(new DataModelListener() {
+            public void dataChanged(DataChangeEvent evt) {
+                events.add(evt.getDate());
+            }
+        });
+
+        // a refresh builds new instances with the same values
+        final List fresh = reload();
+        tasks.replaceTasks(fresh);
+        assertEquals(0, events.size());
+        assertSame(fresh.get(0), tasks.getTasks(((DefaultTask) fresh.get(0)).getDate()).iterator().next());
+
+        // moving a task within its day is a change
+        final List moved = reload();
+        ((DefaultTask) moved.get(1)).setDate(new GregorianCalendar(2024, Calendar.MAY, 2, 11, 0).getTime());
+        tasks.replaceTasks(moved);
+        assertEquals(1, events.size());
+    }
+
+    private static List reload() {
+        final List retorno = new ArrayList();
+        retorno.add(task(2, 9, "a"));
+        retorno.add(task(2, 10, "b"));
+        retorno.add(task(5, 9, "c"));
+        return retorno;
+    }
+
+    private static DefaultTask task(final int day, final int hour, final String name) {
+        final DefaultTask retorno = new DefaultTask();
+        retorno.setDate(new GregorianCalendar(2024, Calendar.MAY, day, hour, 0).getTime());
+        retorno.setName(name);
+        return retorno;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * IntDataModelTest.java
+ */
+package net.sf.nachocalendar.model;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.MonthLayout;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class IntDataModelTest extends TestCase {
+
+    public void testValues() {
+        final IntDataModel model = new IntDataModel();
+        final Date date = new GregorianCalendar(2024, Calendar.DECEMBER, 31, 15, 0).getTime();
+        assertEquals(0, model.getInt(date));
+        assertNull(model.getData(date));
+        model.setInt(date, 5);
+        model.add(date, 2);
+        assertEquals(7, model.getInt(date));
+        assertEquals(Integer.valueOf(7), model.getData(new GregorianCalendar(2024, Calendar.DECEMBER, 31).getTime()));
+        model.setInt(MonthLayout.epochDay(2023, Calendar.JANUARY, 1), 0);
+        assertTrue(model.hasValue(MonthLayout.epochDay(2023, Calendar.JANUARY, 1)));
+        assertFalse(model.hasValue(MonthLayout.epochDay(2025, Calendar.JANUARY, 1)));
+        assertEquals(2, model.getSize());
+        model.removeValue(date);
+        assertFalse(model.hasValue(date));
+        assertEquals(1, model.getSize());
+    }
+
+    public void testAggregates() {
+        final IntDataModel model = new IntDataModel();
+        final long first = MonthLayout.epochDay(2024, Calendar.FEBRUARY, 1);
+        for (int i = 0; i < 29; i++) {
+            model.setInt(first + i, i + 1);
+        }
+        model.setInt(first - 1, 100);
+        model.setInt(first + 29, 1000);
+        assertEquals(29 * 30 / 2, model.sumOfMonth(2024, Calendar.FEBRUARY));
+        assertEquals(29, model.maxOfMonth(2024, Calendar.FEBRUARY));
+        assertEquals(1, model.min(first, first + 28));
+        assertEquals(100 + 29 * 30 / 2 + 1000, model.sum(first - 1, first + 29));
+        assertEquals(Integer.MIN_VALUE, model.max(first + 400, first + 500));
+        // a range across years
+        model.setInt(MonthLayout.epochDay(2025, Calendar.JANUARY, 1), 7);
+        assertEquals(1007, model.sum(MonthLayout.epochDay(2024, Calendar.MARCH, 1), MonthLayout.epochDay(2025, Calendar.DECEMBER, 31)));
+    }
+
+    public void testMinMax() {
+        final IntDataModel model = new IntDataModel();
+        assertTrue(Double.isNaN(model.getMaximumValue()));
+        model.setInt(10, 3);
+        model.setInt(11, 9);
+        model.setInt(12, -2);
+        assertEquals(9, model.getMaximum());
+        assertEquals(-2, model.getMinimum());
+        model.setInt(11, 4);
+        assertEquals(4, model.getMaximum());
+        model.removeValue(12);
+        assertEquals(3, model.getMinimum());
+        model.clear();
+        assertEquals(0, model.getSize());
+        assertEquals(Integer.MIN_VALUE, model.getMaximum());
+    }
+
+    public void testSelection() {
+        final IntDataModel model = new IntDataModel();
+        final Date from = new GregorianCalendar(2024, Calendar.MARCH, 4).getTime();
+        final Date to = new GregorianCalendar(2024, Calendar.MARCH, 8).getTime();
+        model.setInt(new GregorianCalendar(2024, Calendar.MARCH, 5).getTime(), 2);
+        model.setInt(new GregorianCalendar(2024, Calendar.MARCH, 8).getTime(), 3);
+        model.setInt(new GregorianCalendar(2024, Calendar.MARCH, 9).getTime(), 50);
+        final DefaultDateSelectionModel selection = new DefaultDateSelectionModel();
+        selection.setSelectionMode(DateSelectionModel.SINGLE_INTERVAL_SELECTION);
+        selection.addSelectionInterval(from, to);
+        assertEquals(5, model.sum(selection));
+        assertEquals(3, model.max(selection));
+    }
+
+    public void testEvents() {
+        final IntDataModel model = new IntDataModel();
+        final int[] fired = new int[1];
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(final DataChangeEvent e) {
+                fired[0]++;
+            }
+        });
+        model.setInt(5, 1);
+        model.setInt(5, 1);
+        model.setInt(5, 2);
+        model.removeValue(5);
+        assertEquals(3, fired[0]);
+    }
+
+    public void testDoubles() {
+        final DoubleDataModel model = new DoubleDataModel();
+        model.setDouble(100, 1.5);
+        model.setDouble(101, -2.25);
+        model.add(100, 1);
+        assertEquals(2.5, model.getDouble(100), 0);
+        assertEquals(0.25, model.sum(99, 102), 0);
+        assertEquals(2.5, model.max(99, 102), 0);
+        assertEquals(-2.25, model.getMinimumValue(), 0);
+        assertTrue(Double.isNaN(model.max(0, 10)));
+        assertEquals(Double.valueOf(-2.25), model.getData(101L));
+    }
+}
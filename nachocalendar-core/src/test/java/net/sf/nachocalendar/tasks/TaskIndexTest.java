@@ -0,0 +1,139 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Project: NachoCalendar
+ *
+ * TaskIndexTest.java
+ */
+package net.sf.nachocalendar.tasks;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import junit.framework.TestCase;
+import net.sf.nachocalendar.components.CalendarUtils;
+import net.sf.nachocalendar.event.DataChangeEvent;
+import net.sf.nachocalendar.event.DataModelListener;
+
+/**
+ * @author Ignacio Merani
+ *
+ *
+ */
+public class TaskIndexTest extends TestCase {
+
+    private static Date date(final int day, final int hour) {
+        return new GregorianCalendar(2024, Calendar.MARCH, day, hour, 0).getTime();
+    }
+
+    private static Task task(final int day, final String name) {
+        final DefaultTask retorno = new DefaultTask();
+        retorno.setDate(date(day, 10));
+        retorno.setName(name);
+        return retorno;
+    }
+
+    public void testRows() {
+        final TaskDataModel model = new TaskDataModel();
+        final Collection tasks = new ArrayList();
+        tasks.add(task(20, "c"));
+        tasks.add(task(5, "a"));
+        tasks.add(task(20, "d"));
+        tasks.add(task(10, "b"));
+        model.replaceTasks(tasks);
+
+        final TaskIndex index = new TaskIndex(model);
+        assertEquals(3, index.getDayCount());
+        assertEquals(4, index.getTaskCount());
+        assertEquals(7, index.getRowCount());
+        assertTrue(index.isHeader(0));
+        assertEquals("a", index.getTask(1).getName());
+        assertTrue(index.isHeader(2));
+        assertEquals("b", index.getTask(3).getName());
+        assertTrue(index.isHeader(4));
+        assertEquals("d", index.getTask(6).getName());
+        assertNull(index.getTask(7));
+        assertEquals(-1, index.indexOfRow(7));
+        assertEquals(CalendarUtils.toEpochDay(date(10, 0)), index.getDayOfRow(3));
+
+        // the first day with tasks on or after a day
+        assertEquals(2, index.rowOfDay(CalendarUtils.toEpochDay(date(6, 0))));
+        assertEquals(4, index.rowOfDay(CalendarUtils.toEpochDay(date(20, 0))));
+        assertEquals(7, index.rowOfDay(CalendarUtils.toEpochDay(date(21, 0))));
+    }
+
+    public void testUpdate() {
+        final TaskDataModel model = new TaskDataModel();
+        model.addTask(task(10, "b"));
+        final TaskIndex index = new TaskIndex(model);
+        final int[] events = new int[1];
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(final DataChangeEvent e) {
+                events[0]++;
+                index.update(e.getDate());
+            }
+        });
+
+        model.addTask(task(5, "a"));
+        assertEquals(1, events[0]);
+        assertEquals(4, index.getRowCount());
+        assertEquals("a", index.getTask(1).getName());
+        assertEquals("b", index.getTask(3).getName());
+
+        // a second task of a day is notified too
+        final Task other = task(5, "a2");
+        model.addTask(other);
+        assertEquals(2, events[0]);
+        assertEquals(5, index.getRowCount());
+        assertEquals("a2", index.getTask(2).getName());
+        assertEquals(3, index.getHeaderRow(1));
+
+        model.removeTask(other);
+        model.removeTask(other);
+        assertEquals(3, events[0]);
+        assertEquals(4, index.getRowCount());
+
+        model.removeTask(index.getTask(1));
+        assertEquals(1, index.getDayCount());
+        assertEquals(2, index.getRowCount());
+        assertEquals("b", index.getTask(1).getName());
+    }
+
+    public void testUpdateReadsEveryKeyOfTheDay() {
+        final TaskDataModel model = new TaskDataModel();
+        final TaskIndex index = new TaskIndex(model);
+        model.addDataModelListener(new DataModelListener() {
+            public void dataChanged(final DataChangeEvent e) {
+                index.update(e.getDate());
+            }
+        });
+        final Collection late = new ArrayList();
+        late.add(task(5, "late"));
+        model.addData(date(5, 18), late);
+        final Collection early = new ArrayList();
+        early.add(task(5, "early1"));
+        early.add(task(5, "early2"));
+        model.addData(date(5, 8), early);
+
+        assertEquals(1, index.getDayCount());
+        assertEquals(3, index.getTaskCount());
+        assertEquals("early1", index.getTask(1).getName());
+        assertEquals("early2", index.getTask(2).getName());
+        assertEquals("late", index.getTask(3).getName());
+
+        // the same rows as a rebuild
+        final TaskIndex rebuilt = new TaskIndex(model);
+        assertEquals(rebuilt.getRowCount(), index.getRowCount());
+        for (int row = 0; row < index.getRowCount(); row++) {
+            assertSame(rebuilt.getTask(row), index.getTask(row));
+        }
+
+        // one key of the day gone leaves the other
+        model.removeData(date(5, 8));
+        assertEquals(1, index.getTaskCount());
+        assertEquals("late", index.getTask(1).getName());
+    }
+}
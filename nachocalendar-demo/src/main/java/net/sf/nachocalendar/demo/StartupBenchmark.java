@@ -0,0 +1,112 @@
+/*
+ *  NachoCalendar
+ *
+ * Project Info:  http://nachocalendar.sf.net
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * Changes
+ * -------
+ *
+ * StartupBenchmark.java
+ *
+ * Created on October 19, 2026
+ */
+
+package net.sf.nachocalendar.demo;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import net.sf.nachocalendar.components.CalendarPanel;
+
+/**
+ * Measures the time from the CalendarPanel constructor to its first paint,
+ * eager and lazy. The panel is painted into an image, so it also runs
+ * headless. Eternal scroll is off, its prefetcher would compute months in
+ * the background while measuring. Usage: StartupBenchmark [runs]
+ *
+ * @author  Ignacio Merani
+ */
+public final class StartupBenchmark {
+    private static final int[] QUANTITIES = { 1, 3, 12 };
+    private static final int WARMUP = 20;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                System.out.println("months  mode   constructor  first paint  (median ms of " + runs + ")");
+                for (int i = 0; i < QUANTITIES.length; i++) {
+                    report(QUANTITIES[i], false, runs);
+                    report(QUANTITIES[i], true, runs);
+                }
+            }
+        });
+    }
+
+    private static void report(final int quantity, final boolean lazy, final int runs) {
+        for (int i = 0; i < WARMUP; i++) {
+            measure(quantity, lazy, new long[2]);
+        }
+        final long[] constructor = new long[runs];
+        final long[] paint = new long[runs];
+        final long[] times = new long[2];
+        for (int i = 0; i < runs; i++) {
+            measure(quantity, lazy, times);
+            constructor[i] = times[0];
+            paint[i] = times[1];
+        }
+        System.out.println(String.format("%6d  %-5s  %11.2f  %11.2f", quantity, lazy ? "lazy" : "eager", median(constructor), median(paint)));
+    }
+
+    private static void measure(final int quantity, final boolean lazy, final long[] times) {
+        final long start = System.nanoTime();
+        final CalendarPanel panel = new CalendarPanel(quantity, CalendarPanel.VERTICAL, true, false, lazy);
+        times[0] = System.nanoTime() - start;
+
+        // the root is made displayable without a window, as a frame would do
+        final JPanel root = new JPanel(new BorderLayout());
+        root.add(panel);
+        root.addNotify();
+        final Dimension size = root.getPreferredSize();
+        root.setSize(size);
+        root.validate();
+        final BufferedImage image = new BufferedImage(Math.max(1, size.width), Math.max(1, size.height), BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = image.createGraphics();
+        root.paint(g);
+        g.dispose();
+        times[1] = System.nanoTime() - start;
+
+        root.removeNotify();
+        panel.dispose();
+    }
+
+    private static double median(final long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
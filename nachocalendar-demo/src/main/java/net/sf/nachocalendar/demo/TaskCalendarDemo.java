@@ -48,6 +48,7 @@ import javax.swing.DefaultListModel;
 import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
+import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.event.ChangeEvent;
@@ -58,6 +59,7 @@ import net.sf.nachocalendar.components.DateField;
 import net.sf.nachocalendar.components.DatePanel;
 import net.sf.nachocalendar.tasks.DefaultTask;
 import net.sf.nachocalendar.tasks.Task;
+import net.sf.nachocalendar.tasks.TaskAgenda;
 import net.sf.nachocalendar.tasks.TaskCalendarFactory;
 import net.sf.nachocalendar.tasks.TaskDataModel;
 import net.sf.nachocalendar.tasks.TaskQuantityRenderer;
@@ -76,6 +78,7 @@ public class TaskCalendarDemo extends JDialog {
     private boolean[] workingdays = {false, true, true, true, true, true, true};
     private String[] days;
     private DefaultListModel listamodel;
+    private TaskAgenda agenda;
     
     /** Creates new form HolidayCalendarDemo */
     public TaskCalendarDemo(JFrame parent, boolean modal) {
@@ -98,6 +101,9 @@ public class TaskCalendarDemo extends JDialog {
         lista.setModel(listmodel);
         model = (TaskDataModel) cp.getModel();
         getContentPane().add(cp, BorderLayout.WEST);
+        agenda = new TaskAgenda(model);
+        agenda.attach(cp);
+        getContentPane().add(new JScrollPane(agenda), BorderLayout.EAST);
         updateWorking();
         createListeners();
         pack();